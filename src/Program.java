@@ -1,3 +1,4 @@
+import java.util.LinkedList;
 import java.util.Scanner;
 
 import errorHandling.ReturnValueTypes;
@@ -40,6 +41,21 @@ public class Program {
 				System.out.println("HELP            Displays this overview of all possible inputs.");
 				System.out.println("EXIT            Terminates the execution of this application.");
 				System.out.println("CODE <file>     Loads and executes the Lisp source code from the respective file.");
+				System.out.println("                The following options can be put in front of the file name:");
+				System.out.println("                -cache          Stores the tokens of each file in <file>.tokens and reuses them");
+				System.out.println("                                on the next start, as long as the file is unchanged.");
+				System.out.println("                -cache=<dir>    Like -cache, but stores the cache files in the directory <dir>.");
+				System.out.println("                                <dir> is only used if it belongs to you and no one else can");
+				System.out.println("                                write to it. Otherwise -cache is used.");
+				System.out.println("                -engine=<name>  Selects how the program is executed:");
+				System.out.println("                                tree      Evaluates the program through recursive Java calls.");
+				System.out.println("                                          The call depth is limited by the Java stack (default).");
+				System.out.println("                                bytecode  Compiles the functions to bytecode and runs them in a");
+				System.out.println("                                          virtual machine.");
+				System.out.println("                                stack     Evaluates the program on its own stack, so that deep");
+				System.out.println("                                          recursion does not overflow the Java stack.");
+				System.out.println("                -depth=<n>      Sets the maximum call depth of the bytecode and stack engines");
+				System.out.println("                                (default: " + Controller.DEFAULT_MAX_CALL_DEPTH + ").");
 				System.out.println();
 			}
 			
@@ -55,9 +71,27 @@ public class Program {
 					System.out.println("Error: Cannot differentiate between command and file name.\n");
 					continue;
 				}
-				String sFilename = sInput.substring(sInput.indexOf(' ') + 1, sInput.length());
+				String sArguments = sInput.substring(sInput.indexOf(' ') + 1, sInput.length()); //Speichert die Optionen und den Dateinamen.
+				LinkedList<String> lsOptions = new LinkedList<String>(); //Speichert die Optionen vor dem Dateinamen.
+				while (sArguments.startsWith("-") && sArguments.indexOf(' ') != -1) {
+					lsOptions.add(sArguments.substring(0, sArguments.indexOf(' ')));
+					sArguments = sArguments.substring(sArguments.indexOf(' ') + 1, sArguments.length());
+				}
+				String sFilename = sArguments;
 				//Quellcode ueber den Controller ausfueheren:
 				Controller controllerObj = new Controller(sFilename);
+				String sIncorrectOption = null; //Speichert die erste fehlerhafte Option.
+				for (String sOption : lsOptions) {
+					if (!applyOption(controllerObj, sOption)) {
+						sIncorrectOption = sOption;
+						break;
+					}
+				}
+				if (sIncorrectOption != null) {
+					//Die Option ist unbekannt oder fehlerhaft angegeben:
+					System.out.println("Error: The option \"" + sIncorrectOption + "\" is incorrect.\n");
+					continue;
+				}
 				int nReturnValue = controllerObj.startController();
 				System.out.println("\n");
 				if (nReturnValue != ReturnValueTypes.SUCCESS) {
@@ -74,6 +108,59 @@ public class Program {
 	
 	
 	
+	/**
+	 * Diese Methode uebernimmt eine Option des Befehls "CODE" in die Einstellungen des Controllers.
+	 * 
+	 * @param pControllerObj	Controller, welcher den Quellcode ausfuehren soll.
+	 * @param psOption			Option (z.B. "-cache").
+	 * @return					Gibt an, ob die Option korrekt ist.
+	 */
+	private static boolean applyOption(Controller pControllerObj, String psOption) {
+		String sLowerCaseOption = psOption.toLowerCase(); //Speichert die Option ohne Grossbuchstaben.
+		
+		if (sLowerCaseOption.equals("-cache")) {
+			//Die Cache-Dateien werden neben den Quellcode-Dateien abgelegt:
+			pControllerObj.setTokenCache(true, null);
+			return true;
+		}
+		else if (sLowerCaseOption.startsWith("-cache=") && psOption.length() > 7) {
+			//Die Cache-Dateien werden im angegebenen Verzeichnis abgelegt:
+			pControllerObj.setTokenCache(true, psOption.substring(7));
+			return true;
+		}
+		else if (sLowerCaseOption.equals("-engine=bytecode")) {
+			//Die Funktionen werden in Bytecode uebersetzt und von der VirtualMachine ausgefuehrt:
+			pControllerObj.setEvaluator(Controller.EVALUATOR_BYTECODE);
+			return true;
+		}
+		else if (sLowerCaseOption.equals("-engine=tree")) {
+			//Das Programm wird ueber rekursive Methodenaufrufe ausgewertet:
+			pControllerObj.setEvaluator(Controller.EVALUATOR_TREE);
+			return true;
+		}
+		else if (sLowerCaseOption.equals("-engine=stack")) {
+			//Das Programm wird ueber einen eigenen Stapel im Heap ausgewertet:
+			pControllerObj.setEvaluator(Controller.EVALUATOR_STACK);
+			return true;
+		}
+		else if (sLowerCaseOption.startsWith("-depth=")) {
+			//Die maximale Tiefe der Funktionsaufrufe wird festgelegt:
+			try {
+				int nMaxCallDepth = Integer.parseInt(psOption.substring(7));
+				if (nMaxCallDepth <= 0) {
+					return false;
+				}
+				pControllerObj.setMaxCallDepth(nMaxCallDepth);
+				return true;
+			}
+			catch (NumberFormatException exceptionObj) {
+				//Es handelt sich um keine Zahl:
+				return false;
+			}
+		}
+		return false;
+	}
+	
 	/**
 	 * Diese Methode gibt Fehlermeldungen in der Konsole aus.
 	 * 
@@ -154,6 +241,9 @@ public class Program {
 		else if (pnErrorMessage == ReturnValueTypes.ERROR_FUNCTION_NAME_IS_IDENTICAL) {
 			System.out.println("Multiple functions are defined with the same name");
 		}
+		else if (pnErrorMessage == ReturnValueTypes.ERROR_IMPORT_CYCLE) {
+			System.out.print("Import cycle: a file imports itself through other files");
+		}
 		else {
 			System.out.print("unknwon error occured. Error message: " + pnErrorMessage);
 		}
@@ -0,0 +1,47 @@
+package errorHandling;
+
+
+
+/**
+ * Diese Ausnahme wird beim Ausfuehren eines Programms geworfen, wenn ein Fehler auftritt. Sie enthaelt die
+ * Fehlermeldung (siehe ReturnValueTypes), welche bisher ueber ein Objekt der Klasse "ReturnValue" zurueckgegeben
+ * wurde. Dadurch koennen die Methoden des Interpreters ihre Ergebnisse direkt zurueckgeben, ohne fuer jeden
+ * Schritt ein ReturnValue-Objekt zu erzeugen.
+ * Da ein Fehler das Programm beendet, wird beim Erzeugen der Ausnahme kein Stacktrace erfasst.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+public class InterpreterException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+	
+	
+	
+	/**
+	 * Speichert die Fehlermeldung.
+	 */
+	private int nErrorCode;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "InterpreterException".
+	 * 
+	 * @param pnErrorCode	Fehlermeldung (siehe ReturnValueTypes).
+	 */
+	public InterpreterException(int pnErrorCode) {
+		super(null, null, false, false);
+		nErrorCode = pnErrorCode;
+	}
+	
+	
+	
+	/**
+	 * Gibt die Fehlermeldung zurueck.
+	 * 
+	 * @return	Fehlermeldung (siehe ReturnValueTypes).
+	 */
+	public int getErrorCode() {
+		return nErrorCode;
+	}
+}
@@ -165,4 +165,9 @@ public class ReturnValueTypes {
 	 * Speichert die Fehlermeldung fuer import-Schluesselwoerter, die einen StackOverflow erzeugen.
 	 */
 	public static int ERROR_IMPORT_STACK_OVERFLOW = 26;
+	
+	/**
+	 * Speichert die Fehlermeldung fuer eine Datei, welche sich (ueber andere Dateien) selbst importiert.
+	 */
+	public static int ERROR_IMPORT_CYCLE = 27;
 }
@@ -0,0 +1,156 @@
+package fileScanner;
+import java.io.IOException;
+import java.io.Reader;
+
+import errorHandling.*;
+
+
+
+/**
+ * Die Klasse "ExpressionReader" liest die Lisp-Ausdruecke einer Quellcode-Datei nacheinander aus einem Reader.
+ * Im Gegensatz zu FileScanner.splitExpressions() wird dabei nie der gesamte Quellcode, sondern lediglich ein
+ * Puffer mit fester Groesse sowie der aktuelle Ausdruck im Speicher gehalten. Die Ausdruecke werden nach denselben
+ * Regeln unterteilt. Kommentare werden dabei entfernt, Tabulatoren und Zeilenumbrueche dagegen (wie bei
+ * FileScanner.splitExpressions()) uebernommen und erst vom Tokenizer uebersprungen.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+public class ExpressionReader {
+	/**
+	 * Speichert die Groesse des Puffers in Zeichen.
+	 */
+	public static final int BUFFER_SIZE = 64 * 1024;
+	
+	
+	
+	/**
+	 * Speichert den Reader, aus welchem der Quellcode gelesen wird.
+	 */
+	private Reader readerObj;
+	
+	/**
+	 * Speichert die zuletzt gelesenen Zeichen.
+	 */
+	private char[] chBuffer;
+	
+	/**
+	 * Speichert die Anzahl an gueltigen Zeichen im Puffer.
+	 */
+	private int nBufferLength;
+	
+	/**
+	 * Speichert die Position des naechsten Zeichens im Puffer.
+	 */
+	private int nBufferPosition;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "ExpressionReader".
+	 * 
+	 * @param pReaderObj	Reader, aus welchem der Quellcode gelesen wird.
+	 */
+	public ExpressionReader(Reader pReaderObj) {
+		readerObj = pReaderObj;
+		chBuffer = new char[BUFFER_SIZE];
+		nBufferLength = 0;
+		nBufferPosition = 0;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode gibt das naechste Zeichen im Quellcode zurueck.
+	 * 
+	 * @return	Naechstes Zeichen, oder -1, wenn das Ende des Quellcodes erreicht wurde.
+	 * @throws IOException	Der Quellcode kann nicht gelesen werden.
+	 */
+	private int read() throws IOException {
+		if (nBufferPosition == nBufferLength) {
+			//Puffer neu fuellen:
+			nBufferLength = readerObj.read(chBuffer, 0, chBuffer.length);
+			nBufferPosition = 0;
+			if (nBufferLength <= 0) {
+				nBufferLength = 0;
+				return -1;
+			}
+		}
+		return chBuffer[nBufferPosition++];
+	}
+	
+	/**
+	 * Diese Methode gibt das naechste Zeichen im Quellcode zurueck, ohne dieses zu lesen.
+	 * 
+	 * @return	Naechstes Zeichen, oder -1, wenn das Ende des Quellcodes erreicht wurde.
+	 * @throws IOException	Der Quellcode kann nicht gelesen werden.
+	 */
+	private int peek() throws IOException {
+		int nCharacter = read();
+		if (nCharacter != -1) {
+			nBufferPosition--;
+		}
+		return nCharacter;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode liest den naechsten Lisp-Ausdruck.
+	 * 
+	 * @return	Naechster Ausdruck, oder null, wenn alle Ausdruecke gelesen wurden. Befinden sich nach dem letzten
+	 * 			Ausdruck noch Zeichen im Quellcode, so wird ERROR_SYNTAX zurueckgegeben.
+	 */
+	public ReturnValue<String> readExpression() {
+		StringBuilder expressionBuilderObj = new StringBuilder(); //Speichert den aktuellen Ausdruck.
+		boolean bExpressionStarted = false; //Gibt an, ob bereits ein Zeichen des Ausdrucks gefunden wurde.
+		int nBracketsClosed = 0; //Speichert die Anzahl an geschlossenen Klammern.
+		int nBracketsOpened = 0; //Speichert die Anzahl an geoeffneten Klammern.
+		
+		try {
+			int nCharacter;
+			while ((nCharacter = read()) != -1) {
+				char chCurrentCharacter = (char)nCharacter; //Speichert das aktuelle Zeichen im Quellcode.
+				if (chCurrentCharacter == '\t' || chCurrentCharacter == '\r') {
+					//Tabulatoren beginnen keinen Ausdruck:
+					if (bExpressionStarted) {
+						expressionBuilderObj.append(chCurrentCharacter);
+					}
+					continue;
+				}
+				else if (chCurrentCharacter == ';') {
+					//Es wurde ein Kommentar gefunden -> Kommentar wird bis zum Zeilenumbruch uebersprungen:
+					while (peek() != -1 && peek() != '\n') {
+						read();
+					}
+					continue;
+				}
+				
+				bExpressionStarted = true;
+				if (chCurrentCharacter == '(') {
+					//Eine Klammer wurde geoeffnet:
+					nBracketsOpened++;
+				}
+				else if (chCurrentCharacter == ')') {
+					//Eine Klammer wurde geschlossen:
+					nBracketsClosed++;
+				}
+				expressionBuilderObj.append(chCurrentCharacter);
+				
+				if ((nBracketsOpened != 0 && nBracketsClosed != 0) && (nBracketsOpened == nBracketsClosed)) {
+					//Es wurden gleich viele Klammern geoeffnet und geschlossen:
+					return new ReturnValue<String>(expressionBuilderObj.toString(), ReturnValueTypes.SUCCESS);
+				}
+			}
+		}
+		catch (IOException e) {
+			return new ReturnValue<String>(null, ReturnValueTypes.ERROR_FILE_CANNOT_BE_READ);
+		}
+		
+		if (bExpressionStarted) {
+			//SYNTAXFEHLER: Es befinden sich noch Zeichen im String:
+			return new ReturnValue<String>(null, ReturnValueTypes.ERROR_SYNTAX);
+		}
+		return new ReturnValue<String>(null, ReturnValueTypes.SUCCESS);
+	}
+}
@@ -0,0 +1,137 @@
+package fileScanner;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedList;
+
+import errorHandling.*;
+import tokenizer.*;
+
+
+
+/**
+ * Ein Objekt dieser Klasse gibt die Tokens der Lisp-Ausdruecke einer Quellcode-Datei nacheinander zurueck.
+ * Bei gewoehnlichen Dateien liegen die Tokens bereits vollstaendig vor (siehe TokenCache). Bei sehr grossen
+ * Dateien wird dagegen erst beim Abrufen des naechsten Ausdrucks weitergelesen (siehe ExpressionReader) und
+ * dieser sofort zerlegt, sodass immer nur der aktuelle Ausdruck im Speicher gehalten wird.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+public class ExpressionStream {
+	/**
+	 * Speichert die Tokens der noch nicht abgerufenen Ausdruecke, oder null, wenn die Datei gestreamt wird.
+	 */
+	private LinkedList<TokenBuffer> lExpressionsObj;
+	
+	/**
+	 * Speichert den Namen der Datei, welche gestreamt wird.
+	 */
+	private String sFileName;
+	
+	/**
+	 * Speichert den Reader der gestreamten Datei, sobald diese geoeffnet wurde.
+	 */
+	private Reader readerObj;
+	
+	/**
+	 * Speichert den ExpressionReader, ueber welchen die Ausdruecke der gestreamten Datei gelesen werden.
+	 */
+	private ExpressionReader expressionReaderObj;
+	
+	/**
+	 * Speichert den Tokenizer, mit welchem die Ausdruecke der gestreamten Datei zerlegt werden.
+	 */
+	private Tokenizer tokenizerObj;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "ExpressionStream" fuer bereits zerlegte Ausdruecke.
+	 * 
+	 * @param plExpressionsObj	Liste mit den Tokens jedes Lisp-Ausdrucks.
+	 */
+	public ExpressionStream(LinkedList<TokenBuffer> plExpressionsObj) {
+		lExpressionsObj = plExpressionsObj;
+	}
+	
+	/**
+	 * Konstruktor der Klasse "ExpressionStream" fuer eine Datei, welche Ausdruck fuer Ausdruck gelesen wird.
+	 * Die Datei wird erst beim ersten Aufruf von next() geoeffnet.
+	 * 
+	 * @param psFileName	Der Pfad, der Name und die Endung der Quellcode-Datei.
+	 */
+	public ExpressionStream(String psFileName) {
+		sFileName = psFileName;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode gibt die Tokens des naechsten Lisp-Ausdrucks zurueck.
+	 * 
+	 * @return	Tokens des naechsten Ausdrucks, oder null, wenn alle Ausdruecke abgerufen wurden.
+	 */
+	public ReturnValue<TokenBuffer> next() {
+		if (lExpressionsObj != null) {
+			//Die Ausdruecke liegen bereits vor:
+			return new ReturnValue<TokenBuffer>(lExpressionsObj.poll(), ReturnValueTypes.SUCCESS);
+		}
+		
+		if (expressionReaderObj == null) {
+			//Die Datei wird beim ersten Aufruf geoeffnet:
+			if (sFileName == null) {
+				//Die Datei wurde bereits vollstaendig gelesen:
+				return new ReturnValue<TokenBuffer>(null, ReturnValueTypes.SUCCESS);
+			}
+			try {
+				readerObj = new InputStreamReader(Files.newInputStream(Paths.get(sFileName)), StandardCharsets.UTF_8.newDecoder());
+			}
+			catch (IOException e) {
+				sFileName = null;
+				return new ReturnValue<TokenBuffer>(null, ReturnValueTypes.ERROR_FILE_CANNOT_BE_READ);
+			}
+			expressionReaderObj = new ExpressionReader(readerObj);
+			tokenizerObj = new Tokenizer();
+		}
+		
+		ReturnValue<String> expressionObj = expressionReaderObj.readExpression();
+		if (expressionObj.getExecutionInformation() != ReturnValueTypes.SUCCESS || expressionObj.getReturnValue() == null) {
+			//Alle Ausdruecke wurden gelesen (oder es kam zu einem Fehler):
+			close();
+			return new ReturnValue<TokenBuffer>(null, expressionObj.getExecutionInformation());
+		}
+		return new ReturnValue<TokenBuffer>(tokenizerObj.tokenize(expressionObj.getReturnValue()), ReturnValueTypes.SUCCESS);
+	}
+	
+	/**
+	 * Diese Methode gibt die Tokens aller noch nicht abgerufenen Ausdruecke zurueck, sofern diese bereits
+	 * vorliegen. Die Ausdruecke werden dabei nicht abgerufen.
+	 * 
+	 * @return	Liste mit den Tokens jedes Lisp-Ausdrucks, oder null, wenn die Datei gestreamt wird.
+	 */
+	public LinkedList<TokenBuffer> getExpressions() {
+		return lExpressionsObj;
+	}
+	
+	/**
+	 * Diese Methode schliesst die gestreamte Datei, falls diese noch geoeffnet ist.
+	 */
+	public void close() {
+		sFileName = null;
+		expressionReaderObj = null;
+		tokenizerObj = null;
+		if (readerObj != null) {
+			try {
+				readerObj.close();
+			}
+			catch (IOException e) {
+				//Die Datei wurde bereits vollstaendig gelesen.
+			}
+			readerObj = null;
+		}
+	}
+}
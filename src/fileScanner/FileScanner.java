@@ -1,5 +1,9 @@
 package fileScanner;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.io.File;
 import java.nio.file.Path;
@@ -18,58 +22,130 @@ import errorHandling.*;
  */
 public class FileScanner {
 	/**
-	 * Diese Methode laedt den Quellcode aus der Datei, wessen Dateiname als Parameter
-	 * psFileName uebergebn wurde. Der Inhalt wird dann als Liste an Strings zurueck-
-	 * gegeben, wobei jedes Element in der Liste einen Lisp-Ausdruck darstellt.
-	 * Wenn ein Fehler auftritt (z.B. wenn die Datei nicht vorhanden ist) wird eine leere
-	 * Liste zurueckgegeben und es wird eine Fehlermedlung in der Konsole angezeigt.
+	 * Speichert die Dateigroesse in Bytes, ab welcher die Ausdruecke einer Datei nacheinander ueber einen
+	 * ExpressionReader gelesen werden, anstatt die gesamte Datei im Speicher zu halten (siehe TokenCache).
+	 */
+	public static final long STREAMING_THRESHOLD = 64 * 1024 * 1024;
+	
+	/**
+	 * Gibt an, ob die Ausdruecke einer Datei auf mehreren Prozessorkernen gleichzeitig zerlegt (siehe TokenCache)
+	 * und die darin definierten Funktionen gleichzeitig in abstrakte Syntaxbaeume umgewandelt werden sollen.
+	 */
+	public static final boolean PARALLEL_FRONT_END = true;
+	
+	/**
+	 * Speichert die Anzahl an Ausdruecken, ab welcher eine Datei auf mehreren Prozessorkernen verarbeitet wird.
+	 * Bei kleineren Dateien ueberwiegt der Aufwand fuer die Verteilung.
+	 */
+	public static final int PARALLEL_THRESHOLD = 64;
+	
+	
+	
+	/**
+	 * Diese Methode gibt an, ob die angegebene Anzahl an Ausdruecken auf mehreren Prozessorkernen verarbeitet
+	 * werden soll. Mit nur einem Prozessorkern ist die Verteilung langsamer als die Verarbeitung nacheinander.
+	 * Alle gleichzeitigen Verarbeitungen des Quellcodes (siehe TokenCache und Controller) muessen ueber diese
+	 * Methode entschieden werden.
+	 * 
+	 * @param pnExpressionAmount	Anzahl an Ausdruecken.
+	 * @return						Gibt an, ob die Ausdruecke gleichzeitig verarbeitet werden sollen.
+	 */
+	public static boolean isParallel(int pnExpressionAmount) {
+		return PARALLEL_FRONT_END && pnExpressionAmount >= PARALLEL_THRESHOLD && Runtime.getRuntime().availableProcessors() >= 2;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode liest den unveraenderten Inhalt der angegebenen Datei als Bytes. Sehr grosse Dateien werden
+	 * nicht ueber diese Methode, sondern Ausdruck fuer Ausdruck gelesen (siehe STREAMING_THRESHOLD).
 	 * 
-	 * @param psFileName	Der Pfad, der Name und die Endung der Datei aus welcher der
-	 * 						Quellcode geladen werden soll.
-	 * @return				Listen an Lisp-Ausdruecken als Strings.
+	 * @param psFileName	Der Pfad, der Name und die Endung der Datei.
+	 * @return				Inhalt der Datei.
 	 */
-	public static ReturnValue<LinkedList<String>> readFile(String psFileName) {
+	public static ReturnValue<ByteBuffer> readContent(String psFileName) {
 		Path filePathObj = Paths.get(psFileName); //Speichert den Pfad der Datei.
 		
 		//Ueberpruefen ob die Datei korrekt geoeffnet werden kann:
+		int nFileState = checkFile(psFileName);
+		if (nFileState != ReturnValueTypes.SUCCESS) {
+			return new ReturnValue<ByteBuffer>(null, nFileState);
+		}
+		
+		//Inhalt aus der Datei lesen:
+		try {
+			return new ReturnValue<ByteBuffer>(ByteBuffer.wrap(Files.readAllBytes(filePathObj)), ReturnValueTypes.SUCCESS);
+		}
+		catch (IOException e){
+			return new ReturnValue<ByteBuffer>(null, ReturnValueTypes.ERROR_FILE_CANNOT_BE_READ);
+		}
+	}
+	
+	/**
+	 * Diese Methode ueberprueft, ob die angegebene Datei existiert und gelesen werden kann.
+	 * 
+	 * @param psFileName	Der Pfad, der Name und die Endung der Datei.
+	 * @return				Fehlermeldung.
+	 */
+	public static int checkFile(String psFileName) {
 		File fileObj = new File(psFileName);
 		if (!fileObj.exists()) {
 			//FEHLER: Die Datei existiert nicht:
-			return new ReturnValue<LinkedList<String>>(null, ReturnValueTypes.ERROR_FILE_DOES_NOT_EXIST);
+			return ReturnValueTypes.ERROR_FILE_DOES_NOT_EXIST;
 		}
 		else if (!fileObj.isFile()) {
 			//FEHLER: Es handelt sich nicht um eine Datei:
-			return new ReturnValue<LinkedList<String>>(null, ReturnValueTypes.ERROR_FILE_DOES_NOT_EXIST);
+			return ReturnValueTypes.ERROR_FILE_DOES_NOT_EXIST;
 		}
 		else if (!fileObj.canRead()) {
 			//FEHLER: Die Datei kann nicht gelesen werden:
-			return new ReturnValue<LinkedList<String>>(null, ReturnValueTypes.ERROR_FILE_CANNOT_BE_READ);
+			return ReturnValueTypes.ERROR_FILE_CANNOT_BE_READ;
 		}
-		
-		//Inhalt aus der Datei lesen:
-		String sFileContent = "";
+		return ReturnValueTypes.SUCCESS;
+	}
+	
+	/**
+	 * Diese Methode wandelt den Inhalt einer Datei (UTF-8) in Zeichen um.
+	 * 
+	 * @param pFileContentObj	Inhalt der Datei.
+	 * @return					Quellcode.
+	 */
+	public static ReturnValue<CharBuffer> decode(ByteBuffer pFileContentObj) {
 		try {
-			sFileContent = Files.readString(filePathObj);
+			return new ReturnValue<CharBuffer>(StandardCharsets.UTF_8.newDecoder().decode(pFileContentObj.duplicate()), ReturnValueTypes.SUCCESS);
 		}
-		catch (IOException e){
-			return new ReturnValue<LinkedList<String>>(null, ReturnValueTypes.ERROR_FILE_CANNOT_BE_READ);
+		catch (CharacterCodingException e) {
+			return new ReturnValue<CharBuffer>(null, ReturnValueTypes.ERROR_FILE_CANNOT_BE_READ);
 		}
-		
-		//Inhalt der Datei in einzelne Lisp-Ausdruecke unterteilen:
-		LinkedList<String> lsSourceCode = new LinkedList<String>(); //Speichert die einzelnen Ausdruecke.
-		String sCurrentExpression = ""; //Speichert den aktuellen Ausdruck.
+	}
+	
+	
+	
+	/**
+	 * Diese Methode unterteilt den Quellcode in einzelne Lisp-Ausdruecke. Der Quellcode wird dabei genau einmal
+	 * ueber einen Index durchlaufen. Jeder Ausdruck wird als Ausschnitt (CharBuffer.subSequence()) des Quellcodes
+	 * zurueckgegeben, welcher sich die Zeichen mit dem Quellcode teilt, sodass kein Ausdruck kopiert wird.
+	 * Tabulatoren, Zeilenumbrueche und Kommentare verbleiben im Ausschnitt und werden erst vom Tokenizer
+	 * uebersprungen.
+	 * 
+	 * @param pSourceCodeObj	Quellcode, welcher unterteilt werden soll.
+	 * @return					Liste an Lisp-Ausdruecken als Ausschnitte des Quellcodes.
+	 */
+	public static ReturnValue<LinkedList<CharBuffer>> splitExpressions(CharBuffer pSourceCodeObj) {
+		LinkedList<CharBuffer> lSourceCodeObj = new LinkedList<CharBuffer>(); //Speichert die einzelnen Ausdruecke.
+		int nExpressionStart = -1; //Speichert die Position, an welcher der aktuelle Ausdruck beginnt (-1, wenn noch kein Zeichen gefunden wurde).
 		int nBracketsClosed = 0; //Speichert die Anzahl an geschlossenen Klammern.
 		int nBracketsOpened = 0; //Speichert die Anzahl an geoeffneten Klammern.
-		
-		//Tabulatoren aus dem Quellcode entfernen, da diese den Tokenizer verwirren:
-		sFileContent = sFileContent.replaceAll("\t", "");
-		sFileContent = sFileContent.replaceAll("\r", "");
+		int nLength = pSourceCodeObj.length(); //Speichert die Laenge des Quellcodes.
 		
 		//Quellcode zeichenweise durchlaufen um diesen in Ausdruecke zu unterteilen:
-		while (!sFileContent.isEmpty()) {
-			char chCurrentCharacter = sFileContent.charAt(0); //Speichert das aktuelle Zeichen im Quellcode.
-			sFileContent = sFileContent.substring(1); //Erstes (aktuelles) Zeichen aus dem String entfernen.
-			if (chCurrentCharacter == '(') {
+		for (int i = 0; i < nLength; i++) {
+			char chCurrentCharacter = pSourceCodeObj.get(i); //Speichert das aktuelle Zeichen im Quellcode.
+			if (chCurrentCharacter == '\t' || chCurrentCharacter == '\r') {
+				//Tabulatoren werden vom Tokenizer uebersprungen und beginnen keinen Ausdruck:
+				continue;
+			}
+			else if (chCurrentCharacter == '(') {
 				//Eine Klammer wurde geoeffnet:
 				nBracketsOpened++;
 			}
@@ -77,31 +153,33 @@ public class FileScanner {
 				//Eine Klammer wurde geschlossen:
 				nBracketsClosed++;
 			}
-			
-			if (chCurrentCharacter == ';') {
-				//Es wurde ein Kommentar gefunden -> Kommentar wird entfernt:
-				while (!sFileContent.isEmpty() && sFileContent.charAt(0) != '\n') {
-					sFileContent = sFileContent.substring(1);
+			else if (chCurrentCharacter == ';') {
+				//Es wurde ein Kommentar gefunden -> Kommentar wird bis zum Zeilenumbruch uebersprungen:
+				while (i + 1 < nLength && pSourceCodeObj.get(i + 1) != '\n') {
+					i++;
 				}
 				continue;
 			}
 			
-			sCurrentExpression += chCurrentCharacter; //Aktuelles Zeichen dem aktuellen Ausdruck anfuegen.
+			if (nExpressionStart == -1) {
+				//Aktuelles Zeichen ist das erste Zeichen des aktuellen Ausdrucks:
+				nExpressionStart = i;
+			}
 			
 			if ((nBracketsOpened != 0 && nBracketsClosed != 0) && (nBracketsOpened == nBracketsClosed)) {
 				//Es wurden gleich viele Klammern geoeffnet und geschlossen:
-				lsSourceCode.add(sCurrentExpression.replaceAll("\n", "")); //Zeilenumbruecke entfernen.
-				sCurrentExpression = "";
+				lSourceCodeObj.add(pSourceCodeObj.subSequence(nExpressionStart, i + 1));
+				nExpressionStart = -1;
 				nBracketsClosed = 0;
 				nBracketsOpened = 0;
 			}
 		}
 		
-		if (sCurrentExpression.length() != 0) {
+		if (nExpressionStart != -1) {
 			//SYNTAXFEHLER: Es befinden sich noch Zeichen im String:
-			return new ReturnValue<LinkedList<String>>(lsSourceCode, ReturnValueTypes.ERROR_SYNTAX);
+			return new ReturnValue<LinkedList<CharBuffer>>(lSourceCodeObj, ReturnValueTypes.ERROR_SYNTAX);
 		}
 		
-		return new ReturnValue<LinkedList<String>>(lsSourceCode, ReturnValueTypes.SUCCESS);
+		return new ReturnValue<LinkedList<CharBuffer>>(lSourceCodeObj, ReturnValueTypes.SUCCESS);
 	}
 }
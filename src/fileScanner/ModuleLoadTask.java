@@ -0,0 +1,75 @@
+package fileScanner;
+import java.util.concurrent.RecursiveTask;
+
+import errorHandling.*;
+import tokenizer.*;
+
+
+
+/**
+ * Ein Objekt dieser Klasse liest und zerlegt eine Quellcode-Datei im Hintergrund. Sobald die Tokens der Datei
+ * vorliegen, wird fuer jede importierte Datei ueber den ModuleLoader ein weiteres Objekt dieser Klasse gestartet.
+ * Dadurch werden voneinander unabhaengige Dateien gleichzeitig eingelesen. Auf die importierten Dateien wird
+ * dabei nicht gewartet, sodass auch ein Import-Zyklus nicht zu einer Verklemmung fuehrt.
+ * Sehr grosse Dateien werden erst beim Abrufen der Ausdruecke gelesen (siehe ExpressionStream), sodass deren
+ * Importe erst geladen werden, sobald der Import erreicht wird.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+class ModuleLoadTask extends RecursiveTask<ReturnValue<ExpressionStream>> {
+	private static final long serialVersionUID = 1L;
+	
+	
+	
+	/**
+	 * Speichert den ModuleLoader, ueber welchen die importierten Dateien gestartet werden.
+	 */
+	private ModuleLoader moduleLoaderObj;
+	
+	/**
+	 * Speichert den Namen der Datei, welche geladen werden soll.
+	 */
+	private String sFileName;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "ModuleLoadTask".
+	 * 
+	 * @param pModuleLoaderObj	ModuleLoader, ueber welchen die importierten Dateien gestartet werden.
+	 * @param psFileName		Der Pfad, der Name und die Endung der Quellcode-Datei.
+	 */
+	public ModuleLoadTask(ModuleLoader pModuleLoaderObj, String psFileName) {
+		moduleLoaderObj = pModuleLoaderObj;
+		sFileName = psFileName;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode liest die Datei ein und startet das Laden aller importierten Dateien.
+	 * 
+	 * @return	Tokens jedes Lisp-Ausdrucks.
+	 */
+	@Override
+	protected ReturnValue<ExpressionStream> compute() {
+		ReturnValue<ExpressionStream> tokensObj = TokenCache.readTokens(sFileName, moduleLoaderObj.isCacheEnabled(), moduleLoaderObj.getCacheDirectory());
+		if (tokensObj.getExecutionInformation() != ReturnValueTypes.SUCCESS || tokensObj.getReturnValue().getExpressions() == null) {
+			//Es kam zu einem Fehler, welcher erst gemeldet wird, wenn die Datei tatsaechlich benoetigt wird
+			//(bzw. die Datei wird gestreamt):
+			return tokensObj;
+		}
+		
+		//Importierte Dateien heraussuchen. Die Tokens werden dabei nicht veraendert:
+		Object[] expressionsObj = tokensObj.getReturnValue().getExpressions().toArray();
+		for (int i = 0; i < expressionsObj.length; i++) {
+			TokenBuffer expressionTokensObj = (TokenBuffer)expressionsObj[i];
+			if (expressionTokensObj.size() >= 3 && expressionTokensObj.textEquals(1, KeywordTypes.KEYWORD_IMPORT) && expressionTokensObj.getKind(2) == TokenTypes.KIND_STRING) {
+				//Es handelt sich um einen Import:
+				moduleLoaderObj.preload(expressionTokensObj.getText(2));
+			}
+		}
+		return tokensObj;
+	}
+}
@@ -0,0 +1,183 @@
+package fileScanner;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import errorHandling.*;
+
+
+
+/**
+ * Die Klasse "ModuleLoader" laedt die Quellcode-Dateien eines Programms (die Startdatei und alle importierten
+ * Dateien). Jede Datei wird ueber ihren kanonischen Pfad identifiziert, sodass sie pro Programm genau einmal
+ * eingelesen und zerlegt wird, auch wenn sie von mehreren Dateien (oder ueber verschiedene relative Pfade)
+ * importiert wird. Wird eine Datei importiert, welche sich noch im Ladevorgang befindet, so handelt es sich um
+ * einen Import-Zyklus.
+ * Sobald eine Datei geoeffnet wird, werden diese und alle (direkt oder indirekt) importierten Dateien
+ * gleichzeitig im Hintergrund eingelesen und zerlegt (siehe ModuleLoadTask). Die Definitionen werden jedoch
+ * weiterhin in derselben Reihenfolge uebernommen, wie wenn die Dateien nacheinander geladen wuerden, da open()
+ * lediglich auf das Ergebnis der jeweiligen Datei wartet.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+public class ModuleLoader {
+	/**
+	 * Speichert die kanonischen Pfade aller Dateien, welche vollstaendig geladen wurden.
+	 */
+	private HashSet<String> sLoadedFiles;
+	
+	/**
+	 * Speichert die kanonischen Pfade aller Dateien, welche sich aktuell im Ladevorgang befinden. Die zuletzt
+	 * geoeffnete Datei befindet sich am Ende der Liste.
+	 */
+	private LinkedList<String> lsLoadingFiles;
+	
+	/**
+	 * Speichert fuer den kanonischen Pfad jeder Datei den Vorgang, welcher diese im Hintergrund einliest.
+	 */
+	private ConcurrentHashMap<String, ModuleLoadTask> loadTasksObj;
+	
+	/**
+	 * Gibt an, ob die Tokens der Dateien in Cache-Dateien gespeichert und aus diesen gelesen werden sollen (siehe
+	 * TokenCache).
+	 */
+	private boolean bCacheEnabled;
+	
+	/**
+	 * Speichert das Verzeichnis, in welchem die Cache-Dateien abgelegt werden, oder null, wenn die Cache-Dateien
+	 * neben den Quellcode-Dateien abgelegt werden.
+	 */
+	private String sCacheDirectory;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "ModuleLoader".
+	 */
+	public ModuleLoader() {
+		sLoadedFiles = new HashSet<String>();
+		lsLoadingFiles = new LinkedList<String>();
+		loadTasksObj = new ConcurrentHashMap<String, ModuleLoadTask>();
+		bCacheEnabled = false;
+		sCacheDirectory = null;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode legt fest, ob die Tokens der Dateien in Cache-Dateien gespeichert und aus diesen gelesen
+	 * werden sollen. Die Einstellung muss vor dem Oeffnen der ersten Datei festgelegt werden.
+	 * 
+	 * @param pbCacheEnabled	Gibt an, ob Cache-Dateien verwendet werden sollen.
+	 * @param psCacheDirectory	Verzeichnis der Cache-Dateien, oder null, wenn diese neben den Quellcode-Dateien
+	 * 							abgelegt werden sollen.
+	 */
+	public void setCache(boolean pbCacheEnabled, String psCacheDirectory) {
+		bCacheEnabled = pbCacheEnabled;
+		sCacheDirectory = psCacheDirectory;
+	}
+	
+	/**
+	 * Gibt an, ob Cache-Dateien verwendet werden sollen.
+	 * 
+	 * @return	Gibt an, ob Cache-Dateien verwendet werden sollen.
+	 */
+	boolean isCacheEnabled() {
+		return bCacheEnabled;
+	}
+	
+	/**
+	 * Gibt das Verzeichnis der Cache-Dateien zurueck.
+	 * 
+	 * @return	Verzeichnis der Cache-Dateien, oder null, wenn diese neben den Quellcode-Dateien abgelegt werden.
+	 */
+	String getCacheDirectory() {
+		return sCacheDirectory;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode oeffnet die angegebene Datei und gibt die Tokens aller Lisp-Ausdruecke zurueck. Die Datei
+	 * befindet sich anschliessend solange im Ladevorgang, bis close() aufgerufen wird.
+	 * Wurde die Datei bereits geladen, so wird null zurueckgegeben (ohne Fehler), da die Ausdruecke nicht
+	 * erneut hinzugefuegt werden duerfen.
+	 * 
+	 * @param psFileName	Der Pfad, der Name und die Endung der Quellcode-Datei.
+	 * @return				Tokens jedes Lisp-Ausdrucks, null wenn die Datei bereits geladen wurde,
+	 * 						oder ERROR_IMPORT_CYCLE, wenn sich die Datei noch im Ladevorgang befindet.
+	 */
+	public ReturnValue<ExpressionStream> open(String psFileName) {
+		String sCanonicalPath = getCanonicalPath(psFileName); //Speichert den kanonischen Pfad der Datei.
+		
+		if (lsLoadingFiles.contains(sCanonicalPath)) {
+			//Die Datei importiert sich (ueber andere Dateien) selbst:
+			return new ReturnValue<ExpressionStream>(null, ReturnValueTypes.ERROR_IMPORT_CYCLE);
+		}
+		if (sLoadedFiles.contains(sCanonicalPath)) {
+			//Die Datei wurde bereits geladen:
+			return new ReturnValue<ExpressionStream>(null, ReturnValueTypes.SUCCESS);
+		}
+		
+		//Auf das Einlesen der Datei warten:
+		ReturnValue<ExpressionStream> tokensObj = preload(psFileName).join();
+		if (tokensObj.getExecutionInformation() == ReturnValueTypes.SUCCESS) {
+			lsLoadingFiles.add(sCanonicalPath);
+		}
+		return tokensObj;
+	}
+	
+	/**
+	 * Diese Methode beendet den Ladevorgang der zuletzt geoeffneten Datei.
+	 */
+	public void close() {
+		sLoadedFiles.add(lsLoadingFiles.removeLast());
+	}
+	
+	/**
+	 * Diese Methode startet das Einlesen der angegebenen Datei im Hintergrund, falls diese nicht bereits
+	 * eingelesen wird.
+	 * 
+	 * @param psFileName	Der Pfad, der Name und die Endung der Quellcode-Datei.
+	 * @return				Vorgang, welcher die Datei einliest.
+	 */
+	ModuleLoadTask preload(String psFileName) {
+		String sCanonicalPath = getCanonicalPath(psFileName);
+		ModuleLoadTask loadTaskObj = loadTasksObj.get(sCanonicalPath);
+		if (loadTaskObj != null) {
+			//Die Datei wird bereits eingelesen:
+			return loadTaskObj;
+		}
+		
+		ModuleLoadTask newLoadTaskObj = new ModuleLoadTask(this, psFileName);
+		loadTaskObj = loadTasksObj.putIfAbsent(sCanonicalPath, newLoadTaskObj);
+		if (loadTaskObj != null) {
+			//Die Datei wurde gleichzeitig von einem anderen Vorgang gestartet:
+			return loadTaskObj;
+		}
+		ForkJoinPool.commonPool().execute(newLoadTaskObj);
+		return newLoadTaskObj;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode gibt den kanonischen Pfad der angegebenen Datei zurueck.
+	 * 
+	 * @param psFileName	Der Pfad, der Name und die Endung der Datei.
+	 * @return				Kanonischer Pfad.
+	 */
+	private static String getCanonicalPath(String psFileName) {
+		try {
+			return new File(psFileName).getCanonicalPath();
+		}
+		catch (IOException e) {
+			//Der Pfad kann nicht aufgeloest werden:
+			return new File(psFileName).getAbsolutePath();
+		}
+	}
+}
@@ -0,0 +1,355 @@
+package fileScanner;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.UUID;
+
+import errorHandling.*;
+import tokenizer.*;
+
+
+
+/**
+ * Die Klasse "TokenCache" speichert die Tokens einer Quellcode-Datei in einer Cache-Datei, sodass der
+ * Quellcode bei einem erneuten Start nicht erneut unterteilt und zerlegt werden muss.
+ * Die Cache-Datei enthaelt den SHA-256-Hash des Inhalts der Quellcode-Datei und ist nur gueltig, solange
+ * dieser mit dem Hash der aktuellen Datei uebereinstimmt. Importierte Dateien besitzen jeweils eine eigene
+ * Cache-Datei, welche ebenfalls ueber ihren eigenen Hash ueberprueft wird.
+ * Aufbau der Cache-Datei: Kennung, Version, Hash, Anzahl an Ausdruecken und fuer jeden Ausdruck die Anzahl
+ * an Tokens, gefolgt von Art und Inhalt jedes Tokens (siehe DataOutputStream.writeUTF()). Fuer Klammern wird
+ * nur die Art gespeichert. Ist der Inhalt eines Tokens zu lang, so wird keine Cache-Datei geschrieben.
+ * Da der Name einer Cache-Datei in einem Cache-Verzeichnis vorhersehbar ist und der Hash von jedem berechnet
+ * werden kann, wird ein Cache-Verzeichnis nur verwendet, wenn dieses sowie die Cache-Datei dem aktuellen Benutzer
+ * gehoeren und von keinem anderen Benutzer beschrieben werden koennen. Andernfalls wird die Cache-Datei neben der
+ * Quellcode-Datei abgelegt.
+ * Sehr grosse Dateien (siehe FileScanner.STREAMING_THRESHOLD) werden ohne Cache-Datei Ausdruck fuer Ausdruck
+ * gelesen (siehe ExpressionStream), da eine Cache-Datei ebenso gross waere und vollstaendig geladen werden muesste.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+public class TokenCache {
+	/**
+	 * Speichert die Endung der Cache-Dateien.
+	 */
+	public static final String CACHE_FILE_EXTENSION = ".tokens";
+	
+	/**
+	 * Speichert die Kennung, mit welcher jede Cache-Datei beginnt.
+	 */
+	private static final int CACHE_MAGIC = 0x4C495350;
+	
+	/**
+	 * Speichert die Version des Aufbaus der Cache-Datei. Diese muss erhoeht werden, sobald sich der Aufbau
+	 * oder die Arten der Tokens aendern.
+	 */
+	private static final int CACHE_VERSION = 1;
+	
+	
+	
+	/**
+	 * Diese Methode laedt die Tokens aller Lisp-Ausdruecke der angegebenen Datei. Ist der Cache aktiviert und
+	 * eine gueltige Cache-Datei vorhanden, so werden die Tokens aus dieser gelesen. Andernfalls wird der
+	 * Quellcode unterteilt und zerlegt und das Ergebnis (bei aktiviertem Cache) fuer den naechsten Start in der
+	 * Cache-Datei gespeichert. Der Cache ist standardmaessig deaktiviert (siehe ModuleLoader.setCache()), damit
+	 * ohne ausdrueckliche Aktivierung keine Dateien neben den Quellcode-Dateien angelegt werden.
+	 * Sehr grosse Dateien werden erst beim Abrufen der Ausdruecke gelesen und zerlegt.
+	 * 
+	 * @param psFileName		Der Pfad, der Name und die Endung der Quellcode-Datei.
+	 * @param pbCacheEnabled	Gibt an, ob Cache-Dateien gelesen und geschrieben werden sollen.
+	 * @param psCacheDirectory	Verzeichnis der Cache-Dateien, oder null, wenn die Cache-Datei neben der
+	 * 							Quellcode-Datei abgelegt werden soll.
+	 * @return					Tokens jedes Lisp-Ausdrucks.
+	 */
+	public static ReturnValue<ExpressionStream> readTokens(String psFileName, boolean pbCacheEnabled, String psCacheDirectory) {
+		if (FileScanner.checkFile(psFileName) == ReturnValueTypes.SUCCESS && new File(psFileName).length() >= FileScanner.STREAMING_THRESHOLD) {
+			//Sehr grosse Dateien werden Ausdruck fuer Ausdruck gelesen:
+			return new ReturnValue<ExpressionStream>(new ExpressionStream(psFileName), ReturnValueTypes.SUCCESS);
+		}
+		
+		ReturnValue<ByteBuffer> fileContentObj = FileScanner.readContent(psFileName);
+		if (fileContentObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
+			//Es kam zu einem Fehler:
+			return new ReturnValue<ExpressionStream>(null, fileContentObj.getExecutionInformation());
+		}
+		
+		byte[] nHash = null; //Speichert den Hash des Inhalts der Datei.
+		Path cachePathObj = null; //Speichert den Pfad der Cache-Datei.
+		if (pbCacheEnabled) {
+			nHash = hash(fileContentObj.getReturnValue());
+			cachePathObj = getCachePath(psFileName, psCacheDirectory);
+			if (nHash != null && cachePathObj != null) {
+				LinkedList<TokenBuffer> lExpressionsObj = load(cachePathObj, nHash);
+				if (lExpressionsObj != null) {
+					//Gueltige Cache-Datei gefunden:
+					return new ReturnValue<ExpressionStream>(new ExpressionStream(lExpressionsObj), ReturnValueTypes.SUCCESS);
+				}
+			}
+		}
+		
+		//Quellcode unterteilen und zerlegen:
+		ReturnValue<CharBuffer> sourceCodeObj = FileScanner.decode(fileContentObj.getReturnValue());
+		if (sourceCodeObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
+			//Es kam zu einem Fehler:
+			return new ReturnValue<ExpressionStream>(null, sourceCodeObj.getExecutionInformation());
+		}
+		ReturnValue<LinkedList<CharBuffer>> sourceCodeExpressionsObj = FileScanner.splitExpressions(sourceCodeObj.getReturnValue());
+		if (sourceCodeExpressionsObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
+			//Es kam zu einem Fehler:
+			return new ReturnValue<ExpressionStream>(null, sourceCodeExpressionsObj.getExecutionInformation());
+		}
+		
+		CharBuffer[] sExpressions = sourceCodeExpressionsObj.getReturnValue().toArray(new CharBuffer[0]);
+		TokenBuffer[] tokensObj = new TokenBuffer[sExpressions.length]; //Speichert die Tokens jedes Ausdrucks.
+		if (FileScanner.isParallel(sExpressions.length)) {
+			//Die Ausdruecke sind voneinander unabhaengig und werden gleichzeitig zerlegt (jeweils mit eigenem Tokenizer):
+			Arrays.parallelSetAll(tokensObj, i -> new Tokenizer().tokenize(sExpressions[i]));
+		}
+		else {
+			Tokenizer tokenizerObj = new Tokenizer();
+			for (int i = 0; i < sExpressions.length; i++) {
+				tokensObj[i] = tokenizerObj.tokenize(sExpressions[i]);
+			}
+		}
+		LinkedList<TokenBuffer> lExpressionsObj = new LinkedList<TokenBuffer>(Arrays.asList(tokensObj));
+		
+		if (nHash != null && cachePathObj != null) {
+			//Tokens fuer den naechsten Start speichern:
+			store(cachePathObj, nHash, lExpressionsObj);
+		}
+		return new ReturnValue<ExpressionStream>(new ExpressionStream(lExpressionsObj), ReturnValueTypes.SUCCESS);
+	}
+	
+	
+	
+	/**
+	 * Diese Methode berechnet den SHA-256-Hash des Inhalts einer Datei.
+	 * 
+	 * @param pFileContentObj	Inhalt der Datei.
+	 * @return					Hash, oder null, wenn dieser nicht berechnet werden kann.
+	 */
+	private static byte[] hash(ByteBuffer pFileContentObj) {
+		try {
+			MessageDigest digestObj = MessageDigest.getInstance("SHA-256");
+			digestObj.update(pFileContentObj.duplicate());
+			return digestObj.digest();
+		}
+		catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Diese Methode gibt den Pfad der Cache-Datei fuer die angegebene Quellcode-Datei zurueck. Ist das
+	 * Cache-Verzeichnis oder die darin liegende Cache-Datei nicht vertrauenswuerdig (siehe isTrusted()), so wird
+	 * die Cache-Datei neben der Quellcode-Datei verwendet.
+	 * 
+	 * @param psFileName		Der Pfad, der Name und die Endung der Quellcode-Datei.
+	 * @param psCacheDirectory	Verzeichnis der Cache-Dateien, oder null.
+	 * @return					Pfad der Cache-Datei, oder null, wenn dieser nicht ermittelt werden kann.
+	 */
+	private static Path getCachePath(String psFileName, String psCacheDirectory) {
+		if (psCacheDirectory == null) {
+			//Cache-Datei neben der Quellcode-Datei ablegen:
+			return Paths.get(psFileName + CACHE_FILE_EXTENSION);
+		}
+		
+		//Cache-Datei im Cache-Verzeichnis ablegen. Der Name wird aus dem vollstaendigen Pfad der Quellcode-Datei
+		//gebildet, damit gleichnamige Dateien aus verschiedenen Verzeichnissen nicht dieselbe Cache-Datei verwenden:
+		byte[] nPathHash = hash(ByteBuffer.wrap(Paths.get(psFileName).toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8)));
+		if (nPathHash == null) {
+			return null;
+		}
+		StringBuilder sCacheNameBuilder = new StringBuilder();
+		for (int i = 0; i < 16; i++) {
+			sCacheNameBuilder.append(String.format("%02x", nPathHash[i]));
+		}
+		try {
+			Path cacheDirectoryObj = Paths.get(psCacheDirectory);
+			if (!Files.isDirectory(cacheDirectoryObj)) {
+				Files.createDirectories(cacheDirectoryObj);
+			}
+			cacheDirectoryObj = cacheDirectoryObj.toRealPath();
+			Path cachePathObj = cacheDirectoryObj.resolve(sCacheNameBuilder.toString() + CACHE_FILE_EXTENSION);
+			if (isTrusted(cacheDirectoryObj) && (!Files.exists(cachePathObj, LinkOption.NOFOLLOW_LINKS) || isTrusted(cachePathObj))) {
+				return cachePathObj;
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			//Das Cache-Verzeichnis kann nicht verwendet werden:
+		}
+		return Paths.get(psFileName + CACHE_FILE_EXTENSION);
+	}
+	
+	/**
+	 * Diese Methode ueberprueft, ob die angegebene Datei bzw. das angegebene Verzeichnis dem aktuellen Benutzer
+	 * gehoert und weder von der Gruppe noch von anderen Benutzern beschrieben werden kann. Symbolische
+	 * Verknuepfungen werden dabei nicht verfolgt. Koennen Besitzer oder Zugriffsrechte nicht ermittelt werden
+	 * (z.B. auf Dateisystemen ohne POSIX-Zugriffsrechte), so gilt der Pfad als nicht vertrauenswuerdig.
+	 * 
+	 * @param pPathObj	Zu ueberpruefender Pfad.
+	 * @return			Gibt an, ob der Pfad vertrauenswuerdig ist.
+	 */
+	private static boolean isTrusted(Path pPathObj) {
+		try {
+			PosixFileAttributes attributesObj = Files.readAttributes(pPathObj, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+			UserPrincipal currentUserObj = pPathObj.getFileSystem().getUserPrincipalLookupService().lookupPrincipalByName(System.getProperty("user.name"));
+			return !attributesObj.isSymbolicLink()
+				&& attributesObj.owner().equals(currentUserObj)
+				&& !attributesObj.permissions().contains(PosixFilePermission.GROUP_WRITE)
+				&& !attributesObj.permissions().contains(PosixFilePermission.OTHERS_WRITE);
+		}
+		catch (IOException | RuntimeException e) {
+			//Besitzer oder Zugriffsrechte koennen nicht ermittelt werden:
+			return false;
+		}
+	}
+	
+	
+	
+	/**
+	 * Diese Methode liest die Tokens aus der Cache-Datei. Die Cache-Datei wird dabei mit einem einzigen
+	 * Lesevorgang eingelesen. Alle gelesenen Anzahlen werden mit den verbleibenden Bytes und alle Arten mit den
+	 * bekannten Arten verglichen, sodass eine beschaedigte Cache-Datei wie eine fehlende behandelt wird.
+	 * 
+	 * @param pCachePathObj	Pfad der Cache-Datei.
+	 * @param pnHash		Hash des aktuellen Inhalts der Quellcode-Datei.
+	 * @return				Liste mit den Tokens jedes Lisp-Ausdrucks, oder null, wenn die Cache-Datei nicht
+	 * 						vorhanden, veraltet oder fehlerhaft ist.
+	 */
+	private static LinkedList<TokenBuffer> load(Path pCachePathObj, byte[] pnHash) {
+		if (!Files.isRegularFile(pCachePathObj)) {
+			//Es ist keine Cache-Datei vorhanden:
+			return null;
+		}
+		
+		try (DataInputStream inputObj = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(pCachePathObj)))) {
+			if (inputObj.readInt() != CACHE_MAGIC || inputObj.readInt() != CACHE_VERSION) {
+				//Es handelt sich um keine (aktuelle) Cache-Datei:
+				return null;
+			}
+			byte[] nCachedHash = new byte[pnHash.length];
+			inputObj.readFully(nCachedHash);
+			if (!Arrays.equals(nCachedHash, pnHash)) {
+				//Die Quellcode-Datei wurde seitdem geaendert:
+				return null;
+			}
+			
+			LinkedList<TokenBuffer> lExpressionsObj = new LinkedList<TokenBuffer>();
+			int nExpressionAmount = inputObj.readInt();
+			if (nExpressionAmount < 0 || nExpressionAmount > inputObj.available() / 4) {
+				//Jeder Ausdruck benoetigt mindestens 4 Bytes fuer die Anzahl an Tokens:
+				return null;
+			}
+			for (int i = 0; i < nExpressionAmount; i++) {
+				//Die Inhalte der Tokens werden (wie im Quellcode) hintereinander gespeichert und nur als Bereiche abgelegt:
+				int nTokenAmount = inputObj.readInt();
+				if (nTokenAmount < 0 || nTokenAmount > inputObj.available()) {
+					//Jeder Token benoetigt mindestens 1 Byte fuer die Art:
+					return null;
+				}
+				int[] nKinds = new int[nTokenAmount];
+				int[] nEnds = new int[nTokenAmount];
+				StringBuilder sExpressionBuilder = new StringBuilder();
+				for (int j = 0; j < nTokenAmount; j++) {
+					nKinds[j] = inputObj.readByte();
+					if (nKinds[j] < TokenTypes.KIND_IDENTIFIER || nKinds[j] > TokenTypes.KIND_OPERATOR_DOT) {
+						//Unbekannte Art eines Tokens:
+						return null;
+					}
+					else if (nKinds[j] == TokenTypes.KIND_BRACKET_OPENED) {
+						sExpressionBuilder.append('(');
+					}
+					else if (nKinds[j] == TokenTypes.KIND_BRACKET_CLOSED) {
+						sExpressionBuilder.append(')');
+					}
+					else {
+						sExpressionBuilder.append(inputObj.readUTF());
+					}
+					nEnds[j] = sExpressionBuilder.length();
+				}
+				TokenBuffer tokensObj = new TokenBuffer(sExpressionBuilder.toString());
+				for (int j = 0; j < nTokenAmount; j++) {
+					tokensObj.add(nKinds[j], j == 0 ? 0 : nEnds[j - 1], nEnds[j]);
+				}
+				lExpressionsObj.add(tokensObj);
+			}
+			if (inputObj.available() != 0) {
+				//Nach dem letzten Ausdruck duerfen keine weiteren Daten folgen:
+				return null;
+			}
+			return lExpressionsObj;
+		}
+		catch (IOException | RuntimeException e) {
+			//Die Cache-Datei ist fehlerhaft:
+			return null;
+		}
+	}
+	
+	/**
+	 * Diese Methode speichert die Tokens in der Cache-Datei. Die Datei wird zuerst vollstaendig unter einem
+	 * temporaeren Namen geschrieben und anschliessend umbenannt, damit parallel startende Interpreter niemals
+	 * eine halb geschriebene Cache-Datei lesen. Die temporaere Datei wird dabei (anders als bei
+	 * Files.createTempFile()) mit den gewoehnlichen Zugriffsrechten angelegt, sodass die Cache-Datei dieselben
+	 * Zugriffsrechte wie andere vom Benutzer angelegte Dateien erhaelt. Kann die Datei nicht geschrieben werden,
+	 * so wird der Quellcode beim naechsten Start erneut zerlegt.
+	 * 
+	 * @param pCachePathObj		Pfad der Cache-Datei.
+	 * @param pnHash			Hash des Inhalts der Quellcode-Datei.
+	 * @param plExpressionsObj	Liste mit den Tokens jedes Lisp-Ausdrucks.
+	 */
+	private static void store(Path pCachePathObj, byte[] pnHash, LinkedList<TokenBuffer> plExpressionsObj) {
+		ByteArrayOutputStream bufferObj = new ByteArrayOutputStream();
+		try (DataOutputStream outputObj = new DataOutputStream(bufferObj)) {
+			outputObj.writeInt(CACHE_MAGIC);
+			outputObj.writeInt(CACHE_VERSION);
+			outputObj.write(pnHash);
+			outputObj.writeInt(plExpressionsObj.size());
+			for (TokenBuffer tokensObj : plExpressionsObj) {
+				outputObj.writeInt(tokensObj.size());
+				for (int i = 0; i < tokensObj.size(); i++) {
+					//Bei Klammern ist der Inhalt bereits durch die Art festgelegt:
+					outputObj.writeByte(tokensObj.getKind(i));
+					if (tokensObj.getKind(i) != TokenTypes.KIND_BRACKET_OPENED && tokensObj.getKind(i) != TokenTypes.KIND_BRACKET_CLOSED) {
+						outputObj.writeUTF(tokensObj.getText(i));
+					}
+				}
+			}
+			
+			if (pCachePathObj.getParent() != null) {
+				Files.createDirectories(pCachePathObj.getParent());
+			}
+			Path temporaryPathObj = pCachePathObj.resolveSibling(pCachePathObj.getFileName() + "." + UUID.randomUUID() + ".tmp");
+			try {
+				Files.write(temporaryPathObj, bufferObj.toByteArray(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+				Files.move(temporaryPathObj, pCachePathObj, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			finally {
+				Files.deleteIfExists(temporaryPathObj);
+			}
+		}
+		catch (IOException e) {
+			//Die Cache-Datei konnte nicht geschrieben werden:
+			return;
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package interpreter;
 
+import tokenizer.*;
+
 
 
 /**
@@ -16,16 +18,35 @@ public class Atom {
 	private String sName;
 	
 	/**
-	 * Dieses Attribut speichert den Wert der Variablen.
+	 * Dieses Attribut speichert den Wert (und damit auch die Art) der Variablen.
 	 */
-	private String sValue;
+	private Value valueObj;
+	
+	
 	
 	/**
-	 * Dieses Attribut speichert den Typen der Variablen.
+	 * Konstruktor der Klasse "Atom".
+	 * Erzeugt ein neues Atom mit den als Parametern angegebenen Werten.
+	 * 
+	 * @param psName	Bezeichner der Variablen.
+	 * @param pValueObj	Wert der Variablen.
 	 */
-	private String sType;
-	
+	public Atom(String psName, Value pValueObj) {
+		sName = psName;
+		valueObj = pValueObj;
+	}
 	
+	/**
+	 * Konstruktor der Klasse "Atom".
+	 * Erzeugt ein neues Atom mit den als Parametern angegebenen Werten.
+	 * 
+	 * @param psName	Bezeichner der Variablen.
+	 * @param psValue	Wert der Variablen als String.
+	 * @param pnKind	Art der Variablen (siehe TokenTypes.KIND_...).
+	 */
+	public Atom(String psName, String psValue, int pnKind) {
+		this(psName, new Value(psValue, pnKind));
+	}
 	
 	/**
 	 * Konstruktor der Klasse "Atom".
@@ -36,9 +57,7 @@ public class Atom {
 	 * @param psType	Typ der Variablen.
 	 */
 	public Atom(String psName, String psValue, String psType) {
-		sName = psName;
-		sValue = psValue;
-		sType = psType;
+		this(psName, psValue, TokenTypes.getKind(psType));
 	}
 	
 	
@@ -57,8 +76,8 @@ public class Atom {
 	 * 
 	 * @return	Inhalt.
 	 */
-	public String getValue() {
-		return sValue;
+	public Value getValue() {
+		return valueObj;
 	}
 	
 	/**
@@ -67,7 +86,16 @@ public class Atom {
 	 * @return	Typ.
 	 */
 	public String getType() {
-		return sType;
+		return TokenTypes.getTypeName(valueObj.getKind());
+	}
+	
+	/**
+	 * Gibt die Art der Variablen zurueck.
+	 * 
+	 * @return	Art (siehe TokenTypes.KIND_...).
+	 */
+	public int getKind() {
+		return valueObj.getKind();
 	}
 	
 	
@@ -75,10 +103,10 @@ public class Atom {
 	/**
 	 * Aendert den Wert der Variablen.
 	 * 
-	 * @param psValue	Neuer Inhalt.
+	 * @param pValueObj	Neuer Inhalt.
 	 */
-	public void setValue(String psValue) {
-		sValue = psValue;
+	public void setValue(Value pValueObj) {
+		valueObj = pValueObj;
 	}
 	
 	/**
@@ -87,6 +115,15 @@ public class Atom {
 	 * @param psType	Neuer Typ.
 	 */
 	public void setType(String psType) {
-		sType = psType;
+		setKind(TokenTypes.getKind(psType));
+	}
+	
+	/**
+	 * Aendert die Art der Variablen.
+	 * 
+	 * @param pnKind	Neue Art (siehe TokenTypes.KIND_...).
+	 */
+	public void setKind(int pnKind) {
+		valueObj = new Value(valueObj.getText(), pnKind);
 	}
 }
@@ -0,0 +1,87 @@
+package interpreter;
+
+import tokenizer.*;
+
+
+
+/**
+ * Diese Klasse stellt eine vordefinierte (native) Funktion dar, welche in Java implementiert ist und in Lisp
+ * wie eine selbst definierte Funktion aufgerufen werden kann. Jede Funktion besitzt einen Namen und eine
+ * feste Anzahl an Parametern. Die Parameter werden als Werte (siehe Value) uebergeben, sodass z.B. Zahlen
+ * nicht ueber Strings umgewandelt werden muessen.
+ * Neue Funktionen koennen ueber BuiltinFunctions.register() hinzugefuegt werden.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+public abstract class BuiltinFunction {
+	/**
+	 * Speichert den Namen der Funktion.
+	 */
+	private String sName;
+	
+	/**
+	 * Speichert die Anzahl an Parametern der Funktion.
+	 */
+	private int nParameterAmount;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "BuiltinFunction".
+	 * 
+	 * @param psName			Name, unter welchem die Funktion aufgerufen wird.
+	 * @param pnParameterAmount	Anzahl an Parametern.
+	 */
+	public BuiltinFunction(String psName, int pnParameterAmount) {
+		sName = psName;
+		nParameterAmount = pnParameterAmount;
+	}
+	
+	
+	
+	/**
+	 * Gibt den Namen der Funktion zurueck.
+	 * 
+	 * @return	Name der Funktion.
+	 */
+	public String getName() {
+		return sName;
+	}
+	
+	/**
+	 * Gibt die Anzahl an Parametern der Funktion zurueck.
+	 * 
+	 * @return	Anzahl an Parametern.
+	 */
+	public int getParameterAmount() {
+		return nParameterAmount;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode fuehrt die Funktion aus. Die Anzahl an Parametern wurde bereits ueberprueft.
+	 * 
+	 * @param pParametersObj	Werte der Parameter.
+	 * @return					Rueckgabewert der Funktion.
+	 */
+	public abstract Value call(Value[] pParametersObj);
+	
+	
+	
+	/**
+	 * Gibt den angegebenen Wert als Zahl zurueck. Handelt es sich um keine Zahl, so wird der Wert aus seiner
+	 * Darstellung als String umgewandelt.
+	 * 
+	 * @param pValueObj	Wert, welcher umgewandelt werden soll.
+	 * @return			Wert als Zahl.
+	 * @throws NumberFormatException	Der Wert kann nicht in eine Zahl umgewandelt werden.
+	 */
+	protected static double toNumber(Value pValueObj) {
+		if (pValueObj.getKind() == TokenTypes.KIND_NUMBER) {
+			return pValueObj.getNumber();
+		}
+		return Double.parseDouble(pValueObj.getText());
+	}
+}
@@ -0,0 +1,57 @@
+package interpreter;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+
+
+/**
+ * Die Klasse "BuiltinFunctions" verwaltet alle vordefinierten Funktionen (siehe BuiltinFunction) unter ihrem
+ * Namen. Zu Beginn sind die Funktionen aus PreDefinedFunctions registriert. Weitere Funktionen koennen von
+ * Programmen, welche den Interpreter einbinden, ueber register() hinzugefuegt werden, ohne den Controller zu
+ * veraendern. Selbst definierte Lisp-Funktionen mit demselben Namen haben dabei weiterhin Vorrang.
+ * Die Registrierung gilt fuer alle Controller. Da die Funktionen keinen Zustand speichern, koennen diese
+ * dennoch von mehreren Controllern gleichzeitig aufgerufen werden.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+public class BuiltinFunctions {
+	/**
+	 * Speichert alle vordefinierten Funktionen unter ihrem Namen.
+	 */
+	private static final ConcurrentHashMap<String, BuiltinFunction> FUNCTIONS = new ConcurrentHashMap<String, BuiltinFunction>();
+	
+	static {
+		register(PreDefinedFunctions.LENGTH);
+		register(PreDefinedFunctions.ISNUMBER);
+		register(PreDefinedFunctions.SIN);
+		register(PreDefinedFunctions.COS);
+		register(PreDefinedFunctions.TAN);
+		register(PreDefinedFunctions.SQRT);
+		register(PreDefinedFunctions.CHARAT);
+		register(PreDefinedFunctions.SUBSTRING);
+	}
+	
+	
+	
+	/**
+	 * Diese Methode registriert eine vordefinierte Funktion. Existiert bereits eine Funktion mit demselben
+	 * Namen, so wird diese ersetzt.
+	 * 
+	 * @param pFunctionObj	Funktion, welche registriert werden soll.
+	 * @return				Funktion, welche ersetzt wurde, oder null.
+	 */
+	public static BuiltinFunction register(BuiltinFunction pFunctionObj) {
+		return FUNCTIONS.put(pFunctionObj.getName(), pFunctionObj);
+	}
+	
+	/**
+	 * Diese Methode gibt die vordefinierte Funktion mit dem angegebenen Namen zurueck.
+	 * 
+	 * @param psName	Name der Funktion.
+	 * @return			Funktion, oder null, wenn keine Funktion mit diesem Namen existiert.
+	 */
+	public static BuiltinFunction get(String psName) {
+		return FUNCTIONS.get(psName);
+	}
+}
@@ -0,0 +1,87 @@
+package interpreter;
+
+
+
+/**
+ * Objekte dieser Klasse speichern den Bytecode einer Funktion (siehe BytecodeCompiler). Dieser besteht aus den
+ * Befehlen (siehe OpCodes) und den Konstanten, auf welche die Befehle ueber ihren Index verweisen.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+class Bytecode {
+	/**
+	 * Speichert die Befehle und deren Argumente.
+	 */
+	private int[] nCode;
+	
+	/**
+	 * Speichert die Konstanten (Werte, Funktionen, Operatoren und Knoten).
+	 */
+	private Object[] constantsObj;
+	
+	/**
+	 * Speichert die Anzahl an Plaetzen, welche der Rahmen eines Aufrufes benoetigt.
+	 */
+	private int nSlotAmount;
+	
+	/**
+	 * Speichert die maximale Anzahl an Werten, welche die Funktion gleichzeitig auf den Stapel legt.
+	 */
+	private int nMaxStack;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "Bytecode".
+	 * 
+	 * @param pnCode			Befehle und deren Argumente.
+	 * @param pConstantsObj		Konstanten.
+	 * @param pnSlotAmount		Anzahl an Plaetzen im Rahmen eines Aufrufes.
+	 * @param pnMaxStack		Maximale Anzahl an Werten auf dem Stapel.
+	 */
+	Bytecode(int[] pnCode, Object[] pConstantsObj, int pnSlotAmount, int pnMaxStack) {
+		nCode = pnCode;
+		constantsObj = pConstantsObj;
+		nSlotAmount = pnSlotAmount;
+		nMaxStack = pnMaxStack;
+	}
+	
+	
+	
+	/**
+	 * Gibt die Befehle und deren Argumente zurueck.
+	 * 
+	 * @return	Befehle.
+	 */
+	int[] getCode() {
+		return nCode;
+	}
+	
+	/**
+	 * Gibt die Konstanten zurueck.
+	 * 
+	 * @return	Konstanten.
+	 */
+	Object[] getConstants() {
+		return constantsObj;
+	}
+	
+	/**
+	 * Gibt die Anzahl an Plaetzen im Rahmen eines Aufrufes zurueck.
+	 * 
+	 * @return	Anzahl an Plaetzen.
+	 */
+	int getSlotAmount() {
+		return nSlotAmount;
+	}
+	
+	/**
+	 * Gibt die maximale Anzahl an Werten auf dem Stapel zurueck.
+	 * 
+	 * @return	Maximale Anzahl an Werten.
+	 */
+	int getMaxStack() {
+		return nMaxStack;
+	}
+}
@@ -0,0 +1,492 @@
+package interpreter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import errorHandling.*;
+import parser.*;
+import tokenizer.*;
+
+
+
+/**
+ * Die Klasse "BytecodeCompiler" uebersetzt den abstrakten Syntaxbaum einer Funktion in Bytecode (siehe OpCodes),
+ * welcher anschliessend von der VirtualMachine ausgefuehrt wird. Verzweigungen und Schleifen werden dabei zu
+ * Spruengen, Rechnungen und Vergleiche zu einzelnen Befehlen je Operator. Die aufgerufenen Funktionen werden
+ * bereits beim Uebersetzen ermittelt.
+ * Fehler, welche bereits beim Uebersetzen erkannt werden (z.B. unbekannte Variablen), werden nicht sofort
+ * gemeldet, sondern als Befehl (OpCodes.FAIL) an der Stelle eingefuegt, an welcher der Controller den Fehler
+ * melden wuerde. Dadurch verhalten sich beide Verfahren gleich.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+class BytecodeCompiler {
+	/**
+	 * Speichert den Controller, ueber welchen die aufgerufenen Funktionen ermittelt werden.
+	 */
+	private Controller controllerObj;
+	
+	/**
+	 * Speichert die bisher erzeugten Befehle.
+	 */
+	private int[] nCode;
+	
+	/**
+	 * Speichert die Anzahl an bisher erzeugten Befehlen (inklusive Argumenten).
+	 */
+	private int nCodeLength;
+	
+	/**
+	 * Speichert die Konstanten.
+	 */
+	private ArrayList<Object> constantsObj;
+	
+	/**
+	 * Speichert die Anzahl an Werten, welche sich an der aktuellen Stelle auf dem Stapel befinden.
+	 */
+	private int nStackDepth;
+	
+	/**
+	 * Speichert die maximale Anzahl an Werten auf dem Stapel.
+	 */
+	private int nMaxStackDepth;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "BytecodeCompiler".
+	 * 
+	 * @param pControllerObj	Controller, ueber welchen die aufgerufenen Funktionen ermittelt werden.
+	 */
+	BytecodeCompiler(Controller pControllerObj) {
+		controllerObj = pControllerObj;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode uebersetzt den Rumpf der angegebenen Funktion in Bytecode.
+	 * 
+	 * @param pFunctionObj	Funktion, welche uebersetzt werden soll.
+	 * @return				Bytecode der Funktion.
+	 */
+	Bytecode compile(Function pFunctionObj) {
+		nCode = new int[64];
+		nCodeLength = 0;
+		constantsObj = new ArrayList<Object>();
+		nStackDepth = 0;
+		nMaxStackDepth = 0;
+		
+		Node bodyObj = pFunctionObj.getBody();
+		compileStatement(bodyObj);
+		//Ohne "return" endet die Funktion nach der letzten Anweisung:
+		emit(OpCodes.RETURN_NONE);
+		
+		return new Bytecode(Arrays.copyOf(nCode, nCodeLength), constantsObj.toArray(), pFunctionObj.getSlotAmount(), nMaxStackDepth);
+	}
+	
+	
+	
+	/**
+	 * Diese Methode uebersetzt eine Anweisung (siehe Controller.process()). Nach der Anweisung befindet sich
+	 * dieselbe Anzahl an Werten auf dem Stapel wie zuvor.
+	 * 
+	 * @param pStatementObj	Knoten der Anweisung.
+	 */
+	private void compileStatement(Node pStatementObj) {
+		switch(pStatementObj.getType()) {
+		case NodeTypes.NODE_BLOCK:
+			for (int i = 0; i < pStatementObj.getChildAmount(); i++) {
+				compileStatement(pStatementObj.getChild(i));
+			}
+			return;
+			
+		case NodeTypes.NODE_VAR:
+			if (pStatementObj.getChildAmount() != 0) {
+				compileValue(pStatementObj.getChild(0));
+			}
+			else {
+				//Es wurde kein Wert angegeben:
+				emitConstant(new Value("0.0", TokenTypes.KIND_NUMBER));
+			}
+			if (pStatementObj.getSlot() == Node.SLOT_DUPLICATE) {
+				//Der Bezeichner wird bereits von einer anderen Variablen verwendet:
+				emitFail(ReturnValueTypes.ERROR_VARIABLE_NAME_DOES_EXIST);
+				return;
+			}
+			emit(OpCodes.STORE, pStatementObj.getSlot());
+			adjustStackDepth(-1);
+			return;
+			
+		case NodeTypes.NODE_SETF:
+			compileValue(pStatementObj.getChild(0));
+			if (pStatementObj.getSlot() == Node.SLOT_UNKNOWN) {
+				//Die Variable existiert nicht:
+				emitFail(ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
+				return;
+			}
+			emit(OpCodes.STORE, pStatementObj.getSlot());
+			adjustStackDepth(-1);
+			return;
+			
+		case NodeTypes.NODE_PRINT:
+		case NodeTypes.NODE_PRINTLN:
+			compileValue(pStatementObj.getChild(0));
+			emit(pStatementObj.getType() == NodeTypes.NODE_PRINTLN ? OpCodes.PRINTLN : OpCodes.PRINT);
+			adjustStackDepth(-1);
+			return;
+			
+		case NodeTypes.NODE_SCAN:
+		case NodeTypes.NODE_INSTANTIATION:
+			//Diese Anweisungen werten keine Kinder aus und werden weiterhin vom Controller ausgefuehrt:
+			emit(OpCodes.PROCESS, addConstant(pStatementObj));
+			return;
+			
+		case NodeTypes.NODE_IF:
+			compileValue(pStatementObj.getChild(0));
+			int nElseJump = emitJump(OpCodes.JUMP_IF_FALSE); //Speichert die Position des Sprunges zur else-Verzweigung.
+			adjustStackDepth(-1);
+			compileStatement(pStatementObj.getChild(1));
+			if (pStatementObj.getChildAmount() < 3) {
+				//Es gibt keine else-Verzweigung:
+				patchJump(nElseJump);
+				return;
+			}
+			int nEndJump = emitJump(OpCodes.JUMP); //Speichert die Position des Sprunges hinter die else-Verzweigung.
+			patchJump(nElseJump);
+			compileStatement(pStatementObj.getChild(2));
+			patchJump(nEndJump);
+			return;
+			
+		case NodeTypes.NODE_WHILE:
+			int nConditionStart = nCodeLength; //Speichert die Position der Bedingung.
+			compileValue(pStatementObj.getChild(0));
+			int nExitJump = emitJump(OpCodes.JUMP_IF_FALSE); //Speichert die Position des Sprunges hinter die Schleife.
+			adjustStackDepth(-1);
+			compileStatement(pStatementObj.getChild(1));
+			emit(OpCodes.JUMP, nConditionStart);
+			patchJump(nExitJump);
+			return;
+			
+		case NodeTypes.NODE_RETURN:
+			compileReturn(pStatementObj);
+			return;
+			
+		case NodeTypes.NODE_CALL:
+			//Der Rueckgabewert wird nicht benoetigt:
+			compileCall(pStatementObj, OpCodes.CALL);
+			emit(OpCodes.POP);
+			adjustStackDepth(-1);
+			return;
+			
+		case NodeTypes.NODE_ERROR:
+			//Der Ausdruck ist fehlerhaft:
+			emit(OpCodes.FAIL, pStatementObj.getErrorCode());
+			return;
+			
+		default:
+			emit(OpCodes.FAIL, ReturnValueTypes.ERROR_SYNTAX);
+			return;
+		}
+	}
+	
+	/**
+	 * Diese Methode uebersetzt einen Wert (siehe Controller.evaluate()). Nach dem Wert befindet sich ein
+	 * zusaetzlicher Wert auf dem Stapel.
+	 * 
+	 * @param pValueObj	Knoten des Wertes.
+	 */
+	private void compileValue(Node pValueObj) {
+		switch(pValueObj.getType()) {
+		case NodeTypes.NODE_LITERAL:
+			emitConstant(pValueObj.getToken().getLiteral());
+			return;
+			
+		case NodeTypes.NODE_VARIABLE:
+			if (pValueObj.getSlot() == Node.SLOT_UNKNOWN) {
+				//Die Variable existiert an dieser Stelle nicht:
+				emit(OpCodes.FAIL, ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
+				adjustStackDepth(1);
+				return;
+			}
+			emit(OpCodes.LOAD, pValueObj.getSlot());
+			adjustStackDepth(1);
+			return;
+			
+		case NodeTypes.NODE_CALCULATION:
+			compileCalculation(pValueObj);
+			return;
+			
+		case NodeTypes.NODE_COMPARISON:
+			compileComparison(pValueObj);
+			return;
+			
+		case NodeTypes.NODE_CALL:
+			compileCall(pValueObj, OpCodes.CALL);
+			return;
+			
+		case NodeTypes.NODE_ERROR:
+			//Der Wert ist fehlerhaft:
+			emit(OpCodes.FAIL, pValueObj.getErrorCode());
+			adjustStackDepth(1);
+			return;
+			
+		default:
+			emit(OpCodes.FAIL, ReturnValueTypes.ERROR_SYNTAX);
+			adjustStackDepth(1);
+			return;
+		}
+	}
+	
+	
+	
+	/**
+	 * Diese Methode uebersetzt eine Rechnung. Der erste Operand muss bereits vor dem Auswerten des zweiten
+	 * Operanden eine Zahl sein (siehe Controller.calculate()).
+	 * 
+	 * @param pCalculationObj	Knoten der Rechnung.
+	 */
+	private void compileCalculation(Node pCalculationObj) {
+		if (pCalculationObj.getChildAmount() == 0) {
+			//Rechnung ohne Operanden:
+			emitConstant(new Value(0.0));
+			return;
+		}
+		compileValue(pCalculationObj.getChild(0));
+		emit(pCalculationObj.getChildAmount() == 1 ? OpCodes.TO_NUMBER : OpCodes.CHECK_NUMBER);
+		
+		int nOpCode; //Speichert den Befehl des Operators.
+		switch(pCalculationObj.getValue()) {
+		case "+":
+			nOpCode = OpCodes.ADD;
+			break;
+		case "-":
+			nOpCode = OpCodes.SUB;
+			break;
+		case "*":
+			nOpCode = OpCodes.MUL;
+			break;
+		case "/":
+			nOpCode = OpCodes.DIV;
+			break;
+		case "%":
+			nOpCode = OpCodes.MOD;
+			break;
+		default:
+			//Unbekannter Operator: Der Fehler wird nach dem zweiten Operanden gemeldet:
+			nOpCode = -1;
+			break;
+		}
+		
+		for (int i = 1; i < pCalculationObj.getChildAmount(); i++) {
+			compileValue(pCalculationObj.getChild(i));
+			if (nOpCode == -1) {
+				emit(OpCodes.CHECK_NUMBER);
+				emit(OpCodes.FAIL, ReturnValueTypes.ERROR_UNKNOWN_OPERATOR);
+			}
+			else {
+				emit(nOpCode);
+			}
+			adjustStackDepth(-1);
+		}
+	}
+	
+	/**
+	 * Diese Methode uebersetzt einen Vergleich. Das bisherige Ergebnis bleibt auf dem Stapel und wird mit dem
+	 * naechsten Operanden verglichen (siehe Controller.compare()).
+	 * 
+	 * @param pComparisonObj	Knoten des Vergleichs.
+	 */
+	private void compileComparison(Node pComparisonObj) {
+		int nOpCode; //Speichert den Befehl des Operators.
+		switch(pComparisonObj.getValue()) {
+		case "=":
+			nOpCode = OpCodes.EQ;
+			break;
+		case "!":
+			nOpCode = OpCodes.NE;
+			break;
+		case "<":
+			nOpCode = OpCodes.LT;
+			break;
+		case ">":
+			nOpCode = OpCodes.GT;
+			break;
+		case "<=":
+			nOpCode = OpCodes.LE;
+			break;
+		case ">=":
+			nOpCode = OpCodes.GE;
+			break;
+		default:
+			nOpCode = OpCodes.COMPARE;
+			break;
+		}
+		
+		compileValue(pComparisonObj.getChild(0));
+		for (int i = 1; i < pComparisonObj.getChildAmount(); i++) {
+			compileValue(pComparisonObj.getChild(i));
+			if (nOpCode == OpCodes.COMPARE) {
+				emit(OpCodes.COMPARE, addConstant(pComparisonObj.getValue()));
+			}
+			else {
+				emit(nOpCode);
+			}
+			adjustStackDepth(-1);
+		}
+	}
+	
+	/**
+	 * Diese Methode uebersetzt einen Funktionsaufruf. Die Funktion muss existieren, bevor die Parameter
+	 * ausgewertet werden (siehe Controller.executeFunction()).
+	 * 
+	 * @param pCallObj	Knoten des Funktionsaufrufes.
+	 * @param pnOpCode	Befehl, ueber welchen eine selbst definierte Funktion aufgerufen wird (CALL oder
+	 * 					TAIL_CALL).
+	 */
+	private void compileCall(Node pCallObj, int pnOpCode) {
+		Object targetObj; //Speichert die aufgerufene Funktion.
+		try {
+			targetObj = controllerObj.resolveTarget(pCallObj);
+		}
+		catch (InterpreterException exceptionObj) {
+			//Die Funktion existiert nicht:
+			emit(OpCodes.FAIL, exceptionObj.getErrorCode());
+			adjustStackDepth(1);
+			return;
+		}
+		
+		for (int i = 0; i < pCallObj.getChildAmount(); i++) {
+			compileValue(pCallObj.getChild(i));
+		}
+		emit(targetObj instanceof BuiltinFunction ? OpCodes.CALL_BUILTIN : pnOpCode, addConstant(targetObj), pCallObj.getChildAmount());
+		adjustStackDepth(1 - pCallObj.getChildAmount());
+	}
+	
+	/**
+	 * Diese Methode uebersetzt "return". Ist der Rueckgabewert der Aufruf einer selbst definierten Funktion, so
+	 * wird ein Endaufruf erzeugt.
+	 * 
+	 * @param pReturnObj	Knoten von "return".
+	 */
+	private void compileReturn(Node pReturnObj) {
+		if (pReturnObj.getChildAmount() == 0) {
+			//Es ist kein Rueckgabewert angegeben:
+			emit(OpCodes.RETURN_NONE);
+			return;
+		}
+		Node returnValueObj = pReturnObj.getChild(0); //Speichert den Rueckgabewert als abstrakten Syntaxbaum.
+		if (returnValueObj.getType() == NodeTypes.NODE_CALL) {
+			//Handelt es sich um eine selbst definierte Funktion, so wird ein Endaufruf erzeugt:
+			compileCall(returnValueObj, OpCodes.TAIL_CALL);
+		}
+		else {
+			compileValue(returnValueObj);
+		}
+		emit(OpCodes.RETURN);
+		adjustStackDepth(-1);
+	}
+	
+	
+	
+	/**
+	 * Diese Methode fuegt einen Befehl ohne Argumente hinzu.
+	 * 
+	 * @param pnOpCode	Befehl.
+	 */
+	private void emit(int pnOpCode) {
+		if (nCodeLength + 3 > nCode.length) {
+			nCode = Arrays.copyOf(nCode, nCode.length * 2);
+		}
+		nCode[nCodeLength++] = pnOpCode;
+	}
+	
+	/**
+	 * Diese Methode fuegt einen Befehl mit einem Argument hinzu.
+	 * 
+	 * @param pnOpCode		Befehl.
+	 * @param pnArgument	Argument.
+	 */
+	private void emit(int pnOpCode, int pnArgument) {
+		emit(pnOpCode);
+		nCode[nCodeLength++] = pnArgument;
+	}
+	
+	/**
+	 * Diese Methode fuegt einen Befehl mit zwei Argumenten hinzu.
+	 * 
+	 * @param pnOpCode			Befehl.
+	 * @param pnFirstArgument	Erstes Argument.
+	 * @param pnSecondArgument	Zweites Argument.
+	 */
+	private void emit(int pnOpCode, int pnFirstArgument, int pnSecondArgument) {
+		emit(pnOpCode);
+		nCode[nCodeLength++] = pnFirstArgument;
+		nCode[nCodeLength++] = pnSecondArgument;
+	}
+	
+	/**
+	 * Diese Methode fuegt einen Befehl hinzu, welcher eine Konstante auf den Stapel legt.
+	 * 
+	 * @param pValueObj	Konstante.
+	 */
+	private void emitConstant(Value pValueObj) {
+		emit(OpCodes.PUSH_CONST, addConstant(pValueObj));
+		adjustStackDepth(1);
+	}
+	
+	/**
+	 * Diese Methode fuegt einen Befehl hinzu, welcher den obersten Wert vom Stapel entfernt und einen Fehler
+	 * meldet.
+	 * 
+	 * @param pnErrorCode	Fehlermeldung (siehe ReturnValueTypes).
+	 */
+	private void emitFail(int pnErrorCode) {
+		emit(OpCodes.FAIL, pnErrorCode);
+		adjustStackDepth(-1);
+	}
+	
+	/**
+	 * Diese Methode fuegt einen Sprung hinzu, dessen Ziel erst spaeter bekannt ist (siehe patchJump()).
+	 * 
+	 * @param pnOpCode	Befehl des Sprunges.
+	 * @return			Position des Argumentes, welches das Ziel des Sprunges speichert.
+	 */
+	private int emitJump(int pnOpCode) {
+		emit(pnOpCode, -1);
+		return nCodeLength - 1;
+	}
+	
+	/**
+	 * Diese Methode setzt das Ziel eines Sprunges auf die aktuelle Position.
+	 * 
+	 * @param pnJump	Position des Argumentes, welches das Ziel des Sprunges speichert.
+	 */
+	private void patchJump(int pnJump) {
+		nCode[pnJump] = nCodeLength;
+	}
+	
+	/**
+	 * Diese Methode fuegt eine Konstante hinzu.
+	 * 
+	 * @param pConstantObj	Konstante.
+	 * @return				Index der Konstanten.
+	 */
+	private int addConstant(Object pConstantObj) {
+		constantsObj.add(pConstantObj);
+		return constantsObj.size() - 1;
+	}
+	
+	/**
+	 * Diese Methode aendert die Anzahl an Werten auf dem Stapel.
+	 * 
+	 * @param pnDelta	Anzahl an hinzugefuegten (bzw. entfernten) Werten.
+	 */
+	private void adjustStackDepth(int pnDelta) {
+		nStackDepth += pnDelta;
+		if (nStackDepth > nMaxStackDepth) {
+			nMaxStackDepth = nStackDepth;
+		}
+	}
+}
@@ -41,120 +41,47 @@ public class Class {
 	protected LinkedList<Function> lPublicFunctionsObj;
 	
 	/**
-	 * Speichert die Tokens der Klasse.
+	 * Speichert die Tokens, in welchen sich die Klassendefinition befindet.
 	 * => Wird benoetigt wenn eine Instanz dieser Klasse in Lisp erzeugt werden soll.
 	 */
-	private LinkedList<Token> lTokensObj;
+	private TokenBuffer tokensObj;
+	
+	/**
+	 * Speichert die Position des Bezeichners der Klasse.
+	 */
+	private int nTokensStart;
+	
+	/**
+	 * Speichert die Position nach dem letzten Token der Klassendefinition.
+	 */
+	private int nTokensEnd;
 	
 	
 	
 	/**
 	 * Konstruktor erstellt eine neue Klasse, welche genutzt wird um alle wichtigen Werte einer Klasse zu speichern.
 	 * 
-	 * @param plTokensObj	Ausdruck, welcher die Klassendefinition darstellt (alle Tokens ab einsschliesslich dem Namen).
+	 * @param pTokensObj	Tokens, in welchen sich die Klassendefinition befindet.
+	 * @param pnStart		Position des Bezeichners der Klasse.
+	 * @param pnEnd			Position nach dem letzten Token der Klassendefinition.
 	 */
-	public Class(LinkedList<Token> plTokensObj) {
+	public Class(TokenBuffer pTokensObj, int pnStart, int pnEnd) {
 		lPrivateAttributesObj = new LinkedList<Atom>();
 		lPrivateFunctionsObj = new LinkedList<Function>();
 		lPublicAttributesObj = new LinkedList<Atom>();
 		lPublicFunctionsObj = new LinkedList<Function>();
-		lTokensObj = new LinkedList<Token>();
-		lTokensObj.addAll(plTokensObj);
+		tokensObj = pTokensObj;
+		nTokensStart = pnStart;
+		nTokensEnd = pnEnd;
 		
 		//Den Bezeichner der Klasse identifizieren:
-		sName = plTokensObj.poll().getValue();
+		sName = pTokensObj.getText(pnStart);
 		
 		//Alle privaten Attribute und Methoden herausarbeiten:
-		plTokensObj.poll(); //Erste geoeffnete Klammer entfernen.
-		int nBracketsClosed = 0;
-		int nBracketsOpened = 1;
-		while (!plTokensObj.isEmpty()) {
-			Token currentTokenObj = plTokensObj.poll();
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-				nBracketsClosed++;
-			}
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-				nBracketsOpened++;
-				//Neuer privater Ausdruck:
-				if (plTokensObj.peek().getValue().equals(KeywordTypes.KEYWORD_VAR)) {
-					//Neues Attribut:
-					plTokensObj.poll();
-					lPrivateAttributesObj.add(new Atom(plTokensObj.poll().getValue(), "0.00", TokenTypes.TOKEN_NUMBER));
-				}
-				else if (plTokensObj.peek().getValue().equals(KeywordTypes.KEYWORD_DEFINE)) {
-					//Neue Methode:
-					plTokensObj.poll();
-					int nInnerBracketsClosed = 0;
-					int nInnerBracketsOpened = 1;
-					LinkedList<Token> lFunctionTokensObj = new LinkedList<Token>();
-					while (!plTokensObj.isEmpty()) {
-						Token currentInnerTokenObj = new Token(plTokensObj.peek().getValue(), plTokensObj.poll().getType());
-						if (currentInnerTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-							nInnerBracketsOpened++;
-						}
-						if (currentInnerTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-							nInnerBracketsClosed++;
-						}
-						lFunctionTokensObj.add(currentInnerTokenObj);
-						if (nInnerBracketsClosed == nInnerBracketsOpened) {
-							//Die Ausdruecke der Funktion wurden herausgefunden:
-							lPrivateFunctionsObj.add(new Function(lFunctionTokensObj));
-							break;
-						}
-					}
-				}
-			}
-			if (nBracketsOpened == nBracketsClosed) {
-				//Alle privaten Attribute und Methoden herausgearbeitet:
-				break;
-			}
-		}
+		int nPosition = extractMembers(pnStart + 1, lPrivateAttributesObj, lPrivateFunctionsObj);
 		
 		//Alle oeffentlichen Attribute und Methoden herausarbeiten:
-		plTokensObj.poll(); //Erste geoeffnete Klammer entfernen.
-		nBracketsClosed = 0;
-		nBracketsOpened = 1;
-		while (!plTokensObj.isEmpty()) {
-			Token currentTokenObj = plTokensObj.poll();
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-				nBracketsClosed++;
-			}
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-				nBracketsOpened++;
-				//Neuer privater Ausdruck:
-				if (plTokensObj.peek().getValue().equals(KeywordTypes.KEYWORD_VAR)) {
-					//Neues Attribut:
-					plTokensObj.poll();
-					lPublicAttributesObj.add(new Atom(plTokensObj.poll().getValue(), "0.00", TokenTypes.TOKEN_NUMBER));
-				}
-				else if (plTokensObj.peek().getValue().equals(KeywordTypes.KEYWORD_DEFINE)) {
-					//Neue Methode:
-					plTokensObj.poll();
-					int nInnerBracketsClosed = 0;
-					int nInnerBracketsOpened = 1;
-					LinkedList<Token> lFunctionTokensObj = new LinkedList<Token>();
-					while (!plTokensObj.isEmpty()) {
-						Token currentInnerTokenObj = new Token(plTokensObj.peek().getValue(), plTokensObj.poll().getType());
-						if (currentInnerTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-							nInnerBracketsOpened++;
-						}
-						if (currentInnerTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-							nInnerBracketsClosed++;
-						}
-						lFunctionTokensObj.add(currentInnerTokenObj);
-						if (nInnerBracketsClosed == nInnerBracketsOpened) {
-							//Die Ausdruecke der Funktion wurden herausgefunden:
-							lPublicFunctionsObj.add(new Function(lFunctionTokensObj));
-							break;
-						}
-					}
-				}
-			}
-			if (nBracketsOpened == nBracketsClosed) {
-				//Alle oeffentlichen Attribute und Methoden herausgearbeitet:
-				break;
-			}
-		}
+		extractMembers(nPosition, lPublicAttributesObj, lPublicFunctionsObj);
 		
 		/*
 		//-------------------------- DEBUG --------------------------------------
@@ -192,6 +119,78 @@ public class Class {
 	
 	
 	
+	/**
+	 * Konstruktor erzeugt eine neue Klasse aus der Definition der angegebenen Klasse. Dies wird benoetigt, wenn
+	 * eine Instanz dieser Lisp-Klasse erzeugt werden soll.
+	 * 
+	 * @param pClassObj	Klasse, deren Definition verwendet werden soll.
+	 */
+	public Class(Class pClassObj) {
+		this(pClassObj.tokensObj, pClassObj.nTokensStart, pClassObj.nTokensEnd);
+	}
+	
+	
+	
+	/**
+	 * Diese Methode arbeitet die Attribute und Methoden eines Abschnitts (privat oder oeffentlich) der
+	 * Klassendefinition heraus. Die Tokens der Methoden werden dabei nicht kopiert.
+	 * 
+	 * @param pnPosition			Position der ersten geoeffneten Klammer des Abschnitts.
+	 * @param plAttributesObj		Liste, welcher die Attribute hinzugefuegt werden.
+	 * @param plFunctionsObj		Liste, welcher die Methoden hinzugefuegt werden.
+	 * @return						Position nach dem Abschnitt.
+	 */
+	private int extractMembers(int pnPosition, LinkedList<Atom> plAttributesObj, LinkedList<Function> plFunctionsObj) {
+		int i = Math.min(pnPosition + 1, nTokensEnd); //Erste geoeffnete Klammer ueberspringen.
+		int nBracketsClosed = 0;
+		int nBracketsOpened = 1;
+		while (i < nTokensEnd) {
+			int nKind = tokensObj.getKind(i++);
+			if (nKind == TokenTypes.KIND_BRACKET_CLOSED) {
+				nBracketsClosed++;
+			}
+			if (nKind == TokenTypes.KIND_BRACKET_OPENED && i < nTokensEnd) {
+				nBracketsOpened++;
+				//Neuer Ausdruck:
+				if (tokensObj.textEquals(i, KeywordTypes.KEYWORD_VAR)) {
+					//Neues Attribut:
+					i++;
+					if (i < nTokensEnd) {
+						plAttributesObj.add(new Atom(tokensObj.getText(i++), "0.00", TokenTypes.KIND_NUMBER));
+					}
+				}
+				else if (tokensObj.textEquals(i, KeywordTypes.KEYWORD_DEFINE)) {
+					//Neue Methode:
+					i++;
+					int nFunctionStart = i; //Speichert die Position des Namens der Methode.
+					int nInnerBracketsClosed = 0;
+					int nInnerBracketsOpened = 1;
+					while (i < nTokensEnd) {
+						int nInnerKind = tokensObj.getKind(i++);
+						if (nInnerKind == TokenTypes.KIND_BRACKET_OPENED) {
+							nInnerBracketsOpened++;
+						}
+						if (nInnerKind == TokenTypes.KIND_BRACKET_CLOSED) {
+							nInnerBracketsClosed++;
+						}
+						if (nInnerBracketsClosed == nInnerBracketsOpened) {
+							//Die Ausdruecke der Funktion wurden herausgefunden:
+							plFunctionsObj.add(new Function(tokensObj, nFunctionStart, i));
+							break;
+						}
+					}
+				}
+			}
+			if (nBracketsOpened == nBracketsClosed) {
+				//Alle Attribute und Methoden des Abschnitts herausgearbeitet:
+				break;
+			}
+		}
+		return i;
+	}
+	
+	
+	
 	/**
 	 * Diese Methode gibt den Bezeichner der Klasse zurueck.
 	 * 
@@ -266,14 +265,4 @@ public class Class {
 		}
 		return new ReturnValue<Function>(null, ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
 	}
-	
-	/**
-	 * Diese Methode gibt eine Liste der Tokens der Klasse zurueck. Dies wird benoetigt, wenn eine Instanz dieser
-	 * Lisp-Klasse erzeugt werden soll.
-	 * 
-	 * @return	Liste der Tokens der Klasse.
-	 */
-	public LinkedList<Token> getClassTokens() {
-		return lTokensObj;
-	}
 }
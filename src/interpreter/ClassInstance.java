@@ -19,7 +19,7 @@ public class ClassInstance extends Class {
 	 * @param pClass	Klasse, von welcher eine Instanz erzeugt werden soll.
 	 */
 	public ClassInstance(Class pClass) {
-		super(pClass.getClassTokens());
+		super(pClass);
 	}
 	
 }
@@ -1,5 +1,7 @@
 package interpreter;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Scanner;
 
@@ -20,15 +22,35 @@ import fileScanner.*;
  */
 public class Controller {
 	/**
-	 * Dieses Attribut stellt den Tokenizer dar, welcher aus dem Quellcode eine Liste an Tokens ertsellt.
+	 * Auswertung des abstrakten Syntaxbaums ueber rekursive Methodenaufrufe. Die Tiefe der Funktionsaufrufe ist
+	 * dabei durch den Java-Stack begrenzt.
 	 */
-	private Tokenizer tokenizerObj;
+	public static final int EVALUATOR_TREE = 0;
 	
 	/**
-	 * Dieses Attribut stellt den Parser dar, welcher aus einem Ausdruck einen abstrakten Syntaxbaum
-	 * erstellt.
+	 * Auswertung des abstrakten Syntaxbaums ueber einen eigenen Stapel im Heap (siehe StackEvaluator). Die Tiefe
+	 * der Funktionsaufrufe ist dabei begrenzt (siehe setMaxCallDepth()).
 	 */
-	private Parser parserObj;
+	public static final int EVALUATOR_STACK = 1;
+	
+	/**
+	 * Ausfuehrung der in Bytecode uebersetzten Funktionen ueber eine Schleife (siehe VirtualMachine). Die Tiefe
+	 * der Funktionsaufrufe ist dabei begrenzt (siehe setMaxCallDepth()).
+	 */
+	public static final int EVALUATOR_BYTECODE = 2;
+	
+	/**
+	 * Speichert das Verfahren, ueber welches ein neuer Controller Programme ausfuehrt. Die uebrigen Verfahren
+	 * koennen zum Vergleich ueber setEvaluator() ausgewaehlt werden.
+	 */
+	public static final int DEFAULT_EVALUATOR = EVALUATOR_TREE;
+	
+	/**
+	 * Speichert die maximale Tiefe der Funktionsaufrufe eines neuen Controllers.
+	 */
+	public static final int DEFAULT_MAX_CALL_DEPTH = 1000000;
+	
+	
 	
 	/**
 	 * Dieses Attribut stellt den Interpreter dar, welcher einen abstrakten Syntaxbaum auswertet. Zudem
@@ -37,34 +59,40 @@ public class Controller {
 	private Interpreter interpreterObj;
 	
 	/**
-	 * Dieses Attribut speichert den Quellcode. Jeder Ausdruck stellt ein Element in der Liste dar.
+	 * Dieses Attribut speichert alle Funktionen unter ihrem Namen.
 	 */
-	private LinkedList<String> lsSourceCode;
+	private HashMap<String, Function> functionsObj;
 	
 	/**
-	 * Dieses Attribut speichert alle Funktionen.
+	 * Dieses Attribut speichert alle Klassentypen (NICHT DIE INSTANZEN!) unter ihrem Namen.
 	 */
-	private LinkedList<Function> lFunctionsObj;
+	private HashMap<String, Class> classesObj;
 	
 	/**
-	 * Speichert den Rueckgabewert der aktuellen Funktion.
+	 * Dieses Attribut speichert alle Instanzen von Klassen unter ihrem Instanznamen.
 	 */
-	private Token functionReturnValueObj;
+	private HashMap<String, ClassInstance> classInstancesObj;
 	
 	/**
-	 * Dieses Attribut speichert alle Klassentypen (NICHT DIE INSTANZEN!)
+	 * Dieses Attribut laedt die Quellcode-Dateien, sodass jede Datei nur einmal geladen wird.
 	 */
-	private LinkedList<Class> lClassesObj;
+	private ModuleLoader moduleLoaderObj;
 	
 	/**
-	 * Dieses Attribut speichert alle Instanzen von Klassen.
+	 * Speichert den Dateinamen, aus welchem der Quellcode geladen werden soll:
 	 */
-	private LinkedList<ClassInstance> lClassInstancesObj;
+	private String sFileName;
 	
 	/**
-	 * Speichert den Dateinamen, aus welchem der Quellcode geladen werden soll:
+	 * Gibt an, ueber welches Verfahren Programme ausgefuehrt werden (EVALUATOR_...).
 	 */
-	private String sFileName;
+	private int nEvaluator;
+	
+	/**
+	 * Speichert die maximale Tiefe der Funktionsaufrufe bei EVALUATOR_STACK und EVALUATOR_BYTECODE. Endaufrufe
+	 * erhoehen die Tiefe nicht.
+	 */
+	private int nMaxCallDepth;
 	
 	
 	
@@ -76,15 +104,58 @@ public class Controller {
 	 * @param psFileName	Datei, in welcher der Quellcode gespeichert wird.
 	 */
 	public Controller(String psFileName) {
-		tokenizerObj = new Tokenizer();
-		parserObj = new Parser();
 		interpreterObj = new Interpreter();
-		lsSourceCode = new LinkedList<String>();
-		lFunctionsObj = new LinkedList<Function>();
-		functionReturnValueObj = new Token("0.00", TokenTypes.TOKEN_NUMBER);
-		lClassesObj = new LinkedList<Class>();
-		lClassInstancesObj = new LinkedList<ClassInstance>();
+		functionsObj = new HashMap<String, Function>();
+		classesObj = new HashMap<String, Class>();
+		classInstancesObj = new HashMap<String, ClassInstance>();
 		sFileName = psFileName;
+		moduleLoaderObj = new ModuleLoader();
+		nEvaluator = DEFAULT_EVALUATOR;
+		nMaxCallDepth = DEFAULT_MAX_CALL_DEPTH;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode legt fest, ueber welches Verfahren das Programm ausgefuehrt wird. Die Einstellung gilt nur
+	 * fuer diesen Controller.
+	 * 
+	 * @param pnEvaluator	Verfahren (EVALUATOR_...).
+	 */
+	public void setEvaluator(int pnEvaluator) {
+		nEvaluator = pnEvaluator;
+	}
+	
+	/**
+	 * Diese Methode legt die maximale Tiefe der Funktionsaufrufe bei EVALUATOR_STACK und EVALUATOR_BYTECODE
+	 * fest. Die Einstellung gilt nur fuer diesen Controller.
+	 * 
+	 * @param pnMaxCallDepth	Maximale Tiefe der Funktionsaufrufe.
+	 */
+	public void setMaxCallDepth(int pnMaxCallDepth) {
+		nMaxCallDepth = pnMaxCallDepth;
+	}
+	
+	/**
+	 * Diese Methode legt fest, ob die Tokens der Quellcode-Dateien in Cache-Dateien gespeichert und beim naechsten
+	 * Start aus diesen gelesen werden (siehe TokenCache). Die Einstellung gilt nur fuer diesen Controller und muss
+	 * vor startController() festgelegt werden.
+	 * 
+	 * @param pbCacheEnabled	Gibt an, ob Cache-Dateien verwendet werden sollen.
+	 * @param psCacheDirectory	Verzeichnis der Cache-Dateien, oder null, wenn diese neben den Quellcode-Dateien
+	 * 							abgelegt werden sollen.
+	 */
+	public void setTokenCache(boolean pbCacheEnabled, String psCacheDirectory) {
+		moduleLoaderObj.setCache(pbCacheEnabled, psCacheDirectory);
+	}
+	
+	/**
+	 * Diese Methode gibt die maximale Tiefe der Funktionsaufrufe zurueck.
+	 * 
+	 * @return	Maximale Tiefe der Funktionsaufrufe.
+	 */
+	public int getMaxCallDepth() {
+		return nMaxCallDepth;
 	}
 	
 	
@@ -103,39 +174,39 @@ public class Controller {
 		}
 		
 		//Herausfinden, mit welcher Funktion gestartet werden soll.
-		for (int i = 0; i < lFunctionsObj.size(); i++) {
-			if (lFunctionsObj.get(i).getName().equals(KeywordTypes.FUNCTION_MAIN)) {
-				//Startfunktion gefunden:
-				LinkedList<Atom> lParameterObj = new LinkedList<Atom>();
-				lParameterObj = lFunctionsObj.get(i).getParameters();
-				if (lParameterObj.size() != 0) {
-					//Es sind Parameter vorhanden: Syntaxfehler (main-Funktion erhaelt keine Parameter).
-					return ReturnValueTypes.ERROR_MAIN_FUNCTION_HAS_PARAMETER;
-				}
-				interpreterObj.changeFunctionAtoms(lFunctionsObj.get(i).getParameters());
-				for (int j = 0; j < lFunctionsObj.get(i).getExpressionAmount(); j++) {
-					//Ausdruecke verarbeiten:
-					ReturnValue<Object> processReturnObj; //Speichert den Rueckgabewert der process()-Funktion.
-					
-					//Zum Abfangen eines StackoverflowErrors.
-					try {
-						processReturnObj = process(lFunctionsObj.get(i).getExpression(j));
-					}
-					catch (StackOverflowError exceptionObj) {
-						//Es kam zu einem Stackoverflowerror:
-						return ReturnValueTypes.ERROR_STACK_OVERFLOW;
-					}
-					
-					if (processReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-						//Es kam zu einem Fehler:
-						return processReturnObj.getExecutionInformation();
-					}
-				}
-				return ReturnValueTypes.SUCCESS; //Beenden, nachdem alle Ausdruecke verarbeitet wurden.
+		Function mainFunctionObj = functionsObj.get(KeywordTypes.FUNCTION_MAIN);
+		if (mainFunctionObj == null) {
+			//Startfunktion nicht gefunden:
+			return ReturnValueTypes.ERROR_NO_MAIN_FUNCTION;
+		}
+		if (mainFunctionObj.getParameterAmount() != 0) {
+			//Es sind Parameter vorhanden: Syntaxfehler (main-Funktion erhaelt keine Parameter).
+			return ReturnValueTypes.ERROR_MAIN_FUNCTION_HAS_PARAMETER;
+		}
+		//Ausdruecke verarbeiten:
+		//Zum Abfangen eines StackoverflowErrors.
+		try {
+			switch(nEvaluator) {
+			case EVALUATOR_STACK:
+				new StackEvaluator(this, interpreterObj).run(mainFunctionObj);
+				break;
+			case EVALUATOR_BYTECODE:
+				new VirtualMachine(this, interpreterObj).run(mainFunctionObj);
+				break;
+			default:
+				callFunction(mainFunctionObj, new Value[0]);
+				break;
 			}
 		}
-		//Startfunktion nicht gefunden:
-		return ReturnValueTypes.ERROR_NO_MAIN_FUNCTION;
+		catch (StackOverflowError exceptionObj) {
+			//Es kam zu einem Stackoverflowerror:
+			return ReturnValueTypes.ERROR_STACK_OVERFLOW;
+		}
+		catch (InterpreterException exceptionObj) {
+			//Es kam zu einem Fehler:
+			return exceptionObj.getErrorCode();
+		}
+		return ReturnValueTypes.SUCCESS; //Beenden, nachdem alle Ausdruecke verarbeitet wurden (oder "return" aufgerufen wurde).
 	}
 	
 	
@@ -147,62 +218,93 @@ public class Controller {
 	 * @return	Fehlermeldung.
 	 */
 	private int extractSourceCode(String psFileName) {
-		//Quellcode in Tokens umsetzten:
-		ReturnValue<LinkedList<String>> outputFileScannerObj = new ReturnValue<LinkedList<String>>();
-		outputFileScannerObj = FileScanner.readFile(psFileName);
-		if (outputFileScannerObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
+		//Quellcode in Tokens umsetzten (bzw. die Tokens aus der Cache-Datei laden):
+		ReturnValue<ExpressionStream> outputModuleLoaderObj = moduleLoaderObj.open(psFileName);
+		if (outputModuleLoaderObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
 			//Es kam zu einem Fehler:
-			return outputFileScannerObj.getExecutionInformation();
+			return outputModuleLoaderObj.getExecutionInformation();
+		}
+		if (outputModuleLoaderObj.getReturnValue() == null) {
+			//Die Datei wurde bereits von einer anderen Datei importiert:
+			return ReturnValueTypes.SUCCESS;
+		}
+		ExpressionStream expressionStreamObj = outputModuleLoaderObj.getReturnValue(); //Speichert jeden Ausdruck im Quellcode als Tokens.
+		try {
+			return extractExpressions(expressionStreamObj);
+		}
+		finally {
+			//Eine gestreamte Datei wird auch bei einem Fehler geschlossen:
+			expressionStreamObj.close();
+		}
+	}
+	
+	/**
+	 * Diese Methode durchlaeuft die Ausdruecke einer Quellcode-Datei und fuegt diese dem Interpreter hinzu. Die
+	 * Ausdruecke werden dabei einzeln abgerufen, sodass bei einer gestreamten Datei nie alle Ausdruecke
+	 * gleichzeitig im Speicher gehalten werden.
+	 * 
+	 * @param pExpressionStreamObj	Ausdruecke der Quellcode-Datei.
+	 * @return						Fehlermeldung.
+	 */
+	private int extractExpressions(ExpressionStream pExpressionStreamObj) {
+		Object[] definedFunctionsObj = null; //Speichert die bereits erzeugten Funktionen.
+		if (pExpressionStreamObj.getExpressions() != null) {
+			definedFunctionsObj = defineFunctions(pExpressionStreamObj.getExpressions());
 		}
-		lsSourceCode.addAll(outputFileScannerObj.getReturnValue());
 		
 		//Quellcode Ausdruck fuer Ausdruck durchlaufen:
-		for (int i = 0; i < lsSourceCode.size(); i++) {
-			ReturnValue<Object> returnObj = new ReturnValue<Object>(); //Rueckgabewert des Tokenizers.
+		for (int i = 0; true; i++) {
+			ReturnValue<TokenBuffer> expressionObj = pExpressionStreamObj.next();
+			if (expressionObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
+				//Es kam zu einem Fehler:
+				return expressionObj.getExecutionInformation();
+			}
+			if (expressionObj.getReturnValue() == null) {
+				//Alle Ausdruecke wurden durchlaufen:
+				break;
+			}
+			TokenBuffer tokensObj = expressionObj.getReturnValue(); //Speichert den aktuellen Ausdruck im Quellcode als Tokens.
 			
-			LinkedList<Token> lTokensObj = new LinkedList<Token>(); //Speichert den aktuellen Ausdruck im Quellcode als Tokens.
-			lTokensObj.addAll(tokenizerObj.tokenize(lsSourceCode.get(i)));
+			if (definedFunctionsObj != null && definedFunctionsObj[i] instanceof RuntimeException) {
+				//Beim Erzeugen der Funktion ist ein Fehler aufgetreten, welcher erst an dieser Stelle auftreten soll:
+				throw (RuntimeException)definedFunctionsObj[i];
+			}
+			if (definedFunctionsObj != null && definedFunctionsObj[i] != null) {
+				//Die Funktion wurde bereits erzeugt:
+				int nReturnValue = addFunction((Function)definedFunctionsObj[i]);
+				if (nReturnValue != ReturnValueTypes.SUCCESS) {
+					return nReturnValue;
+				}
+				continue;
+			}
 			
 			//Jeden Ausdruck in eine Funktion umwandeln:
-			Token tokenObj = lTokensObj.poll();
-			if (!tokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
+			if (tokensObj.size() < 2 || tokensObj.getKind(0) != TokenTypes.KIND_BRACKET_OPENED) {
 				//Der erste Token ist keien geoeffnete Klammer: Syntaxfehler
 				return ReturnValueTypes.ERROR_SYNTAX;
 			}
-			tokenObj = lTokensObj.poll();
-			if (tokenObj.getValue().equals(KeywordTypes.KEYWORD_DEFINE)) {
+			if (tokensObj.textEquals(1, KeywordTypes.KEYWORD_DEFINE)) {
 				//Neue Funktion wird definiert:
-				Function newFunctionObj = new Function(lTokensObj); //Speichert die Funktion.
-				//Herausfinden, ob eine Funktion mit demselben Namen bereits definiert wurde:
-				for (int j = 0; j < lFunctionsObj.size(); j++) {
-					if (lFunctionsObj.get(j).getName().equals(newFunctionObj.getName())) {
-						//Der Name der aktuellen Funktion wurde bereits durch eine andere Funktion registriert:
-						return ReturnValueTypes.ERROR_FUNCTION_NAME_IS_IDENTICAL;
-					}
+				int nReturnValue = addFunction(new Function(tokensObj, 2, tokensObj.size()));
+				if (nReturnValue != ReturnValueTypes.SUCCESS) {
+					return nReturnValue;
 				}
-				
-				lFunctionsObj.add(newFunctionObj);
 			}
-			else if (tokenObj.getValue().equals(KeywordTypes.KEYWORD_CLASS)) {
+			else if (tokensObj.textEquals(1, KeywordTypes.KEYWORD_CLASS)) {
 				//Neue Klasse wird definiert:
-				lClassesObj.add(new Class(lTokensObj));
+				Class classObj = new Class(tokensObj, 2, tokensObj.size());
+				classesObj.putIfAbsent(classObj.getName(), classObj); //Bei gleichnamigen Klassen wird weiterhin die erste verwendet.
 			}
-			else if (tokenObj.getValue().equals(KeywordTypes.KEYWORD_IMPORT)) {
+			else if (tokensObj.textEquals(1, KeywordTypes.KEYWORD_IMPORT)) {
 				//Es soll eine neue Quellcode-Datei importiert werden:
-				if (lTokensObj.peek().getType().equals(TokenTypes.TOKEN_STRING)) {
+				if (tokensObj.size() > 2 && tokensObj.getKind(2) == TokenTypes.KIND_STRING) {
 					//Naechster Token stellt einen String dar, der moeglicherweise den Namen der Quellcode-Datei darstellt:
 					try {
-						LinkedList<String> lsOldSourceCode = new LinkedList<String>(); //Speichert den alten Quellcode.
-						lsOldSourceCode.addAll(lsSourceCode);
-						lsSourceCode.clear();
-						int nReturnValue = extractSourceCode(lTokensObj.poll().getValue()); //Fuegt die neue Quellcode-Datei dieser Instanz des Interpreters hinzu.
+						int nReturnValue = extractSourceCode(tokensObj.getText(2)); //Fuegt die neue Quellcode-Datei dieser Instanz des Interpreters hinzu.
 						if (nReturnValue != ReturnValueTypes.SUCCESS) {
 							//Es ist ein Fehler aufgetreten:
 							return nReturnValue;
 						}
-						//Alten Quellcode wieder hinzufuegen:
-						lsSourceCode.clear();
-						lsSourceCode.addAll(lsOldSourceCode);
 					}
 					catch (StackOverflowError exceptionObj) {
 						//Es kam zu einem StackOverflowError -> Die "import"-Schluesselwoerter wurden fehlerhaft verwendet:
@@ -216,1115 +318,451 @@ public class Controller {
 			}
 		}
 		//Der Quellcode wurde erfolgreich zerteilt und dem Interpreter hinzugefuegt:
+		moduleLoaderObj.close();
 		return ReturnValueTypes.SUCCESS;
 	}
 	
-	
-	
 	/**
-	 * Diese Methode verarbeitet jeweils einen Ausdruck des Quellcodes. Dabei wird das Schluesselwort verwertet und dementsprechend
-	 * werden weiteren Schritte eingeleitet.
+	 * Diese Methode erzeugt die Funktionen aller Funktionsdefinitionen ("defun") der Datei gleichzeitig auf
+	 * mehreren Prozessorkernen. Die Tokens der Funktionsdefinitionen werden dabei (wie in extractExpressions())
+	 * lediglich als Bereich von der Funktion uebernommen, ohne kopiert zu werden. Die Funktionen werden erst anschliessend in
+	 * der Reihenfolge der Datei hinzugefuegt, sodass die Ueberpruefung der Funktionsnamen unveraendert bleibt.
+	 * Da bei LAZY_PARSING nur die Koepfe der Funktionen gelesen werden, lohnt sich die Verteilung nur, wenn die
+	 * Ausdruecke sofort in abstrakte Syntaxbaeume umgewandelt werden.
 	 * 
-	 * @param plTokensObj	Ausdruck im Quellcode, welcher verarbeitet werden soll als Liste von Tokens.
+	 * @param plExpressionsObj	Tokens jedes Ausdrucks der Datei.
+	 * @return					Funktion (bzw. aufgetretene RuntimeException) fuer jeden Ausdruck, null wenn es sich
+	 * 							um keine Funktionsdefinition handelt, oder null, wenn die Datei nicht gleichzeitig
+	 * 							verarbeitet werden soll.
 	 */
-	private ReturnValue<Object> process(LinkedList<Token> plTokensObj) {
-		//Ueberpruefen, ob gleich viele Klammern geoeffnet und geschlossen werden:
-		int nOpenBrackets = 0; //Speichert die Anzahl der geoeffneten Klammern.
-		int nCloseBrackets = 0; //Speichert die Anzahl der geschlossenen Klammern.
-		for (int i = 0; i < plTokensObj.size(); i++) {
-			if (plTokensObj.get(i).getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-				nOpenBrackets++;
-			}
-			else if (plTokensObj.get(i).getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-				nCloseBrackets++;
-			}
-		}
-		if (nOpenBrackets != nCloseBrackets) {
-			//Es wurden nicht gleich viele Klammern geoeffnet und geschlossen:
-			return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_SYNTAX);
+	private Object[] defineFunctions(LinkedList<TokenBuffer> plExpressionsObj) {
+		if (Function.LAZY_PARSING || !FileScanner.isParallel(plExpressionsObj.size())) {
+			//Die Funktionen werden beim Durchlaufen der Ausdruecke erzeugt:
+			return null;
 		}
 		
-		//Da ein Ausdruck in Lisp immer mit einer geoeffneten Klammer beginnt, kann diese entfernt werden:
-		if (!plTokensObj.poll().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-			//Das erste Element ist keine geoeffnete Klammer -> SYNTAX FEHLER:
-			return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_SYNTAX);
+		Object[] expressionsObj = plExpressionsObj.toArray();
+		Object[] definedFunctionsObj = new Object[expressionsObj.length];
+		Arrays.parallelSetAll(definedFunctionsObj, i -> {
+			TokenBuffer tokensObj = (TokenBuffer)expressionsObj[i];
+			if (tokensObj.size() < 3 || tokensObj.getKind(0) != TokenTypes.KIND_BRACKET_OPENED || !tokensObj.textEquals(1, KeywordTypes.KEYWORD_DEFINE)) {
+				//Es handelt sich um keine Funktionsdefinition:
+				return null;
+			}
+			try {
+				return new Function(tokensObj, 2, tokensObj.size());
+			}
+			catch (RuntimeException exceptionObj) {
+				//Der Fehler wird erst an der richtigen Stelle in der Reihenfolge der Datei geworfen:
+				return exceptionObj;
+			}
+		});
+		return definedFunctionsObj;
+	}
+	
+	/**
+	 * Diese Methode fuegt eine neue Funktion hinzu.
+	 * 
+	 * @param pFunctionObj	Funktion, welche hinzugefuegt werden soll.
+	 * @return				Fehlermeldung.
+	 */
+	private int addFunction(Function pFunctionObj) {
+		//Herausfinden, ob eine Funktion mit demselben Namen bereits definiert wurde:
+		if (functionsObj.putIfAbsent(pFunctionObj.getName(), pFunctionObj) != null) {
+			//Der Name der aktuellen Funktion wurde bereits durch eine andere Funktion registriert:
+			return ReturnValueTypes.ERROR_FUNCTION_NAME_IS_IDENTICAL;
 		}
-		
-		//Herausfinden, was der erste Token (Schluesselwort) darstellt:
-		Token firstTokenObj = new Token("", ""); //Speichert das Schluesselwort.
-		firstTokenObj = plTokensObj.poll();
-		
-		if (firstTokenObj.getType().equals(TokenTypes.TOKEN_KEYWORD)) {
-			//Der erste Token ist ein Schluesselwort (z.B. "setf"):
-			if (firstTokenObj.getValue().equals(KeywordTypes.KEYWORD_VAR)) {
-				//Es soll eine neue Variable deklariert werden:
-				Token variableName = new Token(null, null); //Speichert den Token des Variablennamens.
-				variableName = plTokensObj.poll();
-				if (variableName.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-					//Beim Variablennamen handelt es sich um einen Bezeichner:
-					boolean bVariableIsAddedSuccessfully = false; //Speichert, ob der Variablenname hinzugefuegt wurde.
-					Atom atom;
-					if (!plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-						//Die Variable soll ebenfalls instanziiert werden:
-						
-						Token variableValueObj = new Token(null, null); //Speichert den Wert der Variablen.
-						variableValueObj = plTokensObj.poll();
-						if (variableValueObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-							//Es handelt sich um eine Subrechnung:
-							LinkedList<Token> lCalculationTokensObj = new LinkedList<Token>();
-							lCalculationTokensObj.add(variableValueObj);
-							int nBracketsOpened = 1;
-							int nBracketsClosed = 0;
-							while (!plTokensObj.isEmpty()) {
-								Token currentTokenObj = plTokensObj.poll();
-								if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-									nBracketsClosed++;
-								}
-								else if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-									nBracketsOpened++;
-								}
-								lCalculationTokensObj.add(currentTokenObj);
-								if (nBracketsOpened == nBracketsClosed) {
-									//Tokens vollstaendig herausgefunden:
-									break;
-								}
-							}
-							ReturnValue<String> calculationReturn = new ReturnValue<String>(); //Speichert den Rueckgabewert der Rechnung.
-							calculationReturn = calculate(lCalculationTokensObj);
-							if (calculationReturn.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-								//Es ist ein Fehler aufgetreten:
-								return new ReturnValue<Object>(null, calculationReturn.getExecutionInformation());
-							}
-							atom = new Atom(variableName.getValue(), calculationReturn.getReturnValue(), TokenTypes.TOKEN_NUMBER);
-						}
-						else if (variableValueObj.getType().equals(TokenTypes.TOKEN_STRING) || variableValueObj.getType().equals(TokenTypes.TOKEN_NUMBER) || variableValueObj.getType().equals(TokenTypes.TOKEN_BOOLEAN)) {
-							//Es handelt sich um einen String oder eine Nummer oder einen Wahrheitswert:
-							atom = new Atom(variableName.getValue(), variableValueObj.getValue(), variableValueObj.getType());
-						}
-						else if (variableValueObj.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-							//Es handelt sich um einen Bezeichner (einer Variablen oder Funktion):
-							if (plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-								//Beim naechsten Token handelt es sich um eine geoeffnete Klammer (FUNKTIONSAUFRUF):
-								LinkedList<Token> lFunctionTokensObj = new LinkedList<Token>();
-								lFunctionTokensObj.add(variableValueObj);
-								while (!plTokensObj.isEmpty()) {
-									Token currentTokenObj = new Token(plTokensObj.peek().getValue(), plTokensObj.poll().getType());
-									lFunctionTokensObj.add(currentTokenObj);
-									if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-										//Parameter herausgefunden:
-										break;
-									}
-								}
-								ReturnValue<Token> functionReturnObj = new ReturnValue<Token>();
-								functionReturnObj = executeFunction(lFunctionTokensObj);
-								if (functionReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-									//Es ist ein Fehler aufgetreten:
-									return new ReturnValue<Object>(null, functionReturnObj.getExecutionInformation());
-								}
-								atom = new Atom(variableName.getValue(), functionReturnObj.getReturnValue().getValue(), functionReturnObj.getReturnValue().getType());
-							}
-							else {
-								//Es muss sich um eine Variable handeln:
-								ReturnValue<Atom> atomSearchQueryObj = new ReturnValue<Atom>();
-								atomSearchQueryObj = interpreterObj.searchAtom(variableValueObj.getValue());
-								if (atomSearchQueryObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-									//Es ist ein Fehler aufgeteten:
-									return new ReturnValue<Object>(null, atomSearchQueryObj.getExecutionInformation());
-								}
-								atom = new Atom(variableName.getValue(), atomSearchQueryObj.getReturnValue().getValue(), atomSearchQueryObj.getReturnValue().getType());
-							}
-						}
-						else {
-							//Es ist ein nicht angebrachter Token vorhanden -> SYNTAX FEHLER:
-							return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_SYNTAX);
-						}
-					}
-					else {
-						//Die Variable soll nicht initialisiert werden:
-						atom = new Atom(variableName.getValue(), "0.0", TokenTypes.TOKEN_NUMBER); //Neues Atom hat standartmaessig den Wert 0.0.
-					}
-					bVariableIsAddedSuccessfully = interpreterObj.addAtom(atom);
-					if (bVariableIsAddedSuccessfully) {
-						//Atom wurde erfolgreich hinzugefuegt:
-						return new ReturnValue<Object>(null, ReturnValueTypes.SUCCESS);
-					}
-					else {
-						//Es ist ein Fehler aufgetreten:
-						return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_VARIABLE_NAME_DOES_EXIST);
-					}
-				}
-				else {
-					//Beim Variablennamen handelt es sich nicht um einen Bezeichner -> SYNTAX FEHLER:
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_SYNTAX);
-				}
-			}
+		return ReturnValueTypes.SUCCESS;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode verarbeitet jeweils einen Ausdruck des Quellcodes. Dabei wird die Art des Knotens verwertet und
+	 * dementsprechend werden weiteren Schritte eingeleitet.
+	 * 
+	 * @param pExpressionObj	Ausdruck im Quellcode, welcher verarbeitet werden soll als abstrakter Syntaxbaum.
+	 * @throws InterpreterException	Es ist ein Fehler aufgetreten.
+	 * @throws FunctionReturn		Die Funktion soll ueber "return" beendet werden.
+	 */
+	void process(Node pExpressionObj) {
+		switch(pExpressionObj.getType()) {
+		case NodeTypes.NODE_ERROR:
+			//Der Ausdruck ist fehlerhaft:
+			throw new InterpreterException(pExpressionObj.getErrorCode());
 			
-			else if (firstTokenObj.getValue().equals(KeywordTypes.KEYWORD_SETF)) {
-				//Der Wert einer Variablen soll geaendert werden:
-				Token variableNameObj = new Token(null, null); //Speichert den Token des Variablennamens.
-				variableNameObj = plTokensObj.poll();
-				Token variableValueObj = new Token(null, null); //Speichert den neuen Wert der Variablen.
-				variableValueObj = plTokensObj.poll();
-				Atom newAtomObj;
-				if (variableValueObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					//Es handelt sich um eine Subrechnung:
-					LinkedList<Token> lCalculationTokensObj = new LinkedList<Token>();
-					lCalculationTokensObj.add(variableValueObj);
-					int nBracketsOpened = 1;
-					int nBracketsClosed = 0;
-					while (!plTokensObj.isEmpty()) {
-						Token currentTokenObj = plTokensObj.poll();
-						if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-							nBracketsClosed++;
-						}
-						else if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-							nBracketsOpened++;
-						}
-						lCalculationTokensObj.add(currentTokenObj);
-						if (nBracketsOpened == nBracketsClosed) {
-							//Tokens vollstaendig herausgefunden:
-							break;
-						}
-					}
-					ReturnValue<String> calculationReturn = new ReturnValue<String>(); //Speichert den Rueckgabewert der Rechnung.
-					calculationReturn = calculate(lCalculationTokensObj);
-					if (calculationReturn.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-						//Es ist ein Fehler aufgetreten:
-						return new ReturnValue<Object>(null, calculationReturn.getExecutionInformation());
-					}
-					newAtomObj = new Atom(variableNameObj.getValue(), calculationReturn.getReturnValue(), TokenTypes.TOKEN_NUMBER);
-				}
-				else if (variableValueObj.getType().equals(TokenTypes.TOKEN_STRING) || variableValueObj.getType().equals(TokenTypes.TOKEN_NUMBER) || variableValueObj.getType().equals(TokenTypes.TOKEN_BOOLEAN)) {
-					//Es handelt sich um einen String oder eine Nummer oder einen Wahrheitswert:
-					newAtomObj = new Atom(variableNameObj.getValue(), variableValueObj.getValue(), variableValueObj.getType());
-				}
-				else if (variableValueObj.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-					//Es handelt sich um einen Bezeichner (einer Variablen oder Funktion):
-					if (plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-						//Beim naechsten Token handelt es sich um eine geoeffnete Klammer (FUNKTIONSAUFRUF):
-						LinkedList<Token> lFunctionTokensObj = new LinkedList<Token>();
-						lFunctionTokensObj.add(variableValueObj);
-						while (!plTokensObj.isEmpty()) {
-							Token currentTokenObj = new Token(plTokensObj.peek().getValue(), plTokensObj.poll().getType());
-							lFunctionTokensObj.add(currentTokenObj);
-							if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-								//Parameter herausgefunden:
-								break;
-							}
-						}
-						ReturnValue<Token> functionReturnObj = new ReturnValue<Token>();
-						functionReturnObj = executeFunction(lFunctionTokensObj);
-						if (functionReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-							//Es ist ein Fehler aufgetreten:
-							return new ReturnValue<Object>(null, functionReturnObj.getExecutionInformation());
-						}
-						newAtomObj = new Atom(variableNameObj.getValue(), functionReturnObj.getReturnValue().getValue(), functionReturnObj.getReturnValue().getType());
-					}
-					else {
-						//Es muss sich um eine Variable handeln:
-						ReturnValue<Atom> atomSearchQueryObj = new ReturnValue<Atom>();
-						atomSearchQueryObj = interpreterObj.searchAtom(variableValueObj.getValue());
-						if (atomSearchQueryObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-							//Es ist ein Fehler aufgeteten:
-							return new ReturnValue<Object>(null, atomSearchQueryObj.getExecutionInformation());
-						}
-						newAtomObj = new Atom(variableNameObj.getValue(), atomSearchQueryObj.getReturnValue().getValue(), atomSearchQueryObj.getReturnValue().getType());
-					}
-				}
-				else {
-					//Es ist ein nicht angebrachter Token vorhanden -> SYNTAX FEHLER:
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_SYNTAX);
-				}
-				boolean bVariableIsChangedSuccessfully = false; //Speichert, ob der Wert der Variablen erfolgreich geaendert wurde.
-				bVariableIsChangedSuccessfully = interpreterObj.overrideAtom(newAtomObj);
-				if (bVariableIsChangedSuccessfully) {
-					//Wert wurde erfolgreich geaendert:
-					return new ReturnValue<Object>(null, ReturnValueTypes.SUCCESS);
-				}
-				else {
-					//Es ist ein Fehler aufgetreten:
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
-				}
+		case NodeTypes.NODE_BLOCK:
+			//Es handelt sich um eine Liste an Ausdruecken:
+			for (int i = 0; i < pExpressionObj.getChildAmount(); i++) {
+				process(pExpressionObj.getChild(i));
 			}
+			return;
 			
-			else if (firstTokenObj.getValue().equals(KeywordTypes.KEYWORD_PRINT)) {
-				Token printTokenObj = new Token(null, null); //Speichert den Token, welcher ausgegeben werden soll.
-				printTokenObj = plTokensObj.poll();
-				String sPrint = ""; //Speichert den Inhalt, welcher in der Konsole ausgegeben werden soll.
-				if (printTokenObj.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-					//Es handelt sich um einen Bezeichner (einer Variablen oder Funktion):
-					if (plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-						//Beim naechsten Token handelt es sich um eine geoeffnete Klammer (FUNKTIONSAUFRUF):
-						LinkedList<Token> lFunctionTokensObj = new LinkedList<Token>();
-						lFunctionTokensObj.add(printTokenObj);
-						while (!plTokensObj.isEmpty()) {
-							Token currentTokenObj = new Token(plTokensObj.peek().getValue(), plTokensObj.poll().getType());
-							lFunctionTokensObj.add(currentTokenObj);
-							if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-								//Parameter herausgefunden:
-								break;
-							}
-						}
-						ReturnValue<Token> functionReturnObj = new ReturnValue<Token>();
-						functionReturnObj = executeFunction(lFunctionTokensObj);
-						if (functionReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-							//Es ist ein Fehler aufgetreten:
-							return new ReturnValue<Object>(null, functionReturnObj.getExecutionInformation());
-						}
-						sPrint = functionReturnObj.getReturnValue().getValue();
-					}
-					else {
-						//Es muss sich um eine Variable handeln:
-						ReturnValue<Atom> atomSearchQueryObj = new ReturnValue<Atom>();
-						atomSearchQueryObj = interpreterObj.searchAtom(printTokenObj.getValue());
-						if (atomSearchQueryObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-							//Es ist ein Fehler aufgeteten:
-							return new ReturnValue<Object>(null, atomSearchQueryObj.getExecutionInformation());
-						}
-						sPrint = atomSearchQueryObj.getReturnValue().getValue();
-					}
-				}
-				else if (printTokenObj.getType().equals(TokenTypes.TOKEN_STRING)) {
-					//Es handelt sich um einen String:
-					sPrint = printTokenObj.getValue();
-				}
-				else if (printTokenObj.getType().equals(TokenTypes.TOKEN_NUMBER) || printTokenObj.getType().equals(TokenTypes.TOKEN_BOOLEAN)) {
-					//Es handelt sich um eine Zahl oder einen Wahrheitswert:
-					sPrint = printTokenObj.getValue();
-				}
-				else if (printTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					//Es handelt sich um eine Rechnung:
-					ReturnValue<String> calculateReturn = new ReturnValue<String>(); //Speichert das Ergebnis der Rechnung.
-					//Tokens heraussuchen, die zur Rechnung gehoeren:
-					LinkedList<Token> lTokensCalculationObj = new LinkedList<Token>(); //Speichert die Tokens, die zur Rechnung gehoeren.
-					lTokensCalculationObj.add(printTokenObj);
-					int nBracketsOpened = 1; //Speichert die Anzahl der geoeffneten Klammern.
-					int nBracketsClosed = 0; //Speichert die Anzahl der geschlossenen Klammern.
-					while (plTokensObj.size() != 0) {
-						Token currentTokenObj = plTokensObj.poll();
-						if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-							//Es wurde eine Klammer geoeffnet:
-							nBracketsOpened++;
-						}
-						else if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-							//Es wurde eine Klammer geschlossen:
-							nBracketsClosed++;
-						}
-						lTokensCalculationObj.add(currentTokenObj);
-						if (nBracketsOpened == nBracketsClosed) {
-							//Es wurde gleich viele Klammern geoeffnet und geschlossen:
-							break; //Schleife beenden.
-						}
-					}
-					calculateReturn = calculate(lTokensCalculationObj);
-					if (calculateReturn.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-						//Es ist ein Fehler aufgetreten:
-						return new ReturnValue<Object>(null, calculateReturn.getExecutionInformation());
-					}
-					sPrint = calculateReturn.getReturnValue();
-				}
-				else {
-					//Es handelt sich um einen unangebrachten Token -> SYNTAX FEHLER:
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_SYNTAX);
-				}
-				
-				//String in der Konsole ausgeben:
-				ReturnValue<Object> printReturnObj = printString(sPrint, false);
-				if (printReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-					return printReturnObj;
-				}
+		case NodeTypes.NODE_VAR:
+			//Es soll eine neue Variable deklariert werden:
+			Value variableValueObj;
+			if (pExpressionObj.getChildAmount() != 0) {
+				//Die Variable soll ebenfalls instanziiert werden:
+				variableValueObj = evaluate(pExpressionObj.getChild(0));
 			}
-			
-			else if (firstTokenObj.getValue().equals(KeywordTypes.KEYWORD_PRINTLN)) {
-				Token printTokenObj = new Token(null, null); //Speichert den Token, welcher ausgegeben werden soll.
-				printTokenObj = plTokensObj.poll();
-				String sPrint = ""; //Speichert den Inhalt, welcher in der Konsole ausgegeben werden soll.
-				if (printTokenObj.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-					//Es handelt sich um einen Bezeichner (einer Variablen oder Funktion):
-					if (plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-						//Beim naechsten Token handelt es sich um eine geoeffnete Klammer (FUNKTIONSAUFRUF):
-						LinkedList<Token> lFunctionTokensObj = new LinkedList<Token>();
-						lFunctionTokensObj.add(printTokenObj);
-						while (!plTokensObj.isEmpty()) {
-							Token currentTokenObj = new Token(plTokensObj.peek().getValue(), plTokensObj.poll().getType());
-							lFunctionTokensObj.add(currentTokenObj);
-							if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-								//Parameter herausgefunden:
-								break;
-							}
-						}
-						ReturnValue<Token> functionReturnObj = new ReturnValue<Token>();
-						functionReturnObj = executeFunction(lFunctionTokensObj);
-						if (functionReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-							//Es ist ein Fehler aufgetreten:
-							return new ReturnValue<Object>(null, functionReturnObj.getExecutionInformation());
-						}
-						sPrint = functionReturnObj.getReturnValue().getValue();
-					}
-					else {
-						//Es muss sich um eine Variable handeln:
-						ReturnValue<Atom> atomSearchQueryObj = new ReturnValue<Atom>();
-						atomSearchQueryObj = interpreterObj.searchAtom(printTokenObj.getValue());
-						if (atomSearchQueryObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-							//Es ist ein Fehler aufgeteten:
-							return new ReturnValue<Object>(null, atomSearchQueryObj.getExecutionInformation());
-						}
-						sPrint = atomSearchQueryObj.getReturnValue().getValue();
-					}
-				}
-				else if (printTokenObj.getType().equals(TokenTypes.TOKEN_STRING)) {
-					//Es handelt sich um einen String:
-					sPrint = printTokenObj.getValue();
-				}
-				else if (printTokenObj.getType().equals(TokenTypes.TOKEN_NUMBER) || printTokenObj.getType().equals(TokenTypes.TOKEN_BOOLEAN)) {
-					//Es handelt sich um eine Zahl oder einen Wahrheitswert:
-					sPrint = printTokenObj.getValue();
-				}
-				else if (printTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					//Es handelt sich um eine Rechnung:
-					ReturnValue<String> calculateReturn = new ReturnValue<String>(); //Speichert das Ergebnis der Rechnung.
-					//Tokens heraussuchen, die zur Rechnung gehoeren:
-					LinkedList<Token> lTokensCalculationObj = new LinkedList<Token>(); //Speichert die Tokens, die zur Rechnung gehoeren.
-					lTokensCalculationObj.add(printTokenObj);
-					int nBracketsOpened = 1; //Speichert die Anzahl der geoeffneten Klammern.
-					int nBracketsClosed = 0; //Speichert die Anzahl der geschlossenen Klammern.
-					while (plTokensObj.size() != 0) {
-						Token currentTokenObj = plTokensObj.poll();
-						if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-							//Es wurde eine Klammer geoeffnet:
-							nBracketsOpened++;
-						}
-						else if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-							//Es wurde eine Klammer geschlossen:
-							nBracketsClosed++;
-						}
-						lTokensCalculationObj.add(currentTokenObj);
-						if (nBracketsOpened == nBracketsClosed) {
-							//Es wurde gleich viele Klammern geoeffnet und geschlossen:
-							break; //Schleife beenden.
-						}
-					}
-					calculateReturn = calculate(lTokensCalculationObj);
-					if (calculateReturn.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-						//Es ist ein Fehler aufgetreten:
-						return new ReturnValue<Object>(null, calculateReturn.getExecutionInformation());
-					}
-					sPrint = calculateReturn.getReturnValue();
-				}
-				else {
-					//Es handelt sich um einen unangebrachten Token -> SYNTAX FEHLER:
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_SYNTAX);
-				}
-				
-				//String in der Konsole ausgeben:
-				ReturnValue<Object> printReturnObj = printString(sPrint, true);
-				if (printReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-					return printReturnObj;
-				}
+			else {
+				//Die Variable soll nicht initialisiert werden:
+				variableValueObj = new Value("0.0", TokenTypes.KIND_NUMBER); //Neue Variable hat standartmaessig den Wert 0.0.
 			}
-			
-			else if (firstTokenObj.getValue().equals(KeywordTypes.KEYWORD_SCAN)) {
-				//Die eingabe des Benutzers soll eingelesen werden:
-				Token variableObj = plTokensObj.poll(); //Speichert den Bezeichner der Variablen, in der die Eingabe gespeichert werden soll.
-				if (!variableObj.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-					//FEHLER: Es handelt sich nicht um einen gueltigen Bezeichner:
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
-				}
-				Scanner inputScannerObj = new Scanner(System.in); //Liest die Eingabe des Benutzers.
-				String sInput = ""; //Speichert die Eingabe des Benutzers.
-				if (inputScannerObj.hasNext()) {
-					sInput = inputScannerObj.nextLine(); //Liest die Eingabe des Benutzers.
-				}
-				else {
-					inputScannerObj.close();
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_UNKNOWN);
-				}
-				//Scanner nicht schliessen, da es sonst zu einem Fehler kommt: java.util.nosuchelementexception
-				//inputScannerObj.close();
-				Atom newVariableValueObj;
-				if (isNumber(sInput)) {
-					//Bei der Eingabe handelt es sich um eine Zahl:
-					newVariableValueObj = new Atom(variableObj.getValue(), sInput, TokenTypes.TOKEN_NUMBER);
-				}
-				else if (sInput.equals(KeywordTypes.BOOLEAN_T) || sInput.equals(KeywordTypes.BOOLEAN_F)) {
-					//Bei der Eingabe handelt es sich um einen Wahrheitswert:
-					newVariableValueObj = new Atom(variableObj.getValue(), sInput, TokenTypes.TOKEN_BOOLEAN);
-				}
-				else {
-					//Bei der Eingabe handelt es sich um einen String:
-					newVariableValueObj = new Atom(variableObj.getValue(), sInput, TokenTypes.TOKEN_STRING);
-				}
-				boolean bOverwrittenAtom = interpreterObj.overrideAtom(newVariableValueObj); //Gibt an, ob der Wert des Atoms erfolgreich geaendert wurde.
-				if (!bOverwrittenAtom) {
-					//Es ist ein Fehler aufgetreten:
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
-				}
+			if (pExpressionObj.getSlot() == Node.SLOT_DUPLICATE) {
+				//Der Bezeichner wird bereits von einer anderen Variablen verwendet:
+				throw new InterpreterException(ReturnValueTypes.ERROR_VARIABLE_NAME_DOES_EXIST);
 			}
+			interpreterObj.setVariable(pExpressionObj.getSlot(), variableValueObj);
+			return;
 			
-			else if (firstTokenObj.getValue().equals(KeywordTypes.KEYWORD_IF)) {
-				//Es handelt sich um eine if-Verzweigung:
-				LinkedList<Token> lConditionObj = new LinkedList<Token>(); //Speichert die Bedingung der Verzweigung.
-				LinkedList<Token> lExpressionObj = new LinkedList<Token>(); //Speichert die Anweisungen.
-				int nBracketsClosed = 0;
-				int nBracketsOpened = 0;
-				if (!plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					//Die Bedingung der Verzweigun ist fehlerhaft angegeben -> SYNTAX FEHLER:
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_SYNTAX);
-				}
-				//Bedingung der Verzweigung herausfinden:
-				while (!plTokensObj.isEmpty()) {
-					if (plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-						//Geschlossene Klammer:
-						nBracketsClosed++;
-					}
-					else if (plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-						//Geschlossene Klammer:
-						nBracketsOpened++;
-					}
-					lConditionObj.add(plTokensObj.poll());
-					if (nBracketsClosed == nBracketsOpened) {
-						//Es wurden gleich viele Klammern geoeffnet und geschlossen:
-						break;
-					}
-				}
-				//Anweisungen der Verzweigung herausfinden:
-				nBracketsClosed = 0;
-				nBracketsOpened = 0;
-				while (!plTokensObj.isEmpty()) {
-					Token currentToken = new Token(plTokensObj.peek().getValue(), plTokensObj.poll().getType());
-					if (currentToken.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-						//Geschlossene Klammer:
-						nBracketsClosed++;
-					}
-					else if (currentToken.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-						//Geschlossene Klammer:
-						nBracketsOpened++;
-					}
-					lExpressionObj.add(currentToken);
-					if (nBracketsClosed == nBracketsOpened) {
-						//Es wurden gleich viele Klammern geoeffnet und geschlossen:
-						break;
-					}
-				}
-				//Anweisungen der else-Verzweigung herausfinden:
-				nBracketsClosed = 0;
-				nBracketsOpened = 0;
-				LinkedList<Token> lElseStatementObj = new LinkedList<Token>();
-				if (plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					//Es existiert eien else-Verzweigung:
-					nBracketsClosed = 0;
-					nBracketsOpened = 0;
-					while (!plTokensObj.isEmpty()) {
-						Token currentToken = new Token(plTokensObj.peek().getValue(), plTokensObj.poll().getType());
-						if (currentToken.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-							//Geschlossene Klammer:
-							nBracketsClosed++;
-						}
-						else if (currentToken.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-							//Geschlossene Klammer:
-							nBracketsOpened++;
-						}
-						lElseStatementObj.add(currentToken);
-						if (nBracketsClosed == nBracketsOpened) {
-							//Es wurden gleich viele Klammern geoeffnet und geschlossen:
-							break;
-						}
-					}
-					
-				}
-				ReturnValue<Object> ifReturn = new ReturnValue<Object>(); //Speichert den Rueckgabewert der if-Verzweigung.
-				
-				//Zum Vorbeugen eines Stackoverflowerrors:
-				try {
-					ifReturn = ifStatement(lConditionObj, lExpressionObj, lElseStatementObj);
-				}
-				catch (StackOverflowError exception) {
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_STACK_OVERFLOW);
-				}
-				
-				if (ifReturn.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-					//Es ist ein Fehler aufgetreten:
-					return new ReturnValue<Object>(null, ifReturn.getExecutionInformation());
-				}
-			}
+		case NodeTypes.NODE_SETF:
+			//Der Wert einer Variablen soll geaendert werden:
+			Value newValueObj = evaluate(pExpressionObj.getChild(0)); //Speichert den neuen Wert der Variablen.
+			if (pExpressionObj.getSlot() == Node.SLOT_UNKNOWN) {
+				//Die Variable existiert nicht:
+				throw new InterpreterException(ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
+			}
+			interpreterObj.setVariable(pExpressionObj.getSlot(), newValueObj);
+			return;
 			
-			else if (firstTokenObj.getValue().equals(KeywordTypes.KEYWORD_WHILE)) {
-				//Es handelt sich um eine while-Schleife:
-				LinkedList<Token> lConditionObj = new LinkedList<Token>(); //Speichert die Bedingung der Schleife.
-				LinkedList<Token> lExpressionObj = new LinkedList<Token>(); //Speichert die Anweisungen.
-				int nBracketsClosed = 0;
-				int nBracketsOpened = 0;
-				if (!plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					//Die Bedingung der Schleife ist fehlerhaft angegeben -> SYNTAX FEHLER:
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_SYNTAX);
-				}
-				//Bedingung der Schleife herausfinden:
-				while (!plTokensObj.isEmpty()) {
-					if (plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-						//Geschlossene Klammer:
-						nBracketsClosed++;
-					}
-					else if (plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-						//Geschlossene Klammer:
-						nBracketsOpened++;
-					}
-					lConditionObj.add(plTokensObj.poll());
-					if (nBracketsClosed == nBracketsOpened) {
-						//Es wurden gleich viele Klammern geoeffnet und geschlossen:
-						break;
-					}
-				}
-				//Anweisungen der Schleife herausfinden:
-				nBracketsClosed = 0;
-				nBracketsOpened = 0;
-				while (!plTokensObj.isEmpty()) {
-					Token currentToken = new Token(plTokensObj.peek().getValue(), plTokensObj.poll().getType());
-					if (currentToken.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-						//Geschlossene Klammer:
-						nBracketsClosed++;
-					}
-					else if (currentToken.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-						//Geschlossene Klammer:
-						nBracketsOpened++;
-					}
-					lExpressionObj.add(currentToken);
-					if (nBracketsClosed == nBracketsOpened) {
-						//Es wurden gleich viele Klammern geoeffnet und geschlossen:
-						break;
-					}
-				}
-				ReturnValue<Object> ifReturn = new ReturnValue<Object>(); //Speichert den Rueckgabewert der while-Schleife.
-				ifReturn = whileLoop(lConditionObj, lExpressionObj);
-				if (ifReturn.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-					//Es ist ein Fehler aufgetreten:
-					return new ReturnValue<Object>(null, ifReturn.getExecutionInformation());
-				}
-			}
+		case NodeTypes.NODE_PRINT:
+		case NodeTypes.NODE_PRINTLN:
+			//Es soll ein Wert in der Konsole ausgegeben werden:
+			Value printValueObj = evaluate(pExpressionObj.getChild(0)); //Speichert den Wert, welcher ausgegeben werden soll.
+			printString(printValueObj.getText(), pExpressionObj.getType() == NodeTypes.NODE_PRINTLN);
+			return;
 			
-			else if (firstTokenObj.getValue().equals(KeywordTypes.KEYWORD_RETURN)) {
-				//Der aktuelle Funktionsaufruf soll beendet werden:
-				Token returnValueObj;
-				//Herausfinden, um welchen Wert es sich beim Rueckgabewert handelt:
-				Token nextTokenObj = plTokensObj.poll();
-				if (nextTokenObj.getType().equals(TokenTypes.TOKEN_NUMBER) || nextTokenObj.getType().equals(TokenTypes.TOKEN_STRING) || nextTokenObj.getType().equals(TokenTypes.TOKEN_BOOLEAN)) {
-					//Es handelt sich um eine Zahl, einen String, oder einen Wahrheitswert:
-					returnValueObj = new Token(nextTokenObj.getValue(), nextTokenObj.getType());
-					functionReturnValueObj = returnValueObj;
-					return new ReturnValue<Object>(null, ReturnValueTypes.SUCCESS);
-				}
-				else if (nextTokenObj.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-					//Es handelt sich um einen Bezeichner (einer Variablen oder Funktion):
-					if (plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-						//Beim naechsten Token handelt es sich um eine geoeffnete Klammer (FUNKTIONSAUFRUF):
-						LinkedList<Token> lFunctionTokensObj = new LinkedList<Token>();
-						lFunctionTokensObj.add(nextTokenObj);
-						while (!plTokensObj.isEmpty()) {
-							Token currentTokenObj = new Token(plTokensObj.peek().getValue(), plTokensObj.poll().getType());
-							lFunctionTokensObj.add(currentTokenObj);
-							if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-								//Parameter herausgefunden:
-								break;
-							}
-						}
-						ReturnValue<Token> functionReturnObj = new ReturnValue<Token>();
-						functionReturnObj = executeFunction(lFunctionTokensObj);
-						if (functionReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-							//Es ist ein Fehler aufgetreten:
-							return new ReturnValue<Object>(null, functionReturnObj.getExecutionInformation());
-						}
-						functionReturnValueObj = functionReturnObj.getReturnValue();
-					}
-					else {
-						//Es muss sich um eine Variable handeln:
-						ReturnValue<Atom> atomSearchQueryObj = new ReturnValue<Atom>();
-						atomSearchQueryObj = interpreterObj.searchAtom(nextTokenObj.getValue());
-						if (atomSearchQueryObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-							//Es ist ein Fehler aufgeteten:
-							return new ReturnValue<Object>(null, atomSearchQueryObj.getExecutionInformation());
-						}
-						returnValueObj = new Token(atomSearchQueryObj.getReturnValue().getValue(), atomSearchQueryObj.getReturnValue().getType());
-						functionReturnValueObj = returnValueObj;
-						return new ReturnValue<Object>(null, ReturnValueTypes.SUCCESS);
-					}
-				}
-				else if (nextTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					//Es handelt sich um eine Rechnung:
-					LinkedList<Token> lCalculationTokensObj = new LinkedList<Token>();
-					lCalculationTokensObj.add(nextTokenObj);
-					int nBracketsClosed = 0;
-					int nBracketsOpened = 1;
-					while (!plTokensObj.isEmpty()) {
-						Token currentTokenObj = new Token(plTokensObj.peek().getValue(), plTokensObj.poll().getType());
-						if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-							nBracketsClosed++;
-						}
-						else if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-							nBracketsOpened++;
-						}
-						lCalculationTokensObj.add(currentTokenObj);
-						if (nBracketsOpened == nBracketsClosed) {
-							//Tokens wurden vollstaendig herausgefunden:
-							break;
-						}
-					}
-					ReturnValue<String> calculateReturnObj = new ReturnValue<String>();
-					calculateReturnObj = calculate(lCalculationTokensObj);
-					if (calculateReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-						//Es ist ein Fehler aufgetreten:
-						return new ReturnValue<Object>(null, calculateReturnObj.getExecutionInformation());
-					}
-					returnValueObj = new Token(calculateReturnObj.getReturnValue(), TokenTypes.TOKEN_NUMBER);
-					functionReturnValueObj = returnValueObj;
-					return new ReturnValue<Object>(null, ReturnValueTypes.INFO_FUNCTION_RETURN);
-				}
-				
-				else {
-					//Unbekannter Token
-					returnValueObj = new Token("0.00", TokenTypes.TOKEN_NUMBER);
-					functionReturnValueObj = returnValueObj;
-					return new ReturnValue<Object>(null, ReturnValueTypes.INFO_FUNCTION_RETURN);
-				}
+		case NodeTypes.NODE_SCAN:
+			//Die eingabe des Benutzers soll eingelesen werden:
+			Scanner inputScannerObj = new Scanner(System.in); //Liest die Eingabe des Benutzers.
+			String sInput = ""; //Speichert die Eingabe des Benutzers.
+			if (inputScannerObj.hasNext()) {
+				sInput = inputScannerObj.nextLine(); //Liest die Eingabe des Benutzers.
 			}
-			
 			else {
-				//Unbekanntes Schluesselwort -> FEHLER:
-				return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_UNKNOWN_TOKEN);
+				inputScannerObj.close();
+				throw new InterpreterException(ReturnValueTypes.ERROR_UNKNOWN);
 			}
-			
-			//Ueberpruefen, ob noch weitere Tokens in der Liste vorhanden sind:
-			if (plTokensObj.peek() != null && !plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-				//Es kommen noch weitere Tokens vor, bei welchen es sich nicht um geschlossene Klammern handelt (SYNTAXFEHLER):
-				return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_SYNTAX);
+			//Scanner nicht schliessen, da es sonst zu einem Fehler kommt: java.util.nosuchelementexception
+			//inputScannerObj.close();
+			Value newVariableValueObj;
+			if (isNumber(sInput)) {
+				//Bei der Eingabe handelt es sich um eine Zahl:
+				newVariableValueObj = new Value(sInput, TokenTypes.KIND_NUMBER);
 			}
-		}
-		else if (firstTokenObj.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-			//Der erste Token ist ein Bezeichner -> Aufruf einer Funktion, oder Deklaration eines Objektes einer Klasse:
+			else if (sInput.equals(KeywordTypes.BOOLEAN_T) || sInput.equals(KeywordTypes.BOOLEAN_F)) {
+				//Bei der Eingabe handelt es sich um einen Wahrheitswert:
+				newVariableValueObj = new Value(sInput, TokenTypes.KIND_BOOLEAN);
+			}
+			else {
+				//Bei der Eingabe handelt es sich um einen String:
+				newVariableValueObj = new Value(sInput, TokenTypes.KIND_STRING);
+			}
+			if (pExpressionObj.getSlot() == Node.SLOT_UNKNOWN) {
+				//Die Variable existiert nicht:
+				throw new InterpreterException(ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
+			}
+			interpreterObj.setVariable(pExpressionObj.getSlot(), newVariableValueObj);
+			return;
 			
-			if (plTokensObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-				//Es handelt sich um eine Funktion:
-				
-				//Funktions (inkl. Parameter) herausfinden:
-				LinkedList<Token> lFunctionObj = new LinkedList<Token>();
-				lFunctionObj.add(firstTokenObj);
-				int nBracketsOpened = 0;
-				int nBracketsClosed = 0;
-				while (!plTokensObj.isEmpty()) {
-					Token currentTokenObj = plTokensObj.poll();
-					if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-						nBracketsClosed++;
-					}
-					else if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-						nBracketsOpened++;
-					}
-					lFunctionObj.add(currentTokenObj);
-					if ((nBracketsOpened != 0 && nBracketsClosed != 0) && (nBracketsOpened == nBracketsClosed)) {
-						//Funktionsaufruf herausgefiltert:
-						break;
-					}
-				}
-				
-				//Funktion aufrufen:
-				ReturnValue<Token> functionReturnObj = new ReturnValue<Token>();
-				functionReturnObj = executeFunction(lFunctionObj);
-				if (functionReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-					//Es ist ein Fehler aufgetreten:
-					return new ReturnValue<Object>(null, functionReturnObj.getExecutionInformation());
-				}
+		case NodeTypes.NODE_IF:
+			//Es handelt sich um eine if-Verzweigung:
+			//Zum Vorbeugen eines Stackoverflowerrors:
+			try {
+				ifStatement(pExpressionObj);
+				return;
+			}
+			catch (StackOverflowError exception) {
+				throw new InterpreterException(ReturnValueTypes.ERROR_STACK_OVERFLOW);
 			}
 			
-			else {
-				//Es handelt sich um die instanziierung eines neuen Objektes.
-				
-				//Herausfinden, ob Klasse existiert:
-				String sClassName = firstTokenObj.getValue(); //Speichert den Bezeichner der Klasse, dessen Objekt instanziiert werden soll.
-				Class classTypeObj;
-				boolean bClassAvailable = false;
-				for (int i = 0; i < lClassesObj.size(); i++) {
-					if (lClassesObj.get(i).getName().equals(sClassName)) {
-						//Klasse existiert:
-						bClassAvailable = true;
-						classTypeObj = new Class(lClassesObj.get(i).getClassTokens());
-						break;
-					}
-				}
-				
-				if (!bClassAvailable) {
-					//Klasse existiert nicht:
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_UNKNOWN_CLASS);
+		case NodeTypes.NODE_WHILE:
+			//Es handelt sich um eine while-Schleife:
+			whileLoop(pExpressionObj);
+			return;
+			
+		case NodeTypes.NODE_RETURN:
+			//Der aktuelle Funktionsaufruf soll beendet werden:
+			if (pExpressionObj.getChildAmount() != 0) {
+				Node returnValueObj = pExpressionObj.getChild(0); //Speichert den Rueckgabewert als abstrakten Syntaxbaum.
+				if (returnValueObj.getType() == NodeTypes.NODE_CALL && resolveTarget(returnValueObj) instanceof Function) {
+					//Endaufruf: Die Funktion wird erst nach dem Verlassen des aktuellen Rahmens aufgerufen (siehe callFunction()):
+					interpreterObj.setTailCall((Function)returnValueObj.getTarget(), evaluateParameters(returnValueObj));
 				}
 				else {
-					//Objekt "muss" instanziiert werden, da der JAVA-Compiler sonst einen Fehler ausgibt, wenn das Objekt der Lisp-Klasse
-					//instanziiert wird. Eigentlich, sollte es dazu aber nicht kommen, da das Objekt classTypeObj instanziiert wird, wenn
-					//der Klassentyp gefunden wird...
-					//Machste nix nh... \(*_*)/
-					classTypeObj = new Class(lClassesObj.peek().getClassTokens());
-				}
-				
-				//Herausfinden, ob Instanzbezeichner verfuegbar ist:
-				String sInstanceName = plTokensObj.poll().getValue(); //Speichert den Instanznamen des Objektes.
-				ReturnValue<Atom> atomSearchQueryObj = new ReturnValue<Atom>();
-				atomSearchQueryObj = interpreterObj.searchAtom(sInstanceName);
-				if (atomSearchQueryObj.getExecutionInformation() == ReturnValueTypes.SUCCESS) {
-					//Bezeichner existiert bereits als Variablenbezeichner:
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_INSTANCE_NAME_DOES_EXIST);
-				}
-				for (int i = 0; i < lFunctionsObj.size(); i++) {
-					if (lFunctionsObj.get(i).getName().equals(sInstanceName)) {
-						//Bezeichner existiert als Funktionsname:
-						return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_INSTANCE_NAME_DOES_EXIST);
-					}
-				}
-				for (int i = 0; i < lClassesObj.size(); i++) {
-					if (lClassesObj.get(i).getName().equals(sInstanceName)) {
-						//Bezeichner existiert als Klassename:
-						return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_INSTANCE_NAME_CANNOT_BE_CLASS_NAME);
-					}
+					//Der Rueckgabewert wird im Rahmen der Funktion gespeichert:
+					interpreterObj.setReturnValue(evaluate(returnValueObj));
 				}
-				for (int i = 0; i < lClassInstancesObj.size(); i++) {
-					if (lClassInstancesObj.get(i).getName().equals(sInstanceName)) {
-						//Bezeichner existiert bereits als Instanzname:
-						return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_INSTANCE_NAME_DOES_EXIST);
-					}
-				}
-				
-				//Instanzname kann vergeben werden:
-				lClassInstancesObj.add(new ClassInstance(classTypeObj));
-				//System.out.println("[DEBUG]: New instance of \"" + sClassName + "\" named \"" + sInstanceName + "\" created.");
 			}
+			throw FunctionReturn.SIGNAL;
 			
+		case NodeTypes.NODE_CALL:
+			//Es handelt sich um den Aufruf einer Funktion:
+			executeFunction(pExpressionObj);
+			return;
+			
+		case NodeTypes.NODE_INSTANTIATION:
+			//Es handelt sich um die instanziierung eines neuen Objektes.
+			//Herausfinden, ob Klasse existiert:
+			String sClassName = pExpressionObj.getValue(); //Speichert den Bezeichner der Klasse, dessen Objekt instanziiert werden soll.
+			Class classDefinitionObj = classesObj.get(sClassName);
+			if (classDefinitionObj == null) {
+				//Klasse existiert nicht:
+				throw new InterpreterException(ReturnValueTypes.ERROR_UNKNOWN_CLASS);
+			}
+			Class classTypeObj = new Class(classDefinitionObj);
+			
+			//Herausfinden, ob Instanzbezeichner verfuegbar ist:
+			if (pExpressionObj.getChildAmount() == 0) {
+				//Es ist kein Instanzname angegeben -> SYNTAX FEHLER:
+				throw new InterpreterException(ReturnValueTypes.ERROR_SYNTAX);
+			}
+			String sInstanceName = pExpressionObj.getChild(0).getValue(); //Speichert den Instanznamen des Objektes.
+			if (pExpressionObj.getChild(0).getSlot() != Node.SLOT_UNKNOWN) {
+				//Bezeichner existiert bereits als Variablenbezeichner:
+				throw new InterpreterException(ReturnValueTypes.ERROR_INSTANCE_NAME_DOES_EXIST);
+			}
+			if (functionsObj.containsKey(sInstanceName)) {
+				//Bezeichner existiert als Funktionsname:
+				throw new InterpreterException(ReturnValueTypes.ERROR_INSTANCE_NAME_DOES_EXIST);
+			}
+			if (classesObj.containsKey(sInstanceName)) {
+				//Bezeichner existiert als Klassename:
+				throw new InterpreterException(ReturnValueTypes.ERROR_INSTANCE_NAME_CANNOT_BE_CLASS_NAME);
+			}
+			if (classInstancesObj.containsKey(sInstanceName)) {
+				//Bezeichner existiert bereits als Instanzname:
+				throw new InterpreterException(ReturnValueTypes.ERROR_INSTANCE_NAME_DOES_EXIST);
+			}
+			
+			//Instanzname kann vergeben werden:
+			classInstancesObj.put(sInstanceName, new ClassInstance(classTypeObj));
+			//System.out.println("[DEBUG]: New instance of \"" + sClassName + "\" named \"" + sInstanceName + "\" created.");
+			return;
+			
+		default:
+			//Der Ausdruck ist kein Schluesselwort und kein Funktionsaufruf -> SYNTAX FEHLER:
+			throw new InterpreterException(ReturnValueTypes.ERROR_SYNTAX);
 		}
-		else {
-			//Der erste Token ist kein Schluesselwort und kein Bezeichner -> SYNTAX FEHLER:
-			return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_SYNTAX);
-		}
-		return new ReturnValue<Object>(null, ReturnValueTypes.SUCCESS);
 	}
 	
 	
 	
 	/**
-	 * Diese Funktion fuehrt eine Funktion in Lisp aus, dazu werden ihr der Bezeichner und die Parameter - wie diese
-	 * im Quellcode vorkommen ( z.B. sin(15) ) uebergeben.
+	 * Diese Methode wertet einen Wert aus (z.B. den Wert einer Variablen, einen Parameter oder einen Operanden) und
+	 * gibt diesen zurueck.
 	 * 
-	 * @param plTokensObj	Tokens des Funktionsaufrufes.
-	 * @return				Rueckgabewert der Funktion, falls vorhanden.
+	 * @param pValueObj	Wert als abstrakter Syntaxbaum.
+	 * @return			Ausgewerteter Wert.
+	 * @throws InterpreterException	Es ist ein Fehler aufgetreten.
 	 */
-	private ReturnValue<Token> executeFunction(LinkedList<Token> plTokensObj) {
-		//Herausfinden, ob die Funktion existiert:
-		boolean bFunctionIsPreDefined = false; //Gibt an, ob es sich um eine vordefinierte Funktion handelt.
-		boolean bFunctionFound = false;
-		String sFunctionName = plTokensObj.poll().getValue();
-		Function currentFunctionInUse = new Function();
-		for (int i = 0; i < lFunctionsObj.size(); i++) {
-			if (lFunctionsObj.get(i).getName().equals(sFunctionName)) {
-				//Funktion existiert:
-				bFunctionFound = true;
-				currentFunctionInUse = lFunctionsObj.get(i);
-				break;
-			}
-		}
-		
-		if (!bFunctionFound) {
-			//Funktion wurde nicht gefunden:
+	Value evaluate(Node pValueObj) {
+		switch(pValueObj.getType()) {
+		case NodeTypes.NODE_LITERAL:
+			//Es handelt sich um einen String, eine Zahl oder einen Wahrheitswert:
+			return pValueObj.getToken().getLiteral();
 			
-			//Herausgfinden, ob es sich um eine vordefinierte Funktion handelt:
-			if (sFunctionName.equals(KeywordTypes.FUNCTION_LENGTH)) {
-				bFunctionIsPreDefined = true;
-			}
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_ISNUMBER)) {
-				bFunctionIsPreDefined = true;
-			}
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_SIN)) {
-				bFunctionIsPreDefined = true;
-			}
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_COS)) {
-				bFunctionIsPreDefined = true;
-			}
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_TAN)) {
-				bFunctionIsPreDefined = true;
-			}
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_SQRT)) {
-				bFunctionIsPreDefined = true;
-			}
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_CHARAT)) {
-				bFunctionIsPreDefined = true;
-			}
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_SUBSTRING)) {
-				bFunctionIsPreDefined = true;
-			}
-			else {
-				return new ReturnValue<Token>(null, ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
+		case NodeTypes.NODE_VARIABLE:
+			//Es handelt sich um eine Variable:
+			if (pValueObj.getSlot() == Node.SLOT_UNKNOWN) {
+				//Die Variable existiert an dieser Stelle nicht:
+				throw new InterpreterException(ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
 			}
+			return interpreterObj.getVariable(pValueObj.getSlot());
+			
+		case NodeTypes.NODE_CALCULATION:
+			//Es handelt sich um eine Rechnung:
+			return calculate(pValueObj);
+			
+		case NodeTypes.NODE_COMPARISON:
+			//Es handelt sich um einen Vergleich:
+			return compare(pValueObj);
+			
+		case NodeTypes.NODE_CALL:
+			//Es handelt sich um einen Funktionsaufruf:
+			return executeFunction(pValueObj);
+			
+		case NodeTypes.NODE_ERROR:
+			//Der Wert ist fehlerhaft:
+			throw new InterpreterException(pValueObj.getErrorCode());
+			
+		default:
+			//Es handelt sich um einen unangebrachten Knoten -> SYNTAX FEHLER:
+			throw new InterpreterException(ReturnValueTypes.ERROR_SYNTAX);
 		}
+	}
+	
+	
+	
+	/**
+	 * Diese Funktion fuehrt eine Funktion in Lisp aus, dazu wird ihr der Funktionsaufruf als abstrakter
+	 * Syntaxbaum ( z.B. sin(15) ) uebergeben.
+	 * 
+	 * @param pCallObj	Knoten des Funktionsaufrufes.
+	 * @return			Rueckgabewert der Funktion, falls vorhanden.
+	 * @throws InterpreterException	Es ist ein Fehler aufgetreten.
+	 */
+	private Value executeFunction(Node pCallObj) {
+		Object targetObj = resolveTarget(pCallObj); //Speichert die aufgerufene Funktion.
+		Value[] parametersObj = evaluateParameters(pCallObj);
 		
-		//Parameter herausfinden:
-		LinkedList<Token> lParametersObj = new LinkedList<Token>();
-		if (!plTokensObj.poll().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-			//Erster Token nach Bezeichner ist KEINE Klammer: SYNTAXFEHLER:
-			return new ReturnValue<Token>(null, ReturnValueTypes.ERROR_SYNTAX);
-		}
-		while (!plTokensObj.isEmpty()) {
-			Token currentTokenObj = new Token(plTokensObj.peek().getValue(), plTokensObj.poll().getType());
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-				//Geschlossene Klammer indiziert, dass alle Parameter gelesen wurden!
-				break;
-			}
-			//Herausfinden, um welchen Token es sich handelt:
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_STRING) || currentTokenObj.getType().equals(TokenTypes.TOKEN_NUMBER) || currentTokenObj.getType().equals(TokenTypes.TOKEN_BOOLEAN)) {
-				//Es handelt sich um eine Zahl, einen String oder einen Wahrheitswert:
-				lParametersObj.add(currentTokenObj);
-			}
-			else if (currentTokenObj.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-				//Es handelt sich um einen Bezeichner -> Wert der Variablen aus Verzeichnis laden:
-				ReturnValue<Atom> atomSearchQueryObj = new ReturnValue<Atom>();
-				atomSearchQueryObj = interpreterObj.searchAtom(currentTokenObj.getValue());
-				if (atomSearchQueryObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-					//Es ist ein Fehler aufgetreten:
-					return new ReturnValue<Token>(null, atomSearchQueryObj.getExecutionInformation());
-				}
-				lParametersObj.add(new Token(atomSearchQueryObj.getReturnValue().getValue(), atomSearchQueryObj.getReturnValue().getType()));
+		//INHALT DIESER IF-VERZWEIGUNG WIRD AUSSCHLIESSLICH AUFGERUFEN, WENN DIE FUNKTION VORDEFINIERT IST:
+		if (targetObj instanceof BuiltinFunction) {
+			BuiltinFunction builtinFunctionObj = (BuiltinFunction)targetObj;
+			if (builtinFunctionObj.getParameterAmount() != parametersObj.length) {
+				//Es wurde eine inkorrekte Anzahl an Parametern angegeben:
+				throw new InterpreterException(ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
 			}
-			else if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-				//Es handelt sich um eine Rechnung:
-				int nBracketsOpened = 1;
-				int nBracketsClosed = 0;
-				LinkedList<Token> lCalculationTokensObj = new LinkedList<Token>();
-				lCalculationTokensObj.add(currentTokenObj);
-				while (!plTokensObj.isEmpty()) {
-					Token currentCalculationTokenObj = plTokensObj.poll();
-					if (currentCalculationTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-						nBracketsOpened++;
-					}
-					else if (currentCalculationTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-						nBracketsClosed++;
-					}
-					lCalculationTokensObj.add(currentCalculationTokenObj);
-					if (nBracketsOpened == nBracketsClosed) {
-						//Tokens der Rechnung vollstaending herausgefunden:
-						break;
-					}
-				}
-				ReturnValue<String> calculationReturnObj = new ReturnValue<String>();
-				calculationReturnObj = calculate(lCalculationTokensObj);
-				if (calculationReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-					//Es ist ein Fehler aufgetreten:
-					return new ReturnValue<Token>(null, calculationReturnObj.getExecutionInformation());
+			return builtinFunctionObj.call(parametersObj);
+		}
+		return callFunction((Function)targetObj, parametersObj);
+	}
+	
+	/**
+	 * Diese Methode ermittelt beim ersten Ausfuehren eines Funktionsaufrufes die aufgerufene Funktion und
+	 * speichert diese im Knoten.
+	 * 
+	 * @param pCallObj	Knoten des Funktionsaufrufes.
+	 * @return			Aufgerufene Funktion (Function oder BuiltinFunction).
+	 * @throws InterpreterException	Die Funktion existiert nicht.
+	 */
+	Object resolveTarget(Node pCallObj) {
+		if (!pCallObj.isTargetResolved()) {
+			//Herausfinden, ob die Funktion existiert:
+			String sFunctionName = pCallObj.getValue();
+			Object targetObj = functionsObj.get(sFunctionName);
+			if (targetObj == null) {
+				//Funktion wurde nicht gefunden:
+				
+				//Herausgfinden, ob es sich um eine vordefinierte Funktion handelt:
+				targetObj = BuiltinFunctions.get(sFunctionName);
+				if (targetObj == null) {
+					throw new InterpreterException(ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
 				}
-				lParametersObj.add(new Token(calculationReturnObj.getReturnValue(), TokenTypes.TOKEN_NUMBER));
 			}
+			pCallObj.setTarget(targetObj);
 		}
-		
-		//INHALT DIESER IF-VERZWEIGUNG WIRD AUSSCHLIESSLICH AUFGERUFEN, WENN DIE FUNKTION VORDEFINIERT IST:
-		if (bFunctionIsPreDefined) {
-			//Funktionsnamen verarbeiten:
-			if (sFunctionName.equals(KeywordTypes.FUNCTION_LENGTH)) {
-				//Die lenghth()-Funktion:
-				if (lParametersObj.size() == PreDefinedFunctions.LENGTH_PARAMETERS) {
-					return new ReturnValue<Token>(new Token(String.valueOf(PreDefinedFunctions.length(lParametersObj.peek().getValue())), TokenTypes.TOKEN_NUMBER), ReturnValueTypes.SUCCESS);
-				}
-				return new ReturnValue<Token>(null, ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
+		return pCallObj.getTarget();
+	}
+	
+	/**
+	 * Diese Methode wertet die Parameter eines Funktionsaufrufes aus.
+	 * 
+	 * @param pCallObj	Knoten des Funktionsaufrufes.
+	 * @return			Werte der Parameter.
+	 * @throws InterpreterException	Es ist ein Fehler aufgetreten.
+	 */
+	private Value[] evaluateParameters(Node pCallObj) {
+		Value[] parametersObj = new Value[pCallObj.getChildAmount()];
+		for (int i = 0; i < parametersObj.length; i++) {
+			parametersObj[i] = evaluate(pCallObj.getChild(i));
+		}
+		return parametersObj;
+	}
+	
+	/**
+	 * Diese Methode fuehrt eine selbst definierte Funktion mit den angegebenen Parametern aus.
+	 * Endet die Funktion mit einem Endaufruf ("return" mit einem Funktionsaufruf), so wird der Rahmen zuerst
+	 * verlassen und die aufgerufene Funktion anschliessend in derselben Schleife ausgefuehrt. Dadurch waechst
+	 * der Java-Stack bei endrekursiven Funktionen nicht an.
+	 * 
+	 * @param pFunctionObj		Funktion, welche ausgefuehrt werden soll.
+	 * @param pParametersObj	Werte der Parameter.
+	 * @return					Rueckgabewert der Funktion.
+	 * @throws InterpreterException	Es ist ein Fehler aufgetreten.
+	 */
+	private Value callFunction(Function pFunctionObj, Value[] pParametersObj) {
+		Function currentFunctionInUse = pFunctionObj;
+		Value[] parametersObj = pParametersObj;
+		while (true) {
+			//Herausfinden, die Parameter in korrekter Anzahl angegeben wurden:
+			if (currentFunctionInUse.getParameterAmount() != parametersObj.length) {
+				//Es wurde eine inkorrekte Anzahl an Parametern angegeben:
+				throw new InterpreterException(ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
 			}
 			
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_ISNUMBER)) {
-				//Die isNumber()-Funktion:
-				if (lParametersObj.size() == PreDefinedFunctions.ISNUMBER_PARAMETERS) {
-					return new ReturnValue<Token>(new Token(PreDefinedFunctions.isNumber(lParametersObj.peek().getValue()), TokenTypes.TOKEN_BOOLEAN), ReturnValueTypes.SUCCESS);
-				}
-				return new ReturnValue<Token>(null, ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
+			//Rahmen der Funktion erzeugen, wobei die Parameter die ersten Plaetze erhalten:
+			Node bodyObj = currentFunctionInUse.getBody();
+			Frame frameObj = interpreterObj.enterFrame(currentFunctionInUse.getSlotAmount());
+			for (int i = 0; i < parametersObj.length; i++) {
+				frameObj.setVariable(i, parametersObj[i]);
 			}
-			
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_SIN)) {
-				//Die sin()-Funktion:
-				if (lParametersObj.size() == PreDefinedFunctions.SIN_PARAMETERS) {
-					return new ReturnValue<Token>(new Token(PreDefinedFunctions.sin(lParametersObj.peek().getValue()), TokenTypes.TOKEN_NUMBER), ReturnValueTypes.SUCCESS);
-				}
-				return new ReturnValue<Token>(null, ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
+			try {
+				//Ausdruecke der Funktion ausfuehren:
+				process(bodyObj);
 			}
-			
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_COS)) {
-				//Die sin()-Funktion:
-				if (lParametersObj.size() == PreDefinedFunctions.COS_PARAMETERS) {
-					return new ReturnValue<Token>(new Token(PreDefinedFunctions.cos(lParametersObj.peek().getValue()), TokenTypes.TOKEN_NUMBER), ReturnValueTypes.SUCCESS);
-				}
-				return new ReturnValue<Token>(null, ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
+			catch (FunctionReturn signalObj) {
+				//Die Funktion wurde ueber "return" beendet, der Rueckgabewert (bzw. Endaufruf) befindet sich im Rahmen.
 			}
-			
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_TAN)) {
-				//Die sin()-Funktion:
-				if (lParametersObj.size() == PreDefinedFunctions.TAN_PARAMETERS) {
-					return new ReturnValue<Token>(new Token(PreDefinedFunctions.tan(lParametersObj.peek().getValue()), TokenTypes.TOKEN_NUMBER), ReturnValueTypes.SUCCESS);
-				}
-				return new ReturnValue<Token>(null, ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
+			finally {
+				//Variablen der vorherigen Funktion wiedereinfuehren (auch wenn ein Fehler aufgetreten ist):
+				interpreterObj.leaveFrame();
 			}
 			
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_SQRT)) {
-				//Die sin()-Funktion:
-				if (lParametersObj.size() == PreDefinedFunctions.SQRT_PARAMETERS) {
-					return new ReturnValue<Token>(new Token(PreDefinedFunctions.sqrt(lParametersObj.peek().getValue()), TokenTypes.TOKEN_NUMBER), ReturnValueTypes.SUCCESS);
-				}
-				return new ReturnValue<Token>(null, ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
+			if (frameObj.getTailCallFunction() != null) {
+				//Endaufruf anstelle der aktuellen Funktion ausfuehren:
+				currentFunctionInUse = frameObj.getTailCallFunction();
+				parametersObj = frameObj.getTailCallParameters();
+				continue;
 			}
 			
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_CHARAT)) {
-				//Die charAt()-Funktion:
-				if (lParametersObj.size() == PreDefinedFunctions.CHARAT_PARAMETERS) {
-					return new ReturnValue<Token>(new Token(PreDefinedFunctions.charAt(lParametersObj.poll().getValue(), lParametersObj.poll().getValue()), TokenTypes.TOKEN_STRING), ReturnValueTypes.SUCCESS);
-				}
-				return new ReturnValue<Token>(null, ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
+			//Funktion wurde erfolgreich ausgefuehrt:
+			if (frameObj.getReturnValue() == null) {
+				//Es wurde kein Rueckgabewert angegeben:
+				return new Value("0.00", TokenTypes.KIND_NUMBER);
 			}
+			return frameObj.getReturnValue();
+		}
+	}
+	
+	
+	
+	/**
+	 * Diese Methode fuehrt eine Rechnung durch. Die Operanden werden dabei von links nach rechts mit dem Operator
+	 * verrechnet, sodass z.B. "(- 10 2 3)" als "((10 - 2) - 3)" ausgerechnet wird.
+	 * 
+	 * @param pCalculationObj	Knoten der Rechnung.
+	 * @return					Ergebnis der Rechnung.
+	 * @throws InterpreterException	Es ist ein Fehler aufgetreten.
+	 */
+	private Value calculate(Node pCalculationObj) {
+		String sOperator = pCalculationObj.getValue(); //Speichert den Operator.
+		double nResult = 0.0; //Speichert das bisherige Ergebnis.
+		for (int i = 0; i < pCalculationObj.getChildAmount(); i++) {
+			//Operanden auswerten:
+			double nOperand = interpreterObj.toNumber(evaluate(pCalculationObj.getChild(i)));
 			
-			else if (sFunctionName.equals(KeywordTypes.FUNCTION_SUBSTRING)) {
-				//Die charAt()-Funktion:
-				if (lParametersObj.size() == PreDefinedFunctions.SUBSTRING_PARAMETERS) {
-					return new ReturnValue<Token>(new Token(PreDefinedFunctions.substring(lParametersObj.poll().getValue(), lParametersObj.poll().getValue(), lParametersObj.poll().getValue()), TokenTypes.TOKEN_STRING), ReturnValueTypes.SUCCESS);
-				}
-				return new ReturnValue<Token>(null, ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
+			if (i == 0) {
+				//Erster Operand:
+				nResult = nOperand;
 			}
-			
 			else {
-				//Unbekannte Funktion:
-				return new ReturnValue<Token>(null, ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
-			}
-		}
-		
-		//Herausfinden, die Parameter in korrekter Anzahl angegeben wurden:
-		if (currentFunctionInUse.getParameterAmount() != lParametersObj.size()) {
-			//Es wurde eine inkorrekte Anzahl an Parametern angegeben:
-			return new ReturnValue<Token>(null, ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
-		}
-		
-		//Variablen der Funktion definieren:
-		LinkedList<Atom> lOldFunctionAtomsObj = new LinkedList<Atom>();
-		LinkedList<Atom> lNewFunctionAtomsObj = new LinkedList<Atom>();
-		LinkedList<Atom> lFunctionParametersObj = new LinkedList<Atom>(currentFunctionInUse.getParameters());
-		for (int i = 0; i < lParametersObj.size(); i++) {
-			lNewFunctionAtomsObj.add(new Atom(lFunctionParametersObj.get(i).getName(), lParametersObj.get(i).getValue(), lParametersObj.get(i).getType()));
-		}
-		lOldFunctionAtomsObj.addAll(interpreterObj.changeFunctionAtoms(lNewFunctionAtomsObj));
-		//Ausdruecke der Funktion ausfuehren:
-		for (int i = 0; i < currentFunctionInUse.getExpressionAmount(); i++) {
-			LinkedList<Token> currentExpressionObj = new LinkedList<Token>();
-			currentExpressionObj.addAll(currentFunctionInUse.getExpression(i));
-			ReturnValue<Object> processReturnObj = new ReturnValue<Object>();
-			processReturnObj = process(currentExpressionObj);
-			if (processReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				if (processReturnObj.getExecutionInformation() == ReturnValueTypes.INFO_FUNCTION_RETURN) {
-					//Die Funktion soll beendet werden:
-					break;
-				}
-				else {
-					//Es ist ein Fehler aufgetreten:
-					return new ReturnValue<Token>(null, processReturnObj.getExecutionInformation());
-				}
+				//Operand mit dem bisherigen Ergebnis verrechnen:
+				nResult = interpreterObj.calculate(sOperator, nResult, nOperand);
 			}
 		}
-		
-		//Variablen der vorherigen Funktion wiedereinfuehren:
-		interpreterObj.changeFunctionAtoms(lOldFunctionAtomsObj);
-		
-		//Funktion wurde erfolgreich ausgefuehrt:
-		Token newReturnTokenObj = new Token(functionReturnValueObj.getValue(), functionReturnValueObj.getType());
-		functionReturnValueObj = new Token("0.00", TokenTypes.TOKEN_NUMBER);
-		return new ReturnValue<Token>(newReturnTokenObj, ReturnValueTypes.SUCCESS);
+		return new Value(nResult);
 	}
 	
 	
 	
 	/**
-	 * Diese Methode erhaelt als Parameter eine Liste an Tokens, wessen erster Token eine Klammer ist,
-	 * gefolgt vom Rechenoperator und allen darauffolgenden Tokens (welche nicht zwingend zur Rechnung
-	 * gehoeren muessen). Sie findet heraus, welche der Tokens zu Rechnung gehoeren, fuehrt diese
-	 * durch und gibt das Ergebnis als String zurueck.
+	 * Diese Methode fuehrt einen Vergleich durch. Bei mehr als zwei Operanden wird das Ergebnis des vorherigen
+	 * Vergleichs mit dem naechsten Operanden verglichen.
 	 * 
-	 * @param plTokensObj	Liste an Tokens, welche die Rechnung beinhalten.
-	 * @return				Ergebnis der Rechnung als String.
+	 * @param pComparisonObj	Knoten des Vergleichs.
+	 * @return					Ergebnis des Vergleichs (T / NIL).
+	 * @throws InterpreterException	Es ist ein Fehler aufgetreten.
 	 */
-	private ReturnValue<String> calculate(LinkedList<Token> plTokensObj) {
-		if (plTokensObj.isEmpty()) {
-			//Die Liste an Tokens ist leer:
-			return new ReturnValue<String>(null, ReturnValueTypes.ERROR_SYNTAX);
-		}
-		if (!plTokensObj.get(1).getType().equals(TokenTypes.TOKEN_OPERATOR)) {
-			//Es ist kein Operand vorhanden:
-			return new ReturnValue<String>(null, ReturnValueTypes.ERROR_SYNTAX);
-		}
-		
-		//Herausfinden, welcher Teil der Liste an Tokens zur Rechnung gehoert:
-		LinkedList<Token> lTokensObj = new LinkedList<Token>(); //Speichert alle Tokens, welche zur Rechnung gehoeren.
-		int nBracketsOpened = 0; //Speichert die Anzahl der geoeffneten Klammern.
-		int nBracketsClosed = 0; //Speichert die Anzahl der geoeffneten Klammern.
-		//Liste an Tokens durchlaufen:
-		for (int i = 0; i < plTokensObj.size(); i++) {
-			Token currentTokenObj = new Token(plTokensObj.get(i).getValue(), plTokensObj.get(i).getType()); //Speichert den aktuellen Token.
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-				nBracketsOpened++;
-			}
-			else if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-				nBracketsClosed++;
-			}
-			lTokensObj.add(currentTokenObj);
-			if (nBracketsOpened == nBracketsClosed) {
-				//Es wurden gleich viele Klammern geoeffnet und geschlossen:
-				break; //Schleife beenden.
-			}
-		}
-		
-		//Rueckgabewerte von Funktionsaufrufen einfuegen:
-		nBracketsOpened = 0;
-		nBracketsClosed = 0;
-		for (int i = 0; i < lTokensObj.size(); i++) {
-			Token currentTokenObj = new Token(lTokensObj.get(i).getValue(), lTokensObj.get(i).getType());
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-				nBracketsClosed++;
-			}
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-				nBracketsOpened++;
-			}
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-				//Es handelt sich um den Bezeichner einer Variablen oder Funktion:
-				if (i + 2 <= lTokensObj.size() && lTokensObj.get(i + 1).getType().equals(TokenTypes.TOKEN_BRACKET_OPENED) && !lTokensObj.get(i + 2).getType().equals(TokenTypes.TOKEN_OPERATOR)) {
-					//Es handelt sich bei dem Bezeichner um eine Funktion:
-					LinkedList<Token> lFunctionTokensObj = new LinkedList<Token>(); //Speichert die Tokens der Funktion.
-					lFunctionTokensObj.add(lTokensObj.remove(i)); //Namen hinzufuegen
-					lFunctionTokensObj.add(lTokensObj.remove(i)); //Klammer der Parameter hinzufuegen:
-					int nFunctionBracketsClosed = 0;
-					int nFunctionBracketsOpened = 1;
-					//Tokens des Funktionsaufrufes herausfinden:
-					while (!lTokensObj.isEmpty()) {
-						Token currentFunctionTokenObj = new Token(lTokensObj.get(i).getValue(), lTokensObj.remove(i).getType());
-						if (currentFunctionTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-							nFunctionBracketsClosed++;
-						}
-						if (currentFunctionTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-							nFunctionBracketsOpened++;
-						}
-						lFunctionTokensObj.add(currentFunctionTokenObj);
-						if (nFunctionBracketsOpened == nFunctionBracketsClosed) {
-							break;
-						}
-					}
-					//Funktion ausfuehren:
-					ReturnValue<Token> functionExecutionQueryObj = new ReturnValue<Token>();
-					functionExecutionQueryObj = executeFunction(lFunctionTokensObj);
-					if (functionExecutionQueryObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-						//Es ist ein Fehler aufgetreten:
-						return new ReturnValue<String>(null, functionExecutionQueryObj.getExecutionInformation());
-					}
-					lTokensObj.add(i, functionExecutionQueryObj.getReturnValue());
-				}
-			}
-		}
-		
-		//Rechnung durchfuehren:
-		ReturnValue<BinaryTree<Token>> tAbstractSyntaxTree = new ReturnValue<BinaryTree<Token>>(); //Speichert den abstrakten Syntaxbaum.
-		tAbstractSyntaxTree = parserObj.parse(lTokensObj);
-		if (tAbstractSyntaxTree.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-			//Es ist ein Fehler aufgetreten:
-			return new ReturnValue<String>(null, tAbstractSyntaxTree.getExecutionInformation());
-		}
-		ReturnValue<String> resultObj = new ReturnValue<String>(); //Speichert das Ergebnis der Rechenoperation.
-		resultObj = interpreterObj.interpret(tAbstractSyntaxTree.getReturnValue());
-		return resultObj; //Ergebnis zurueckgeben.
+	private Value compare(Node pComparisonObj) {
+		String sOperator = pComparisonObj.getValue(); //Speichert den Operator.
+		Value resultObj = evaluate(pComparisonObj.getChild(0)); //Speichert das bisherige Ergebnis.
+		for (int i = 1; i < pComparisonObj.getChildAmount(); i++) {
+			Value rightOperandObj = evaluate(pComparisonObj.getChild(i));
+			resultObj = new Value(interpreterObj.compare(sOperator, resultObj, rightOperandObj));
+		}
+		return resultObj;
 	}
 	
 	
@@ -1333,82 +771,35 @@ public class Controller {
 	 * Diese Methode berechnet das Ergebnis einer Bedingung von zum Beispiel einer Verzweigung und gibt
 	 * dieses zurueck.
 	 * 
-	 * @param plConditionObj	Bedingung als Tokens.
-	 * @return					Ergebnis der Bedingung.
+	 * @param pConditionObj	Bedingung als abstrakter Syntaxbaum.
+	 * @return				Ergebnis der Bedingung.
+	 * @throws InterpreterException	Es ist ein Fehler aufgetreten.
 	 */
-	private ReturnValue<Boolean> condition(LinkedList<Token> plConditionObj) {
-		ReturnValue<BinaryTree<Token>> tAbstractSyntaxTreeObj = new ReturnValue<BinaryTree<Token>>(); //Speichert den abstrakten Syntaxbaum.
-		
-		//Rueckgabewerte von Funktionsaufrufen einfuegen:
-		int nBracketsOpened = 0;
-		int nBracketsClosed = 0;
-		for (int i = 0; i < plConditionObj.size(); i++) {
-			Token currentTokenObj = new Token(plConditionObj.get(i).getValue(), plConditionObj.get(i).getType());
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-				nBracketsClosed++;
-			}
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-				nBracketsOpened++;
-			}
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-				//Es handelt sich um den Bezeichner einer Variablen oder Funktion:
-				if (i + 2 <= plConditionObj.size() && plConditionObj.get(i + 1).getType().equals(TokenTypes.TOKEN_BRACKET_OPENED) && !plConditionObj.get(i + 2).getType().equals(TokenTypes.TOKEN_OPERATOR)) {
-					//Es handelt sich bei dem Bezeichner um eine Funktion:
-					LinkedList<Token> lFunctionTokensObj = new LinkedList<Token>(); //Speichert die Tokens der Funktion.
-					lFunctionTokensObj.add(plConditionObj.remove(i)); //Namen hinzufuegen
-					lFunctionTokensObj.add(plConditionObj.remove(i)); //Klammer der Parameter hinzufuegen:
-					int nFunctionBracketsClosed = 0;
-					int nFunctionBracketsOpened = 1;
-					//Tokens des Funktionsaufrufes herausfinden:
-					while (!plConditionObj.isEmpty()) {
-						Token currentFunctionTokenObj = new Token(plConditionObj.get(i).getValue(), plConditionObj.remove(i).getType());
-						if (currentFunctionTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-							nFunctionBracketsClosed++;
-						}
-						if (currentFunctionTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-							nFunctionBracketsOpened++;
-						}
-						lFunctionTokensObj.add(currentFunctionTokenObj);
-						if (nFunctionBracketsOpened == nFunctionBracketsClosed) {
-							break;
-						}
-					}
-					//Funktion ausfuehren:
-					ReturnValue<Token> functionExecutionQueryObj = new ReturnValue<Token>();
-					functionExecutionQueryObj = executeFunction(lFunctionTokensObj);
-					if (functionExecutionQueryObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-						//Es ist ein Fehler aufgetreten:
-						return new ReturnValue<Boolean>(false, functionExecutionQueryObj.getExecutionInformation());
-					}
-					plConditionObj.add(i, functionExecutionQueryObj.getReturnValue());
-				}
-			}
-		}
-		
-		tAbstractSyntaxTreeObj = parserObj.parse(plConditionObj);
-		if (tAbstractSyntaxTreeObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-			//Es ist ein Fehler aufgetreten:
-			return new ReturnValue<Boolean>(false, tAbstractSyntaxTreeObj.getExecutionInformation());
-		}
-		
-		ReturnValue<String> sResultObj = new ReturnValue<String>();
-		sResultObj = interpreterObj.interpret(tAbstractSyntaxTreeObj.getReturnValue());
-		if (sResultObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-			//Es ist ein Fehler aufgetreten:
-			return new ReturnValue<Boolean>(false, sResultObj.getExecutionInformation());
-		}
+	private boolean condition(Node pConditionObj) {
+		return toCondition(evaluate(pConditionObj));
+	}
+	
+	/**
+	 * Diese Methode gibt an, ob der ausgewertete Wert einer Bedingung wahr oder falsch ist.
+	 * 
+	 * @param pValueObj	Ausgewerteter Wert der Bedingung.
+	 * @return			Ergebnis der Bedingung.
+	 * @throws InterpreterException	Der Wert ist kein Wahrheitswert.
+	 */
+	boolean toCondition(Value pValueObj) {
+		String sResult = pValueObj.getText();
 		
-		if (sResultObj.getReturnValue().equals(KeywordTypes.BOOLEAN_T)) {
+		if (sResult.equals(KeywordTypes.BOOLEAN_T)) {
 			//Die Bedingung ist wahr:
-			return new ReturnValue<Boolean>(true, ReturnValueTypes.SUCCESS);
+			return true;
 		}
-		else if (sResultObj.getReturnValue().equals(KeywordTypes.BOOLEAN_F)) {
+		else if (sResult.equals(KeywordTypes.BOOLEAN_F)) {
 			//Die Bedingung ist falsch:
-			return new ReturnValue<Boolean>(false, ReturnValueTypes.SUCCESS);
+			return false;
 		}
 		else {
 			//Die Bedingung macht keinen Sinn \(_)/:
-			return new ReturnValue<Boolean>(false, ReturnValueTypes.ERROR_SYNTAX);
+			throw new InterpreterException(ReturnValueTypes.ERROR_SYNTAX);
 		}
 	}
 	
@@ -1418,108 +809,24 @@ public class Controller {
 	 * Diese Methode fuehrt alle Anweisungen innerhalb einer if-Verzweigung aus, falls die angegebene
 	 * Bedingung wahr (T) und nicht falsch (NIL) ist.
 	 * 
-	 * @param plConditionObj	Bedingung der Verzweigung.
-	 * @param plIfStatement		Anweisungen der Verzweigung.
-	 * @param plElseStatement	Anweisungen einer optionalen else-Verzweigung.
-	 * @return					Gibt an, ob ein Fehler aufgetreten ist.
+	 * @param pIfStatementObj	Knoten der Verzweigung (Bedingung, Anweisungen und optional die Anweisungen
+	 * 							der else-Verzweigung).
+	 * @throws InterpreterException	Es ist ein Fehler aufgetreten.
+	 * @throws FunctionReturn		Die Funktion soll ueber "return" beendet werden.
 	 */
-	private ReturnValue<Object> ifStatement(LinkedList<Token> plConditionObj, LinkedList<Token> plIfStatement, LinkedList<Token> plElseStatement) {
+	private void ifStatement(Node pIfStatementObj) {
 		//Ueberpruefen, ob die Bedingung wahr ist:
-		ReturnValue<Boolean> bConditionObj = new ReturnValue<Boolean>();
-		bConditionObj = condition(plConditionObj);
-		if (bConditionObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-			//Es ist ein Fehler aufgetreten:
-			return new ReturnValue<Object>(null, bConditionObj.getExecutionInformation());
-		}
+		boolean bCondition = condition(pIfStatementObj.getChild(0));
 		
 		//Ueberpruefen, ob die Bedingung wahr oder falsch ist:
-		if (!bConditionObj.getReturnValue() && plElseStatement.isEmpty()) {
+		if (!bCondition && pIfStatementObj.getChildAmount() < 3) {
 			//Die Bedingung ist falsch und es gibt keine else-Verzweigung:
-			return new ReturnValue<Object>(null, ReturnValueTypes.SUCCESS);
-		}
-		
-		//Variablen, welche NICHT in der Kontrollstruktur vorkommen speichern:
-		LinkedList<Atom> lOldAtomsObj = new LinkedList<Atom>();
-		lOldAtomsObj.addAll(interpreterObj.getAllAtoms());
-		
-		//Anweisungen in eine Liste an Listen an Tokens einordnen:
-		plIfStatement.poll(); //Erste geoeffnete Klammer entfernen.
-		int nBracketsOpened = 0; //Speichert die Anzahl der geoeffneten Klammern.
-		int nBracketsClosed = 0; //Speichert die Anzahl der geschlossenen Klammern.
-		LinkedList<Token> lCurrentExpressionObj = new LinkedList<Token>(); //Speichert den aktuellen Ausdruck.
-		
-		if (bConditionObj.getReturnValue()) {
-			//Die Bedingung ist wahr:
-			while (!plIfStatement.isEmpty()) {
-				if (plIfStatement.peek().getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-					nBracketsClosed++;
-				}
-				else if (plIfStatement.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					nBracketsOpened++;
-				}
-				lCurrentExpressionObj.add(plIfStatement.poll());
-				if (nBracketsClosed == nBracketsOpened) {
-					//Es wurden gleich viele Klammern geoeffnet und geschlossen:
-					
-					//Ausdruck Ausfuehren:
-					ReturnValue<Object> expressionReturn = new ReturnValue<Object>();
-					expressionReturn = process(lCurrentExpressionObj);
-					if (expressionReturn.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-						//Es kam zu einem Fehler:
-						return new ReturnValue<Object>(null, expressionReturn.getExecutionInformation());
-					}
-					
-					lCurrentExpressionObj.clear();
-					nBracketsClosed = 0;
-					nBracketsOpened = 0;
-				}
-			}
+			return;
 		}
 		
-		else {
-			//Die Bedingung ist falsch:
-			plElseStatement.poll(); //Erste geoeffnete Klammer entfernen.
-			while (!plElseStatement.isEmpty()) {
-				if (plElseStatement.peek().getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-					nBracketsClosed++;
-				}
-				else if (plElseStatement.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					nBracketsOpened++;
-				}
-				lCurrentExpressionObj.add(plElseStatement.poll());
-				if (nBracketsClosed == nBracketsOpened) {
-					//Es wurden gleich viele Klammern geoeffnet und geschlossen:
-					
-					//Ausdruck Ausfuehren:
-					ReturnValue<Object> expressionReturn = new ReturnValue<Object>();
-					expressionReturn = process(lCurrentExpressionObj);
-					if (expressionReturn.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-						//Es kam zu einem Fehler:
-						return new ReturnValue<Object>(null, expressionReturn.getExecutionInformation());
-					}
-					
-					lCurrentExpressionObj.clear();
-					nBracketsClosed = 0;
-					nBracketsOpened = 0;
-				}
-			}
-		}
-		
-		//Atomwerte der alten Variablen ueberschreiben, falls diese geaendert wurden:
-		LinkedList<Atom> lCurrentAtomsObj = new LinkedList<Atom>();
-		lCurrentAtomsObj = interpreterObj.getAllAtoms();
-		for (int i = 0; i < lCurrentAtomsObj.size(); i++) {
-			for (int j = 0; j < lOldAtomsObj.size(); j++) {
-				if (lOldAtomsObj.get(j).getName().equals(lCurrentAtomsObj.get(i).getName())) {
-					//Bezeichner der beiden Variablen stimmen ueberein:
-					Atom nCurrentAtom = new Atom(lCurrentAtomsObj.get(i).getName(), lCurrentAtomsObj.get(i).getValue(), lCurrentAtomsObj.get(i).getType());
-					lOldAtomsObj.remove(j);
-					lOldAtomsObj.add(j, nCurrentAtom);
-				}
-			}
-		}
-		interpreterObj.changeFunctionAtoms(lOldAtomsObj); //Alte variablen wieder hinzufuegen.
-		return new ReturnValue<Object>(null, ReturnValueTypes.SUCCESS);
+		//Anweisungen ausfuehren:
+		Node statementsObj = pIfStatementObj.getChild(bCondition ? 1 : 2); //Speichert die Anweisungen, welche ausgefuehrt werden sollen.
+		process(statementsObj);
 	}
 	
 	
@@ -1528,80 +835,18 @@ public class Controller {
 	 * Diese Methode fuehrt alle Anweisungen innerhalb eine while-Schleife immer weiter aus, solange die angegebene
 	 * Bedingung wahr ist. Ist die Bedingung zu Beginn nicht wahr, so erden die Anweisungen keinmal ausgefuehrt.
 	 * 
-	 * @param plConditionObj	Bedingung der Schleife.
-	 * @param plExpressionObj	Anweisungen der Schleife.
-	 * @return					Gibr an, ob ein Fehler aufgetreten ist.
+	 * @param pWhileLoopObj	Knoten der Schleife (Bedingung und Anweisungen).
+	 * @throws InterpreterException	Es ist ein Fehler aufgetreten.
+	 * @throws FunctionReturn		Die Funktion soll ueber "return" beendet werden.
 	 */
-	private ReturnValue<Object> whileLoop(LinkedList<Token> plConditionObj, LinkedList<Token> plExpressionObj) {
-		//Variablen, welche NICHT in der Kontrollstruktur vorkommen speichern:
-		LinkedList<Atom> lOldAtomsObj = new LinkedList<Atom>();
-		lOldAtomsObj.addAll(interpreterObj.changeFunctionAtoms(interpreterObj.getAllAtoms()));
+	private void whileLoop(Node pWhileLoopObj) {
+		Node conditionObj = pWhileLoopObj.getChild(0); //Speichert die Bedingung der Schleife.
+		Node statementsObj = pWhileLoopObj.getChild(1); //Speichert die Anweisungen der Schleife.
 		
-		//Die Schleife laeuft immer weiter bis die Methode beendet wird, wenn die Bedingung falsch ist.
-		while (true) {
-			//Atomwerte der alten Variablen ueberschreiben, falls diese geaendert wurden:
-			LinkedList<Atom> lCurrentAtomsObj = new LinkedList<Atom>();
-			lCurrentAtomsObj = interpreterObj.getAllAtoms();
-			for (int i = 0; i < lCurrentAtomsObj.size(); i++) {
-				for (int j = 0; j < lOldAtomsObj.size(); j++) {
-					if (lOldAtomsObj.get(j).getName().equals(lCurrentAtomsObj.get(i).getName())) {
-						//Bezeichner der beiden Variablen stimmen ueberein:
-						Atom nCurrentAtom = new Atom(lCurrentAtomsObj.get(i).getName(), lCurrentAtomsObj.get(i).getValue(), lCurrentAtomsObj.get(i).getType());
-						lOldAtomsObj.remove(j);
-						lOldAtomsObj.add(j, nCurrentAtom);
-					}
-				}
-			}
-			interpreterObj.changeFunctionAtoms(lOldAtomsObj); //Die alten Variablen wiederherstellen.
-			
-			//Ueberpruefen, ob die Bedingung wahr ist:
-			LinkedList<Token> lConditionObj = new LinkedList<Token>();
-			lConditionObj.addAll(plConditionObj);
-			ReturnValue<Boolean> bConditionObj = new ReturnValue<Boolean>();
-			bConditionObj = condition(lConditionObj);
-			if (bConditionObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Es ist ein Fehler aufgetreten:
-				return new ReturnValue<Object>(null, bConditionObj.getExecutionInformation());
-			}
-			
-			//Ueberpruefen, ob die Bedingung wahr oder falsch ist:
-			if (!bConditionObj.getReturnValue()) {
-				//Die Bedingung ist falsch:
-				interpreterObj.changeFunctionAtoms(lOldAtomsObj); //Die alten Variablen wiederherstellen.
-				return new ReturnValue<Object>(null, ReturnValueTypes.SUCCESS);
-			}
-			
+		//Die Schleife laeuft, bis die Bedingung falsch ist (oder die Funktion ueber "return" beendet wird):
+		while (condition(conditionObj)) {
 			//Anweisungen ausfuehren:
-			LinkedList<Token> lExpressionsObj = new LinkedList<Token>(); //Speichert die Anweisungen.
-			lExpressionsObj.addAll(plExpressionObj);
-			lExpressionsObj.poll(); //Erste geoeffnete Klammer entfernen.
-			int nBracketsOpened = 0; //Speichert die Anzahl der geoeffneten Klammern.
-			int nBracketsClosed = 0; //Speichert die Anzahl der geschlossenen Klammern.
-			LinkedList<Token> lCurrentExpressionObj = new LinkedList<Token>(); //Speichert den aktuellen Ausdruck.
-			while (!lExpressionsObj.isEmpty()) {
-				if (lExpressionsObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-					nBracketsClosed++;
-				}
-				else if (lExpressionsObj.peek().getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					nBracketsOpened++;
-				}
-				lCurrentExpressionObj.add(lExpressionsObj.poll());
-				if (nBracketsClosed == nBracketsOpened) {
-					//Es wurden gleich viele Klammern geoeffnet und geschlossen:
-					
-					//Ausdruck Ausfuehren:
-					ReturnValue<Object> expressionReturn = new ReturnValue<Object>();
-					expressionReturn = process(lCurrentExpressionObj);
-					if (expressionReturn.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-						//Es kam zu einem Fehler:
-						return new ReturnValue<Object>(null, expressionReturn.getExecutionInformation());
-					}
-					
-					lCurrentExpressionObj.clear();
-					nBracketsClosed = 0;
-					nBracketsOpened = 0;
-				}
-			}
+			process(statementsObj);
 		}
 	}
 	
@@ -1628,8 +873,9 @@ public class Controller {
 	 * 
 	 * @param psString			String, welcher ausgegeben werden soll.
 	 * @param pbAddLineBreak	Ob ein Zeilenumbruch am Ende angefuehrt werden soll.
+	 * @throws InterpreterException	Der String enthaelt ein ungueltiges Steuerzeichen.
 	 */
-	private ReturnValue<Object> printString(String psString, boolean pbAddLineBreak) {
+	void printString(String psString, boolean pbAddLineBreak) {
 		//String zeichenweise durchlaufen:
 		for (int i = 0; i < psString.length(); i++) {
 			char chCurrentCharacter = psString.charAt(i);
@@ -1637,7 +883,7 @@ public class Controller {
 				//Aktuelles Zeichen leitet ein Steuerzeichen ein:
 				if (i >= psString.length() - 1) {
 					//String ist nicht lang genug, um ein Steuerzeichen zu enthalten:
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_STRING_TOO_SHORT);
+					throw new InterpreterException(ReturnValueTypes.ERROR_STRING_TOO_SHORT);
 				}
 				i++;
 				char chControlCharacter = psString.charAt(i); //Speichert das Steuerzeichen.
@@ -1673,7 +919,7 @@ public class Controller {
 					
 				default:
 					//Unbekanntes Steuerzeichen:
-					return new ReturnValue<Object>(null, ReturnValueTypes.ERROR_UNKNOWN_CTRL_CHAR);
+					throw new InterpreterException(ReturnValueTypes.ERROR_UNKNOWN_CTRL_CHAR);
 				}
 			}
 			
@@ -1687,7 +933,6 @@ public class Controller {
 		if (pbAddLineBreak) {
 			System.out.println();
 		}
-		return new ReturnValue<Object>(null, ReturnValueTypes.SUCCESS);
 	}
 	
 }
@@ -0,0 +1,136 @@
+package interpreter;
+
+import tokenizer.*;
+
+
+
+/**
+ * Objekte dieser Klasse stellen den Rahmen eines Funktionsaufrufes dar. Ein Rahmen speichert die Werte aller
+ * Parameter und Variablen der Funktion auf festen Plaetzen (siehe Resolver) sowie einen Verweis auf den Rahmen
+ * der aufrufenden Funktion. Beim Betreten und Verlassen einer Funktion muss daher lediglich der aktuelle
+ * Rahmen ausgetauscht werden, ohne Variablen zu kopieren. Variablen in if-Verzweigungen und while-Schleifen
+ * erhalten eigene Plaetze im Rahmen der Funktion, sodass fuer diese kein eigener Rahmen benoetigt wird.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+public class Frame {
+	/**
+	 * Speichert die Werte der Variablen.
+	 */
+	private Value[] slotsObj;
+	
+	/**
+	 * Speichert den Rahmen der aufrufenden Funktion.
+	 */
+	private Frame parentObj;
+	
+	/**
+	 * Speichert den Rueckgabewert der Funktion, oder null, wenn noch kein Wert ueber "return" zurueckgegeben
+	 * wurde.
+	 */
+	private Value returnValueObj;
+	
+	/**
+	 * Speichert die Funktion, welche nach dem Verlassen des Rahmens aufgerufen werden soll (Endaufruf ueber
+	 * "return"), oder null.
+	 */
+	private Function tailCallFunctionObj;
+	
+	/**
+	 * Speichert die Parameter des Endaufrufes.
+	 */
+	private Value[] tailCallParametersObj;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "Frame".
+	 * 
+	 * @param pnSlotAmount	Anzahl an Plaetzen fuer Variablen.
+	 * @param pParentObj	Rahmen der aufrufenden Funktion, oder null.
+	 */
+	public Frame(int pnSlotAmount, Frame pParentObj) {
+		slotsObj = new Value[pnSlotAmount];
+		parentObj = pParentObj;
+	}
+	
+	
+	
+	/**
+	 * Gibt den Wert der Variablen am angegebenen Platz zurueck.
+	 * 
+	 * @param pnSlot	Platz der Variablen.
+	 * @return			Wert der Variablen.
+	 */
+	public Value getVariable(int pnSlot) {
+		return slotsObj[pnSlot];
+	}
+	
+	/**
+	 * Aendert den Wert der Variablen am angegebenen Platz.
+	 * 
+	 * @param pnSlot	Platz der Variablen.
+	 * @param pValueObj	Neuer Wert.
+	 */
+	public void setVariable(int pnSlot, Value pValueObj) {
+		slotsObj[pnSlot] = pValueObj;
+	}
+	
+	/**
+	 * Gibt den Rahmen der aufrufenden Funktion zurueck.
+	 * 
+	 * @return	Rahmen der aufrufenden Funktion, oder null.
+	 */
+	public Frame getParent() {
+		return parentObj;
+	}
+	
+	/**
+	 * Speichert den Rueckgabewert der Funktion.
+	 * 
+	 * @param pValueObj	Rueckgabewert.
+	 */
+	public void setReturnValue(Value pValueObj) {
+		returnValueObj = pValueObj;
+	}
+	
+	/**
+	 * Gibt den Rueckgabewert der Funktion zurueck.
+	 * 
+	 * @return	Rueckgabewert, oder null, wenn kein Wert zurueckgegeben wurde.
+	 */
+	public Value getReturnValue() {
+		return returnValueObj;
+	}
+	
+	/**
+	 * Speichert einen Endaufruf, welcher anstelle eines Rueckgabewertes nach dem Verlassen des Rahmens
+	 * ausgefuehrt wird.
+	 * 
+	 * @param pFunctionObj		Aufgerufene Funktion.
+	 * @param pParametersObj	Bereits ausgewertete Parameter.
+	 */
+	public void setTailCall(Function pFunctionObj, Value[] pParametersObj) {
+		tailCallFunctionObj = pFunctionObj;
+		tailCallParametersObj = pParametersObj;
+	}
+	
+	/**
+	 * Gibt die Funktion des Endaufrufes zurueck.
+	 * 
+	 * @return	Aufgerufene Funktion, oder null, wenn kein Endaufruf vorliegt.
+	 */
+	public Function getTailCallFunction() {
+		return tailCallFunctionObj;
+	}
+	
+	/**
+	 * Gibt die Parameter des Endaufrufes zurueck.
+	 * 
+	 * @return	Parameter des Endaufrufes.
+	 */
+	public Value[] getTailCallParameters() {
+		return tailCallParametersObj;
+	}
+}
@@ -1,8 +1,9 @@
 package interpreter;
 
 import tokenizer.*;
+import parser.*;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 
 import errorHandling.*;
 
@@ -15,20 +16,55 @@ import errorHandling.*;
  * @version	16.03.2021
  */
 public class Function {
+	/**
+	 * Gibt an, ob die Ausdruecke einer Funktion erst beim ersten Aufruf in einen abstrakten Syntaxbaum
+	 * umgewandelt werden sollen. Funktionen, welche nie aufgerufen werden, werden dadurch nie verarbeitet.
+	 */
+	public static final boolean LAZY_PARSING = true;
+	
+	
+	
 	/**
 	 * Speichert den Namen der Funktion.
 	 */
 	private String sName;
 	
 	/**
-	 * Speichert die Liste an Parametern
+	 * Speichert die Bezeichner der Parameter.
+	 */
+	private String[] sParameterNames;
+	
+	/**
+	 * Speichert alle Ausdruecke als abstrakten Syntaxbaum (Knoten der Art NODE_BLOCK), sobald diese
+	 * umgewandelt wurden.
+	 */
+	private volatile Node bodyObj;
+	
+	/**
+	 * Speichert die Tokens, in welchen sich die Ausdruecke befinden, solange diese noch nicht umgewandelt wurden.
+	 * Die Tokens werden dabei nicht kopiert, sondern lediglich der Bereich der Ausdruecke gespeichert.
+	 */
+	private TokenBuffer bodyTokensObj;
+	
+	/**
+	 * Speichert die Position des ersten Tokens der Ausdruecke.
+	 */
+	private int nBodyStart;
+	
+	/**
+	 * Speichert die Position nach dem letzten Token der Ausdruecke.
+	 */
+	private int nBodyEnd;
+	
+	/**
+	 * Speichert die Anzahl an Plaetzen (Parameter und Variablen), welche der Rahmen eines Aufrufes benoetigt.
 	 */
-	private LinkedList<Atom> lParametersObj;
+	private int nSlotAmount;
 	
 	/**
-	 * Speichert alle Ausdruecke als Tokens
+	 * Speichert den Bytecode der Funktion (siehe VirtualMachine), sobald dieser erzeugt wurde.
 	 */
-	private LinkedList<LinkedList<Token>> llExpressionsObj;
+	private volatile Bytecode bytecodeObj;
 	
 	
 	
@@ -36,25 +72,27 @@ public class Function {
 	 * Konstruktor der Klasse "Function" erstellt eine neue Funktion, die genutzt wird um alle wichtigen Werte
 	 * einer Funktion zu speichern.
 	 * 
-	 * @param plFunctionObj	Ausdruck, welcher die Funktionsdefinition darstellt (alle Tokens ab einschliesslich dem Namen).
+	 * @param pTokensObj	Tokens, in welchen sich die Funktionsdefinition befindet.
+	 * @param pnStart		Position des Namens der Funktion.
+	 * @param pnEnd			Position nach dem letzten Token der Funktionsdefinition.
 	 */
-	public Function(LinkedList<Token> plFunctionObj) {
-		lParametersObj = new LinkedList<Atom>();
-		llExpressionsObj = new LinkedList<LinkedList<Token>>();
+	public Function(TokenBuffer pTokensObj, int pnStart, int pnEnd) {
+		ArrayList<String> lsParameterNames = new ArrayList<String>();
 		
 		int nBracketsOpened = 0;
 		int nBracketsClosed = 0;
 		
 		//Den Namen der Funktion identifizieren:
-		sName = plFunctionObj.poll().getValue();
+		sName = pTokensObj.getText(pnStart);
 		
 		//Liste an Parametern identifizieren:
-		while (!plFunctionObj.isEmpty()) {
-			Token currentTokenObj = plFunctionObj.poll();
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
+		int i = pnStart + 1;
+		while (i < pnEnd) {
+			int nKind = pTokensObj.getKind(i++);
+			if (nKind == TokenTypes.KIND_BRACKET_OPENED) {
 				nBracketsOpened++;
 			}
-			else if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
+			else if (nKind == TokenTypes.KIND_BRACKET_CLOSED) {
 				nBracketsClosed++;
 			}
 			if (nBracketsClosed == nBracketsOpened) {
@@ -63,54 +101,34 @@ public class Function {
 				nBracketsClosed = 0;
 				break;
 			}
-			else if (currentTokenObj.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
+			else if (nKind == TokenTypes.KIND_IDENTIFIER) {
 				//Aktueller Token ist ein Bezeichner (Parameter):
-				lParametersObj.add(new Atom(currentTokenObj.getValue(), "0.00", TokenTypes.TOKEN_NUMBER));
+				lsParameterNames.add(pTokensObj.getText(i - 1));
 			}
 		}
 		
-		//Liste an Ausdruecken identifizieren:
-		plFunctionObj.poll(); //Erste geoeffnete Klammer entfernen.
-		LinkedList<Token> lCurrentExpressionObj = new LinkedList<Token>(); //Speichert den aktuellen Ausdruck.
-		while (!plFunctionObj.isEmpty()) {
-			Token currentTokenObj = plFunctionObj.poll();
-			if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-				nBracketsOpened++;
-			}
-			else if (currentTokenObj.getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-				nBracketsClosed++;
-			}
-			lCurrentExpressionObj.add(currentTokenObj);
-			if ((nBracketsClosed == nBracketsOpened) && (nBracketsClosed != 0 && nBracketsOpened != 0)) {
-				//Ein neuer Ausdruck gefunden:
-				llExpressionsObj.add(new LinkedList<Token>(lCurrentExpressionObj));
-				lCurrentExpressionObj.clear();
-				System.out.println();
-			}
-			if (nBracketsClosed == nBracketsOpened + 1) {
-				//Alle Ausdrcke wurden herausgearbeitet:
-				break;
-			}
+		sParameterNames = lsParameterNames.toArray(new String[lsParameterNames.size()]);
+		
+		//Ausdruecke der Funktion einmalig in einen abstrakten Syntaxbaum umwandeln (bzw. erst beim ersten Aufruf):
+		bodyTokensObj = pTokensObj;
+		nBodyStart = i;
+		nBodyEnd = pnEnd;
+		if (!LAZY_PARSING) {
+			getBody();
 		}
 		/*
 		//-------------------------- DEBUG --------------------------------------
 		System.out.println("NEW FUNCTION DEFINED");
 		System.out.println("name>" + sName);
 		System.out.print("parameters>");
-		for (int i = 0; i < lParametersObj.size(); i++) {
-			System.out.print(lParametersObj.get(i).getName());
-			if (i != lParametersObj.size() - 1) {
+		for (int i = 0; i < sParameterNames.length; i++) {
+			System.out.print(sParameterNames[i]);
+			if (i != sParameterNames.length - 1) {
 				System.out.print(",");
 			}
 		}
 		System.out.println();
-		for (int i = 0; i < llExpressionsObj.size(); i++) {
-			System.out.print("expression" + i + ">");
-			for (int j = 0; j < llExpressionsObj.get(i).size(); j++) {
-				System.out.print(llExpressionsObj.get(i).get(j).getValue() + " ");
-			}
-			System.out.println();
-		}
+		System.out.println("statements>" + getBody().getChildAmount());
 		//-------------------------- DEBUG --------------------------------------
 		*/
 	}
@@ -119,8 +137,9 @@ public class Function {
 	 * Standartkonstruktor der Klasse "Function" erstellt eine leere Funktion, ohne Quellcode und Parameter.
 	 */
 	public Function() {
-		lParametersObj = new LinkedList<Atom>();
-		llExpressionsObj = new LinkedList<LinkedList<Token>>();
+		sParameterNames = new String[0];
+		bodyObj = new Node(NodeTypes.NODE_BLOCK, null);
+		nSlotAmount = 0;
 	}
 	
 	
@@ -135,40 +154,75 @@ public class Function {
 	}
 	
 	/**
-	 * Diese Methode gibt die Liste an Parametern zurueck.
+	 * Diese Methode gibt die Anzahl an Parametern zurueck.
 	 * 
-	 * @return	Liste der Parameter
+	 * @return	Anzahl der Parameter.
 	 */
-	public LinkedList<Atom> getParameters() {
-		return lParametersObj;
+	public int getParameterAmount() {
+		return sParameterNames.length;
 	}
 	
 	/**
-	 * Diese Methode gibt die Anzahl an Parametern zurueck.
+	 * Diese Methode gibt den Bezeichner des Parameters an der angegebenen Stelle zurueck.
 	 * 
-	 * @return	Anzahl der Parameter.
+	 * @param pnIndex	Index des Parameters.
+	 * @return			Bezeichner des Parameters.
 	 */
-	public int getParameterAmount() {
-		return lParametersObj.size();
+	public String getParameterName(int pnIndex) {
+		return sParameterNames[pnIndex];
 	}
 	
 	/**
-	 * Diese Methode gibt den Ausdruck mit dem Index nIndex als Token-Liste zurueck.
+	 * Diese Methode gibt die Anzahl an Plaetzen zurueck, welche der Rahmen eines Aufrufes benoetigt. Die
+	 * Anzahl ist erst bekannt, nachdem getBody() aufgerufen wurde.
 	 * 
-	 * @param pnIndex	Index des Ausdrucks.
+	 * @return	Anzahl an Plaetzen.
+	 */
+	public int getSlotAmount() {
+		return nSlotAmount;
+	}
+	
+	/**
+	 * Gibt den Bytecode der Funktion zurueck.
+	 * 
+	 * @return	Bytecode, oder null, wenn die Funktion noch nicht uebersetzt wurde.
+	 */
+	Bytecode getBytecode() {
+		return bytecodeObj;
+	}
+	
+	/**
+	 * Speichert den Bytecode der Funktion.
 	 * 
-	 * @return			Ausdruck als Token-Liste.
+	 * @param pBytecodeObj	Bytecode.
 	 */
-	public LinkedList<Token> getExpression(int pnIndex) {
-		return llExpressionsObj.get(pnIndex);
+	void setBytecode(Bytecode pBytecodeObj) {
+		bytecodeObj = pBytecodeObj;
 	}
 	
 	/**
-	 * Diese Methode gibt die Anzahl der Ausdruecke innerhalb der Funktion zurueck.
+	 * Diese Methode gibt die Ausdruecke der Funktion als abstrakten Syntaxbaum zurueck. Dabei wird jeder Variablen
+	 * ein Platz im Rahmen des Aufrufes zugeordnet (siehe Resolver).
+	 * Ist LAZY_PARSING aktiviert, so werden die Ausdruecke beim ersten Aufruf dieser Methode umgewandelt. Wird
+	 * die Funktion dabei von mehreren Threads gleichzeitig aufgerufen, so werden die Ausdruecke nur einmal
+	 * umgewandelt.
 	 * 
-	 * @return	Anzahl der Ausdruecke.
+	 * @return	Knoten der Art NODE_BLOCK (bzw. NODE_ERROR, wenn die Ausdruecke fehlerhaft angegeben sind).
 	 */
-	public int getExpressionAmount() {
-		return llExpressionsObj.size();
+	public Node getBody() {
+		Node currentBodyObj = bodyObj; //Speichert den bereits umgewandelten Syntaxbaum.
+		if (currentBodyObj != null) {
+			return currentBodyObj;
+		}
+		synchronized (this) {
+			if (bodyObj == null) {
+				//Die Ausdruecke werden beim ersten Aufruf umgewandelt (nSlotAmount wird vor bodyObj gesetzt):
+				Node newBodyObj = new Parser().parseBlock(bodyTokensObj, nBodyStart, nBodyEnd);
+				nSlotAmount = new Resolver(sParameterNames).resolve(newBodyObj);
+				bodyObj = newBodyObj;
+				bodyTokensObj = null;
+			}
+			return bodyObj;
+		}
 	}
 }
@@ -0,0 +1,33 @@
+package interpreter;
+
+
+
+/**
+ * Diese Ausnahme wird geworfen, wenn eine Funktion ueber "return" beendet wird. Der Rueckgabewert wird dabei
+ * im Rahmen des Funktionsaufrufes gespeichert (siehe Frame), sodass die Ausnahme selbst keine Daten enthaelt.
+ * Daher wird immer dasselbe Objekt (SIGNAL) ohne Stacktrace geworfen, welches in Controller.callFunction()
+ * abgefangen wird. Verschachtelte Schleifen und Verzweigungen muessen somit nicht jeweils ueberpruefen, ob die
+ * Funktion beendet werden soll.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+class FunctionReturn extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+	
+	
+	
+	/**
+	 * Dieses Objekt wird bei jedem "return" geworfen.
+	 */
+	static final FunctionReturn SIGNAL = new FunctionReturn();
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "FunctionReturn".
+	 */
+	private FunctionReturn() {
+		super(null, null, false, false);
+	}
+}
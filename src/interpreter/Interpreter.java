@@ -1,16 +1,14 @@
 package interpreter;
 
-import java.util.LinkedList;
-
 import errorHandling.ReturnValueTypes;
-import errorHandling.ReturnValue;
+import errorHandling.InterpreterException;
 import tokenizer.*;
-import parser.*;
 
 
 
 /**
- * Stellt den Interpreter dar, welcher einen Abstrakten Syntaxbaum interpretiert.
+ * Stellt den Interpreter dar, welcher die Variablen verwaltet und die Operatoren eines Abstrakten Syntaxbaums
+ * auswertet.
  * 
  * @version	24.01.2021
  * 
@@ -18,491 +16,208 @@ import parser.*;
  */
 public class Interpreter {
 	/**
-	 * Speichert alle Atome, welche vom Interpreter erfasst werden.
+	 * Speichert den Rahmen des aktuellen Funktionsaufrufes, welcher die Werte aller Variablen enthaelt. Der
+	 * Platz jeder Variablen wird beim Laden der Funktion festgelegt (siehe Resolver).
 	 */
-	private LinkedList<Atom> lAtomsObj;
+	private Frame frameObj;
 	
 	
 	
 	/**
 	 * Erzeugt einen neuen Interpreter.
-	 * In dieser Methode werden alle Standartvariablen (pi, e, ...) eingefuegt.
 	 */
 	public Interpreter() {
-		lAtomsObj = new LinkedList<Atom>();
-		lAtomsObj.add(new Atom("pi", "3.14159", TokenTypes.TOKEN_NUMBER)); //PI als Variable hinzufuegen
-		lAtomsObj.add(new Atom("e", "2.71828", TokenTypes.TOKEN_NUMBER)); //E als Variable hinzufuegen
-		lAtomsObj.add(new Atom("g", "9.81", TokenTypes.TOKEN_NUMBER)); //Gravitationskonstante als Variable hinzufuegen
+		frameObj = new Frame(0, null);
 	}
 	
 	
 	
 	/**
-	 * Diese Methode fuegt ein Atom der Liste an Atomen hinzu. Wenn der Bezeichner
-	 * eines Atoms bereits vorkommt, so wird es nicht hinzugefuegt.
-	 * 
-	 * @param pAtomObj	Atom, welches hinzugefuegt werden soll.
+	 * Diese Funktion erzeugt den Rahmen eines neuen Funktionsaufrufes, welcher anschliessend der aktuelle Rahmen ist.
 	 * 
-	 * @return			Gibt an, ob das Atom erfolgreich hinzugefuegt wurde.
+	 * @param pnSlotAmount	Anzahl an Plaetzen fuer Variablen (siehe Function.getSlotAmount()).
+	 * @return				Neuer Rahmen.
 	 */
-	public boolean addAtom(Atom pAtomObj) {
-		//Herausfinden, ob das Atom bereits existiert:
-		for (int i = 0; i < lAtomsObj.size(); i++) {
-			if (lAtomsObj.get(i).getName().equals(pAtomObj.getName())) {
-				//Das Atom existiert:
-				return false;
-			}
-		}
-		//Das Atom existiert nicht:
-		lAtomsObj.add(pAtomObj);
-		return true;
+	public Frame enterFrame(int pnSlotAmount) {
+		frameObj = new Frame(pnSlotAmount, frameObj);
+		return frameObj;
 	}
 	
-	
-	
 	/**
-	 * Diese Funktion aendert die Atome, die in dieser Funktion zur Verfuegung stehen.
-	 * 
-	 * @param plNewFunctionParameterObj	Neue Atome, welche zur Verfuegung stehen sollen.
-	 * @return							Alte Atome.
+	 * Diese Funktion verlaesst den aktuellen Rahmen, sodass wieder der Rahmen der aufrufenden Funktion verwendet wird.
 	 */
-	public LinkedList<Atom> changeFunctionAtoms(LinkedList<Atom> plNewFunctionParameterObj) {
-		LinkedList<Atom> lOldAtomsObj = new LinkedList<Atom>();
-		lOldAtomsObj.addAll(lAtomsObj);
-		lAtomsObj.clear();
-		lAtomsObj.addAll(plNewFunctionParameterObj);
-		return lOldAtomsObj;
+	public void leaveFrame() {
+		frameObj = frameObj.getParent();
 	}
 	
 	
 	
 	/**
-	 * Gibt eine Liste, mit allen Atomen zurueck.
+	 * Diese Methode gibt den Wert der Variablen am angegebenen Platz zurueck.
 	 * 
-	 * @return	Liste an Atomen.
+	 * @param pnSlot	Platz der Variablen (siehe Node.getSlot()).
+	 * @return			Wert der Variablen.
 	 */
-	public LinkedList<Atom> getAllAtoms() {
-		return lAtomsObj;
+	public Value getVariable(int pnSlot) {
+		return frameObj.getVariable(pnSlot);
 	}
 	
-	
-	
 	/**
-	 * Diese Methode ersetzt ein Atom in der Liste an Atomen.
+	 * Diese Methode aendert den Wert der Variablen am angegebenen Platz.
 	 * 
-	 * @param pAtomObj	Atom, durch welches ersetzt werden soll.
-	 * 
-	 * @return			Gibt an, ob das Atom erfolgreich ersetzt wurde.
+	 * @param pnSlot	Platz der Variablen (siehe Node.getSlot()).
+	 * @param pValueObj	Neuer Wert.
 	 */
-	public boolean overrideAtom(Atom pAtomObj) {
-		//Herausfinden, ob das Atom bereits existiert:
-		for (int i = 0; i < lAtomsObj.size(); i++) {
-			if (lAtomsObj.get(i).getName().equals(pAtomObj.getName())) {
-				//Atom existiert an der Stelle i:
-				lAtomsObj.set(i, pAtomObj);
-				return true;
-			}
-		}
-		return false;
+	public void setVariable(int pnSlot, Value pValueObj) {
+		frameObj.setVariable(pnSlot, pValueObj);
 	}
 	
-	
+	/**
+	 * Diese Methode speichert den Rueckgabewert der aktuellen Funktion in deren Rahmen.
+	 * 
+	 * @param pValueObj	Rueckgabewert.
+	 */
+	public void setReturnValue(Value pValueObj) {
+		frameObj.setReturnValue(pValueObj);
+	}
 	
 	/**
-	 * Diese Methode sucht das als Parameter angegebene Atom und gibt dessen
-	 * Wert zurueck.
+	 * Diese Methode speichert einen Endaufruf im Rahmen der aktuellen Funktion (siehe Frame.setTailCall()).
 	 * 
-	 * @param psName	Bezeichner des Atoms.
-	 * @return			Atom.
+	 * @param pFunctionObj		Aufgerufene Funktion.
+	 * @param pParametersObj	Bereits ausgewertete Parameter.
 	 */
-	public ReturnValue<Atom> searchAtom(String psName) {
-		//Herausfinden, ob das Atom existiert:
-		for (int i = 0; i < lAtomsObj.size(); i++) {
-			if (lAtomsObj.get(i).getName().equals(psName)) {
-				//Atom gefunden:
-				return new ReturnValue<Atom>(lAtomsObj.get(i), ReturnValueTypes.SUCCESS);
-			}
-		}
-		//Atom wurde nicht gefunden:
-		return new ReturnValue<Atom>(null, ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
+	public void setTailCall(Function pFunctionObj, Value[] pParametersObj) {
+		frameObj.setTailCall(pFunctionObj, pParametersObj);
 	}
 	
 	
+	
 	/**
-	 * Diese Funktion startet den rekursiven Prozess, bei welchem ein abstrakter Syntaxbaum
-	 * ausgerechnet wird.
+	 * Wandelt den Operanden einer Rechnung in eine Zahl um.
 	 * 
-	 * @param ptAbstractSyntaxTree	Abstrakter Syntaxbaum, welcher ausgerechnet werden soll.
-	 * 
-	 * @return						Ergebnis.
+	 * @param pOperandObj	Operand, welcher umgewandelt werden soll.
+	 * @return				Operand als Zahl.
+	 * @throws InterpreterException	Der Operand ist keine Zahl.
 	 */
-	private ReturnValue<Double> interpret_calculation(BinaryTree<Token> ptAbstractSyntaxTree) {
-		double nLeftOperand = 0.00; //Speichert den Wert des linken Operand.
-		double nRightOperand = 0.00; //Speichert den Wert des rechten Operand.
-		
-		if (ptAbstractSyntaxTree.getLeftChild() == null || ptAbstractSyntaxTree.getRightChild() == null) {
-			//Es gibt keinen Teilbaum:
-			return new ReturnValue<Double>(null, ReturnValueTypes.ERROR_SYNTAX);
-		}
-		
-		
-		
-		//--------------- LINKEN OPERAND HERAUSFINDEN ---------------
-		if (ptAbstractSyntaxTree.getLeftChild().getType().equals(TokenTypes.TOKEN_NUMBER)) {
-			//Linker Operand ist eine Zahl:
-			nLeftOperand = Double.parseDouble(ptAbstractSyntaxTree.getLeftChild().getValue());
-		}
-		else if (ptAbstractSyntaxTree.getLeftChild().getType().equals(TokenTypes.TOKEN_OPERATOR)) {
-			//Linker Teilbaum stellt eine neue Rechnung dar:
-			ReturnValue<String> leftSubTreeReturnValueObj = new ReturnValue<String>();
-			leftSubTreeReturnValueObj = interpret(ptAbstractSyntaxTree.getLeftSubTree()); //REKURSION :O
-			if (leftSubTreeReturnValueObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Bei der Rekursion ist ein Fehler aufgetreten:
-				return new ReturnValue<Double>(null, leftSubTreeReturnValueObj.getExecutionInformation());
-			}
-			nLeftOperand = Double.parseDouble(leftSubTreeReturnValueObj.getReturnValue());
-		}
-		else if (ptAbstractSyntaxTree.getLeftChild().getType().equals(TokenTypes.TOKEN_STRING)){
+	public double toNumber(Value pOperandObj) {
+		switch(pOperandObj.getKind()) {
+		case TokenTypes.KIND_NUMBER:
+			//Operand ist eine Zahl:
+			return pOperandObj.getNumber();
+		case TokenTypes.KIND_STRING:
 			//Ein String kommt vor:
 			//Aktuell: String kann nicht verrechnet werden -> FEHLER:
-			return new ReturnValue<Double>(null, ReturnValueTypes.ERROR_CANNOT_OFFSET_STRING_TO_NUMBER);
-		}
-		else if (ptAbstractSyntaxTree.getLeftChild().getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-			//Ein Bezeichner (einer Variablen oder Funktion) kommt vor:
-			ReturnValue<Atom> atomLeftOperandObj = searchAtom(ptAbstractSyntaxTree.getLeftChild().getValue()); //Speichert das Atom.
-			if (atomLeftOperandObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Es gab einen Fehler -> Rekursion beenden:
-				return new ReturnValue<Double>(null, atomLeftOperandObj.getExecutionInformation());
-			}
-			else if (atomLeftOperandObj.getReturnValue().getType().equals(TokenTypes.TOKEN_STRING)) {
-				//String soll zu einer Zahl umgewandelt werden -> FEHLER:
-				return new ReturnValue<Double>(null, ReturnValueTypes.ERROR_CANNOT_OFFSET_STRING_TO_NUMBER);
-			}
-			nLeftOperand = Double.parseDouble(atomLeftOperandObj.getReturnValue().getValue());
-		}
-		else  {
-			//Ein unbekannter Token kommt vor -> FEHLER:
-			return new ReturnValue<Double>(null, ReturnValueTypes.ERROR_UNKNOWN_TOKEN);
-		}
-		
-		
-		
-		//--------------- RECHTEN OPERAND HERAUSFINDEN ---------------
-		if (ptAbstractSyntaxTree.getRightChild().getType().equals(TokenTypes.TOKEN_NUMBER)) {
-			//Rechter Operand ist eine Zahl:
-			nRightOperand = Double.parseDouble(ptAbstractSyntaxTree.getRightChild().getValue());
-		}
-		else if (ptAbstractSyntaxTree.getRightChild().getType().equals(TokenTypes.TOKEN_OPERATOR)) {
-			//Rechter Teilbaum stellt eine neue Rechnung dar:
-			ReturnValue<String> rightSubTreeReturnValueObj = new ReturnValue<String>();
-			rightSubTreeReturnValueObj = interpret(ptAbstractSyntaxTree.getRightSubTree()); //REKURSION :O
-			if (rightSubTreeReturnValueObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Bei der Rekursion ist ein Fehler aufgetreten:
-				return new ReturnValue<Double>(null, rightSubTreeReturnValueObj.getExecutionInformation());
-			}
-			nRightOperand = Double.parseDouble(rightSubTreeReturnValueObj.getReturnValue());
-		}
-		else if (ptAbstractSyntaxTree.getRightChild().getType().equals(TokenTypes.TOKEN_STRING)){
-			//Ein String kommt vor:
-			//Aktuell: String kann nicht verrechnet werden -> FEHLER:
-			return new ReturnValue<Double>(null, ReturnValueTypes.ERROR_CANNOT_OFFSET_STRING_TO_NUMBER);
-		}
-		else if (ptAbstractSyntaxTree.getRightChild().getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-			//Ein Bezeichner (einer Variablen oder Funktion) kommt vor:
-			ReturnValue<Atom> atomRightOperandObj = searchAtom(ptAbstractSyntaxTree.getRightChild().getValue()); //Speichert das Atom.
-			if (atomRightOperandObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Es gab einen Fehler -> Rekursion beenden:
-				return new ReturnValue<Double>(null, atomRightOperandObj.getExecutionInformation());
-			}
-			else if (atomRightOperandObj.getReturnValue().getType().equals(TokenTypes.TOKEN_STRING)) {
-				//String soll zu einer Zahl umgewandelt werden -> FEHLER:
-				return new ReturnValue<Double>(null, ReturnValueTypes.ERROR_CANNOT_OFFSET_STRING_TO_NUMBER);
-			}
-			nRightOperand = Double.parseDouble(atomRightOperandObj.getReturnValue().getValue());
-		}
-		else  {
+			throw new InterpreterException(ReturnValueTypes.ERROR_CANNOT_OFFSET_STRING_TO_NUMBER);
+		default:
 			//Ein unbekannter Token kommt vor -> FEHLER:
-			return new ReturnValue<Double>(null, ReturnValueTypes.ERROR_UNKNOWN_TOKEN);
-		}
-		
-		
-		
-		//Zahlen verrechnen:
-		if (ptAbstractSyntaxTree.getContent().getType().equals(TokenTypes.TOKEN_OPERATOR)) {
-			if (ptAbstractSyntaxTree.getContent().getValue().equals("+")) {
-				//Addition:
-				return new ReturnValue<Double>((double)(nLeftOperand + nRightOperand), ReturnValueTypes.SUCCESS);
-			}
-			else if (ptAbstractSyntaxTree.getContent().getValue().equals("-")) {
-				//Subtraktion:
-				return new ReturnValue<Double>((double)(nLeftOperand - nRightOperand), ReturnValueTypes.SUCCESS);
-			}
-			else if (ptAbstractSyntaxTree.getContent().getValue().equals("*")) {
-				//Multiplikation:
-				return new ReturnValue<Double>((double)(nLeftOperand * nRightOperand), ReturnValueTypes.SUCCESS);
-			}
-			else if (ptAbstractSyntaxTree.getContent().getValue().equals("/")) {
-				//Division:
-				//Sonderfaelle:
-				if (nRightOperand == 0) {
-					//Rechter Operand 0 -> FEHLER:
-					return new ReturnValue<Double>(0.0, ReturnValueTypes.ERROR_DIVIDE_BY_ZERO);
-				}
-				return new ReturnValue<Double>((double)(nLeftOperand / nRightOperand), ReturnValueTypes.SUCCESS);
-			}
-			else if (ptAbstractSyntaxTree.getContent().getValue().equals(KeywordTypes.OPERATOR_MODULO)) {
-				return new ReturnValue<Double>((double)(nLeftOperand % nRightOperand), ReturnValueTypes.SUCCESS);
-			}
-			else {
-				//Unbekannter Operator -> FEHLER:
-				return new ReturnValue<Double>(0.0, ReturnValueTypes.ERROR_UNKNOWN_OPERATOR);
-			}
-		}
-		else {
-			//Es gibt keinen gueltigen Operator -> FEHLER:
-			return new ReturnValue<Double>(0.0, ReturnValueTypes.ERROR_UNKNOWN_OPERATOR);
+			throw new InterpreterException(ReturnValueTypes.ERROR_UNKNOWN_TOKEN);
 		}
 	}
 	
 	
 	
 	/**
-	 * Diese Funktion startet den rekursiven Porzes, bei welchem ein abstrakter Syntaxbaum, welcher
-	 * eine boolesche Operation darstellt, ausgerechnet wird.
+	 * Diese Funktion verrechnet zwei Zahlen mit dem angegebenen Operator.
 	 * 
-	 * @param ptAbstractSyntaxTree	Abstrakter Syntaxbaum.
-	 * @return						Ergebnis der boolschen Rechnung (true / false).
+	 * @param psOperator		Rechenoperator.
+	 * @param pnLeftOperand		Linker Operand.
+	 * @param pnRightOperand	Rechter Operand.
+	 * @return					Ergebnis.
+	 * @throws InterpreterException	Division durch 0 oder unbekannter Operator.
 	 */
-	private ReturnValue<Boolean> interpret_booleanComparison(BinaryTree<Token> ptAbstractSyntaxTree) {
-		Token leftOperandObj; //Speichert den linken Operanden als Token.
-		Token rightOperandObj; //Speichert den rechten Operanden als Token.
-		
-		
-		
-		//--------------- LINKEN OPERAND HERAUSFINDEN ---------------
-		Token leftChildObj = new Token(ptAbstractSyntaxTree.getLeftChild().getValue(), ptAbstractSyntaxTree.getLeftChild().getType()); //Speichert den linken Knoten.
-		if (leftChildObj.getType().equals(TokenTypes.TOKEN_BOOLEAN) || leftChildObj.getType().equals(TokenTypes.TOKEN_STRING) || leftChildObj.getType().equals(TokenTypes.TOKEN_NUMBER)) {
-			//Es handelt sich um einen boolschen Wert oder einen String oder eine Nummer:
-			leftOperandObj = new Token(leftChildObj.getValue(), leftChildObj.getType());
-		}
-		else if (leftChildObj.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-			//Es handelt sich um den Bezeichner eines Atoms:
-			ReturnValue<Atom> returnAtomObj = new ReturnValue<Atom>(); //Speichert das gesuchte Atom.
-			returnAtomObj = searchAtom(leftChildObj.getValue());
-			if (returnAtomObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Es ist ein Fehler aufgetreten:
-				return new ReturnValue<Boolean>(false, returnAtomObj.getExecutionInformation());
-			}
-			leftOperandObj = new Token(returnAtomObj.getReturnValue().getValue(), returnAtomObj.getReturnValue().getType());
-		}
-		else if (leftChildObj.getType().equals(TokenTypes.TOKEN_OPERATOR)) {
-			//Es handelt sich um eine Subrechnung:
-			ReturnValue<String> sReturnCalculationObj = new ReturnValue<String>();
-			sReturnCalculationObj = interpret(ptAbstractSyntaxTree.getLeftSubTree());
-			if (sReturnCalculationObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Es ist ein Fehler aufgetreten:
-				return new ReturnValue<Boolean>(false, sReturnCalculationObj.getExecutionInformation());
-			}
-			leftOperandObj = new Token(sReturnCalculationObj.getReturnValue(),TokenTypes.TOKEN_NUMBER);
-		}
-		else if (leftChildObj.getType().equals(TokenTypes.TOKEN_OPERATOR_BOOLEAN)) {
-			//Es handelt sich um einen Vergleich:
-			ReturnValue<String> sReturnComparisonObj = new ReturnValue<String>();
-			sReturnComparisonObj = interpret(ptAbstractSyntaxTree.getLeftSubTree());
-			if (sReturnComparisonObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Es ist ein Fehler aufgetreten:
-				return new ReturnValue<Boolean>(false, sReturnComparisonObj.getExecutionInformation());
-			}
-			leftOperandObj = new Token(sReturnComparisonObj.getReturnValue(),TokenTypes.TOKEN_BOOLEAN);
-		}
-		else {
-			//Unbekannter Token:
-			return new ReturnValue<Boolean>(false, ReturnValueTypes.ERROR_UNKNOWN_TOKEN);
-		}
-		
-		
-		
-		//--------------- RECHTEN OPERAND HERAUSFINDEN ---------------
-		Token rightChildObj = new Token(ptAbstractSyntaxTree.getRightChild().getValue(), ptAbstractSyntaxTree.getRightChild().getType()); //Speichert den linken Knoten.
-		if (rightChildObj.getType().equals(TokenTypes.TOKEN_BOOLEAN) || rightChildObj.getType().equals(TokenTypes.TOKEN_STRING) || rightChildObj.getType().equals(TokenTypes.TOKEN_NUMBER)) {
-			//Es handelt sich um einen boolschen Wert oder einen String oder eine Nummer:
-			rightOperandObj = new Token(rightChildObj.getValue(), rightChildObj.getType());
-		}
-		else if (rightChildObj.getType().equals(TokenTypes.TOKEN_IDENTIFIER)) {
-			//Es handelt sich um den Bezeichner eines Atoms:
-			ReturnValue<Atom> returnAtomObj = new ReturnValue<Atom>(); //Speichert das gesuchte Atom.
-			returnAtomObj = searchAtom(rightChildObj.getValue());
-			if (returnAtomObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Es ist ein Fehler aufgetreten:
-				return new ReturnValue<Boolean>(false, returnAtomObj.getExecutionInformation());
-			}
-			rightOperandObj = new Token(returnAtomObj.getReturnValue().getValue(), returnAtomObj.getReturnValue().getType());
-		}
-		else if (rightChildObj.getType().equals(TokenTypes.TOKEN_OPERATOR)) {
-			//Es handelt sich um eine Subrechnung:
-			ReturnValue<String> sReturnCalculationObj = new ReturnValue<String>();
-			sReturnCalculationObj = interpret(ptAbstractSyntaxTree.getRightSubTree());
-			if (sReturnCalculationObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Es ist ein Fehler aufgetreten:
-				return new ReturnValue<Boolean>(false, sReturnCalculationObj.getExecutionInformation());
-			}
-			rightOperandObj = new Token(sReturnCalculationObj.getReturnValue(),TokenTypes.TOKEN_NUMBER);
-		}
-		else if (rightChildObj.getType().equals(TokenTypes.TOKEN_OPERATOR_BOOLEAN)) {
-			//Es handelt sich um einen Vergleich:
-			ReturnValue<String> sReturnComparisonObj = new ReturnValue<String>();
-			sReturnComparisonObj = interpret(ptAbstractSyntaxTree.getRightSubTree());
-			if (sReturnComparisonObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Es ist ein Fehler aufgetreten:
-				return new ReturnValue<Boolean>(false, sReturnComparisonObj.getExecutionInformation());
-			}
-			rightOperandObj = new Token(sReturnComparisonObj.getReturnValue(),TokenTypes.TOKEN_BOOLEAN);
-		}
-		else {
-			//Unbekannter Token:
-			return new ReturnValue<Boolean>(false, ReturnValueTypes.ERROR_UNKNOWN_TOKEN);
+	public double calculate(String psOperator, double pnLeftOperand, double pnRightOperand) {
+		switch(psOperator) {
+		case "+":
+			//Addition:
+			return pnLeftOperand + pnRightOperand;
+			
+		case "-":
+			//Subtraktion:
+			return pnLeftOperand - pnRightOperand;
+			
+		case "*":
+			//Multiplikation:
+			return pnLeftOperand * pnRightOperand;
+			
+		case "/":
+			//Division:
+			//Sonderfaelle:
+			if (pnRightOperand == 0) {
+				//Rechter Operand 0 -> FEHLER:
+				throw new InterpreterException(ReturnValueTypes.ERROR_DIVIDE_BY_ZERO);
+			}
+			return pnLeftOperand / pnRightOperand;
+			
+		case "%":
+			//Modulo:
+			return pnLeftOperand % pnRightOperand;
+			
+		default:
+			//Unbekannter Operator -> FEHLER:
+			throw new InterpreterException(ReturnValueTypes.ERROR_UNKNOWN_OPERATOR);
 		}
-		
-		
-		
+	}
+	
+	
+	
+	/**
+	 * Diese Funktion vergleicht zwei Werte mit dem angegebenen booleschen Operator.
+	 * 
+	 * @param psOperator		Boolescher Operator.
+	 * @param pLeftOperandObj	Linker Operand.
+	 * @param pRightOperandObj	Rechter Operand.
+	 * @return					Ergebnis des Vergleichs (true / false).
+	 * @throws InterpreterException	Die Operanden koennen nicht miteinander verglichen werden.
+	 */
+	public boolean compare(String psOperator, Value pLeftOperandObj, Value pRightOperandObj) {
 		//Werte miteinander vergleichen:
-		if (!leftOperandObj.getType().equals(rightOperandObj.getType())) {
+		if (pLeftOperandObj.getKind() != pRightOperandObj.getKind()) {
 			//Operanden sind nicht vom selben Typen:
-			return new ReturnValue<Boolean>(false, ReturnValueTypes.ERROR_UNEQUAL_DATA);
+			throw new InterpreterException(ReturnValueTypes.ERROR_UNEQUAL_DATA);
 		}
 		
-		switch(ptAbstractSyntaxTree.getContent().getValue()) {
+		switch(psOperator) {
 		case "=":
 			//Ueberpruefen, ob die Werte identisch sind:
-			if (leftOperandObj.getType().equals(TokenTypes.TOKEN_NUMBER)) {
-				double nLeftOperand = Double.parseDouble(leftOperandObj.getValue()); //Speichert den linken Operanden als Zahl.
-				double nRightOperand = Double.parseDouble(rightOperandObj.getValue()); //Speichert den rechten Operanden als Zahl.
-				if (nLeftOperand == nRightOperand) {
+			if (pLeftOperandObj.getKind() == TokenTypes.KIND_NUMBER) {
+				if (pLeftOperandObj.getNumber() == pRightOperandObj.getNumber()) {
 					//Werte sind identisch:
-					return new ReturnValue<Boolean>(true, ReturnValueTypes.SUCCESS);
+					return true;
 				}
 			}
-			if (leftOperandObj.getValue().equals(rightOperandObj.getValue())) {
-				//Werte sind identisch:
-				return new ReturnValue<Boolean>(true, ReturnValueTypes.SUCCESS);
-			}
-			return new ReturnValue<Boolean>(false, ReturnValueTypes.SUCCESS);
+			return pLeftOperandObj.getText().equals(pRightOperandObj.getText());
 			
 		case "<":
-			//Ueberpruefen, ob der linke Operand kleiner als der rechte ist:
-			if (leftOperandObj.getType().equals(TokenTypes.TOKEN_NUMBER)) {
-				//Es handelt sich um Zahlen:
-				if (Double.parseDouble(leftOperandObj.getValue()) < Double.parseDouble(rightOperandObj.getValue())) {
-					//Der linke Operand ist kleiner als der rechte:
-					return new ReturnValue<Boolean>(true, ReturnValueTypes.SUCCESS);
-				}
-				return new ReturnValue<Boolean>(false, ReturnValueTypes.SUCCESS);
-			}
-			else {
-				//Opernaden koennen ueber diesen Operator nicht verglichen werden:
-				return new ReturnValue<Boolean>(false, ReturnValueTypes.ERROR_SYNTAX);
-			}
-			
 		case ">":
-			//Ueberpruefen, ob der linke Operand groesser als der rechte ist:
-			if (leftOperandObj.getType().equals(TokenTypes.TOKEN_NUMBER)) {
-				//Es handelt sich um Zahlen:
-				if (Double.parseDouble(leftOperandObj.getValue()) > Double.parseDouble(rightOperandObj.getValue())) {
-					//Der linke Operand ist groesser als der rechte:
-					return new ReturnValue<Boolean>(true, ReturnValueTypes.SUCCESS);
-				}
-				return new ReturnValue<Boolean>(false, ReturnValueTypes.SUCCESS);
-			}
-			else {
-				//Opernaden koennen ueber diesen Operator nicht verglichen werden:
-				return new ReturnValue<Boolean>(false, ReturnValueTypes.ERROR_SYNTAX);
-			}
-			
 		case ">=":
-			//Ueberpruefen, ob der linke Operand groesser order gleich dem rechten ist:
-			if (leftOperandObj.getType().equals(TokenTypes.TOKEN_NUMBER)) {
-				//Es handelt sich um Zahlen:
-				if (Double.parseDouble(leftOperandObj.getValue()) >= Double.parseDouble(rightOperandObj.getValue())) {
-					//Der linke Operand ist groesser oder gleich dem rechten:
-					return new ReturnValue<Boolean>(true, ReturnValueTypes.SUCCESS);
-				}
-				return new ReturnValue<Boolean>(false, ReturnValueTypes.SUCCESS);
-			}
-			else {
-				//Opernaden koennen ueber diesen Operator nicht verglichen werden:
-				return new ReturnValue<Boolean>(false, ReturnValueTypes.ERROR_SYNTAX);
-			}
-			
 		case "<=":
-			//Ueberpruefen, ob der linke Operand kleiner order gleich dem rechten ist:
-			if (leftOperandObj.getType().equals(TokenTypes.TOKEN_NUMBER)) {
-				//Es handelt sich um Zahlen:
-				if (Double.parseDouble(leftOperandObj.getValue()) <= Double.parseDouble(rightOperandObj.getValue())) {
-					//Der linke Operand ist kleiner oder gleich dem rechten:
-					return new ReturnValue<Boolean>(true, ReturnValueTypes.SUCCESS);
-				}
-				return new ReturnValue<Boolean>(false, ReturnValueTypes.SUCCESS);
-			}
-			else {
+			//Groessenvergleich:
+			if (pLeftOperandObj.getKind() != TokenTypes.KIND_NUMBER) {
 				//Opernaden koennen ueber diesen Operator nicht verglichen werden:
-				return new ReturnValue<Boolean>(false, ReturnValueTypes.ERROR_SYNTAX);
+				throw new InterpreterException(ReturnValueTypes.ERROR_SYNTAX);
+			}
+			double nLeftOperand = pLeftOperandObj.getNumber(); //Speichert den linken Operanden als Zahl.
+			double nRightOperand = pRightOperandObj.getNumber(); //Speichert den rechten Operanden als Zahl.
+			switch(psOperator) {
+			case "<":
+				return nLeftOperand < nRightOperand;
+			case ">":
+				return nLeftOperand > nRightOperand;
+			case ">=":
+				return nLeftOperand >= nRightOperand;
+			default:
+				return nLeftOperand <= nRightOperand;
 			}
 			
 		case "!":
 			//Ueberpruefen, ob die Werte nicht identisch sind:
-			if (!leftOperandObj.getValue().equals(rightOperandObj.getValue())) {
-				//Werte sind nicht identisch:
-				return new ReturnValue<Boolean>(true, ReturnValueTypes.SUCCESS);
-			}
-			return new ReturnValue<Boolean>(false, ReturnValueTypes.SUCCESS);
+			return !pLeftOperandObj.getText().equals(pRightOperandObj.getText());
 			
 		default:
 			//Unbekannter Operator wurde verwendet:
-			return new ReturnValue<Boolean>(false, ReturnValueTypes.ERROR_UNKNOWN_OPERATOR);
+			throw new InterpreterException(ReturnValueTypes.ERROR_UNKNOWN_OPERATOR);
 		}
 	}
 	
-	
-	
-	/**
-	 * Startet den Vorgang, bei welchem eine Codezeile interpretiert wird.
-	 * 
-	 * @param plAbstractSyntaxTree	Abstrakter Syntaxbaum, welcher interpretiert werden soll.
-	 * 
-	 * @return						0, wenn der Vorgang erfolgreich abgeschlossen wurde, sonst
-	 * 								wird hier der Fehler uebergeben.
-	 */
-	public ReturnValue<String> interpret(BinaryTree<Token> ptAbstractSyntaxTree) {
-		ReturnValue<String> r = new ReturnValue<String>();
-		
-		if (ptAbstractSyntaxTree.getContent() != null) {
-			
-			if (ptAbstractSyntaxTree.getContent().getType().equals(TokenTypes.TOKEN_OPERATOR)) {
-				//Es handelt sich um eine Rechenoperation:
-				ReturnValue<Double> r2 = interpret_calculation(ptAbstractSyntaxTree);
-				r = new ReturnValue<String>(String.valueOf(r2.getReturnValue()), r2.getExecutionInformation());
-			}
-			else if (ptAbstractSyntaxTree.getContent().getType().equals(TokenTypes.TOKEN_OPERATOR_BOOLEAN)) {
-				//Es handelt sich um einen Vergleich:
-				ReturnValue<Boolean> returnBooleanComparison = interpret_booleanComparison(ptAbstractSyntaxTree);
-				if (returnBooleanComparison.getReturnValue() == true) {
-					//Der Wert lautet "true":
-					r = new ReturnValue<String>(KeywordTypes.BOOLEAN_T, returnBooleanComparison.getExecutionInformation());
-				}
-				else {
-					//Der Wert lautet "false":
-					r = new ReturnValue<String>(KeywordTypes.BOOLEAN_F, returnBooleanComparison.getExecutionInformation());
-				}
-			}
-			else {
-				r = new ReturnValue<String>(null, ReturnValueTypes.ERROR_UNKNOWN);
-			}
-		}
-		else {
-			return new ReturnValue<String>(null, ReturnValueTypes.ERROR_UNKNOWN);
-		}
-		
-		return r;
-	}
-	
 }
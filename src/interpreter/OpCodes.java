@@ -0,0 +1,165 @@
+package interpreter;
+
+
+
+/**
+ * Speichert alle Befehle des Bytecodes (siehe BytecodeCompiler und VirtualMachine). Jeder Befehl besteht aus
+ * seiner Nummer und gegebenenfalls einem oder zwei Argumenten, welche direkt im Anschluss im Bytecode stehen.
+ * Die Befehle arbeiten auf einem Stapel an Werten.
+ * 
+ * @version	18.10.2026
+ * 
+ * @author	Christian S
+ */
+class OpCodes {
+	/**
+	 * Legt eine Konstante auf den Stapel. Argument: Index der Konstanten.
+	 */
+	static final int PUSH_CONST = 0;
+	
+	/**
+	 * Legt den Wert einer Variablen auf den Stapel. Argument: Platz der Variablen.
+	 */
+	static final int LOAD = 1;
+	
+	/**
+	 * Entfernt den obersten Wert vom Stapel und speichert diesen in einer Variablen. Argument: Platz der Variablen.
+	 */
+	static final int STORE = 2;
+	
+	/**
+	 * Entfernt den obersten Wert vom Stapel.
+	 */
+	static final int POP = 3;
+	
+	/**
+	 * Ueberprueft, ob der oberste Wert eine Zahl ist (erster Operand einer Rechnung).
+	 */
+	static final int CHECK_NUMBER = 4;
+	
+	/**
+	 * Ersetzt den obersten Wert durch seinen Wert als Zahl (Rechnung mit nur einem Operanden).
+	 */
+	static final int TO_NUMBER = 5;
+	
+	/**
+	 * Addiert die beiden obersten Werte.
+	 */
+	static final int ADD = 6;
+	
+	/**
+	 * Subtrahiert den obersten Wert vom darunterliegenden Wert.
+	 */
+	static final int SUB = 7;
+	
+	/**
+	 * Multipliziert die beiden obersten Werte.
+	 */
+	static final int MUL = 8;
+	
+	/**
+	 * Dividiert den darunterliegenden Wert durch den obersten Wert.
+	 */
+	static final int DIV = 9;
+	
+	/**
+	 * Berechnet den Rest der Division des darunterliegenden Wertes durch den obersten Wert.
+	 */
+	static final int MOD = 10;
+	
+	/**
+	 * Vergleicht die beiden obersten Werte auf Gleichheit ("=").
+	 */
+	static final int EQ = 11;
+	
+	/**
+	 * Vergleicht die beiden obersten Werte auf Ungleichheit ("!").
+	 */
+	static final int NE = 12;
+	
+	/**
+	 * Vergleicht die beiden obersten Werte ("<").
+	 */
+	static final int LT = 13;
+	
+	/**
+	 * Vergleicht die beiden obersten Werte (">").
+	 */
+	static final int GT = 14;
+	
+	/**
+	 * Vergleicht die beiden obersten Werte ("<=").
+	 */
+	static final int LE = 15;
+	
+	/**
+	 * Vergleicht die beiden obersten Werte (">=").
+	 */
+	static final int GE = 16;
+	
+	/**
+	 * Vergleicht die beiden obersten Werte mit einem sonstigen Operator. Argument: Index des Operators unter den
+	 * Konstanten.
+	 */
+	static final int COMPARE = 17;
+	
+	/**
+	 * Springt an eine Position im Bytecode. Argument: Position.
+	 */
+	static final int JUMP = 18;
+	
+	/**
+	 * Entfernt die Bedingung vom Stapel und springt an eine Position, falls diese falsch ist. Argument: Position.
+	 */
+	static final int JUMP_IF_FALSE = 19;
+	
+	/**
+	 * Entfernt den obersten Wert vom Stapel und gibt diesen aus ("princ").
+	 */
+	static final int PRINT = 20;
+	
+	/**
+	 * Entfernt den obersten Wert vom Stapel und gibt diesen mit Zeilenumbruch aus ("princln").
+	 */
+	static final int PRINTLN = 21;
+	
+	/**
+	 * Fuehrt einen Knoten ohne auszuwertende Kinder ueber den Controller aus ("scan", Instanziierung). Argument:
+	 * Index des Knotens unter den Konstanten.
+	 */
+	static final int PROCESS = 22;
+	
+	/**
+	 * Ruft eine selbst definierte Funktion auf. Argumente: Index der Funktion unter den Konstanten und Anzahl an
+	 * Parametern auf dem Stapel.
+	 */
+	static final int CALL = 23;
+	
+	/**
+	 * Ruft eine vordefinierte Funktion auf. Argumente: Index der Funktion unter den Konstanten und Anzahl an
+	 * Parametern auf dem Stapel.
+	 */
+	static final int CALL_BUILTIN = 24;
+	
+	/**
+	 * Beendet die aktuelle Funktion und ruft eine selbst definierte Funktion auf derselben Tiefe auf (Endaufruf).
+	 * Argumente: wie bei CALL.
+	 */
+	static final int TAIL_CALL = 25;
+	
+	/**
+	 * Beendet die aktuelle Funktion mit dem obersten Wert als Rueckgabewert.
+	 */
+	static final int RETURN = 26;
+	
+	/**
+	 * Beendet die aktuelle Funktion ohne Rueckgabewert.
+	 */
+	static final int RETURN_NONE = 27;
+	
+	/**
+	 * Meldet einen Fehler, welcher bereits beim Uebersetzen erkannt wurde. Argument: Fehlermeldung (siehe
+	 * ReturnValueTypes).
+	 */
+	static final int FAIL = 28;
+}
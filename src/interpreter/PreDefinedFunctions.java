@@ -2,11 +2,14 @@ package interpreter;
 
 import java.lang.Math;
 
+import tokenizer.*;
+
 
 
 /**
- * Diese Klasse enthaelt statische Methoden, welche jeweils vordefinierte Funktionen darstellen. Diese koennen dann vom
- * Interpreter ausgefuehrt werden, ohne selbst definiert zu werden.
+ * Diese Klasse enthaelt die vordefinierten Funktionen (siehe BuiltinFunction). Diese koennen dann vom
+ * Interpreter ausgefuehrt werden, ohne selbst definiert zu werden. Registriert werden die Funktionen in der
+ * Klasse "BuiltinFunctions".
  * 
  * @author	Christian S
  * @version	14.04.2021
@@ -14,164 +17,150 @@ import java.lang.Math;
 public class PreDefinedFunctions {
 	/**
 	 * Gibt die Laenge eines Strings zurueck.
-	 * 
-	 * @param psString	String, wessen Laenge gemessen werden soll.
-	 * @return			Laenge des Strings.
-	 */
-	public static double length(String psString) {
-		return (double)psString.length();
-	}
-	
-	/**
-	 * Speichert die Anzahl der Parameter der "length()"-Funktion:
+	 * Parameter: String, wessen Laenge gemessen werden soll.
 	 */
-	public static int LENGTH_PARAMETERS = 1;
-
-	
+	public static final BuiltinFunction LENGTH = new BuiltinFunction(KeywordTypes.FUNCTION_LENGTH, 1) {
+		@Override
+		public Value call(Value[] pParametersObj) {
+			return new Value((double)pParametersObj[0].getText().length());
+		}
+	};
 	
 	
 	
 	/**
-	 * Gibt an, ob es sich bei einem String um eine Zahl handelt.
-	 * 
-	 * @param psString	String, welcher geprueft werden soll.
-	 * @return			Ob es sich um eine Zahl handelt.
+	 * Gibt an, ob es sich bei einem Wert um eine Zahl handelt.
+	 * Parameter: Wert, welcher geprueft werden soll.
 	 */
-	public static String isNumber(String psString) {
-		try {
-			double nNumber = Double.parseDouble(psString);
-		}
-		catch (NumberFormatException exceptionObj) {
-			return "nil";
+	public static final BuiltinFunction ISNUMBER = new BuiltinFunction(KeywordTypes.FUNCTION_ISNUMBER, 1) {
+		@Override
+		public Value call(Value[] pParametersObj) {
+			try {
+				toNumber(pParametersObj[0]);
+			}
+			catch (NumberFormatException exceptionObj) {
+				return new Value(false);
+			}
+			return new Value(true);
 		}
-		return "t";
-	}
-	
-	/**
-	 * Speichert die Anzahl der Parameter der "isNumber()"-Funktion.
-	 */
-	public static int ISNUMBER_PARAMETERS = 1;
-
+	};
 	
 	
 	
-	
-	/**
-	 * Gibt den Funktionswert des als Paramters engegebenen Wertes der sin()-Funktion
-	 * zurueck.
-	 * 
-	 * @param psString	String, welcher den Funktionsparameter speichert.
-	 * @return			Liefert den Funktionswert zurueck.
-	*/
-	public static String sin(String psString) {
-		try {
-			double x = Double.parseDouble(psString);
-			return String.valueOf(Math.sin(x));
-		}
-		catch (NumberFormatException exceptionObj) {
-			return "0.00";
-		}
-	}
-	
 	/**
-	 * Speichert die Anzahl der Parameter der "isNumber()"-Funktion.
+	 * Gibt den Funktionswert des als Paramters engegebenen Wertes der sin()-Funktion zurueck.
+	 * Parameter: Funktionsparameter.
 	 */
-	public static int SIN_PARAMETERS = 1;
-
-	
+	public static final BuiltinFunction SIN = new BuiltinFunction(KeywordTypes.FUNCTION_SIN, 1) {
+		@Override
+		public Value call(Value[] pParametersObj) {
+			try {
+				return new Value(Math.sin(toNumber(pParametersObj[0])));
+			}
+			catch (NumberFormatException exceptionObj) {
+				return new Value("0.00", TokenTypes.KIND_NUMBER);
+			}
+		}
+	};
 	
 	
 	
 	/**
-	 * Gibt den Funktionswert des als Paramters engegebenen Wertes der cos()-Funktion
-	 * zurueck.
-	 * 
-	 * @param psString	String, welcher den Funktionsparameter speichert.
-	 * @return			Liefert den Funktionswert zurueck.
-	*/
-	public static String cos(String psString) {
-		try {
-			double x = Double.parseDouble(psString);
-			return String.valueOf(Math.cos(x));
-		}
-		catch (NumberFormatException exceptionObj) {
-			return "0.00";
+	 * Gibt den Funktionswert des als Paramters engegebenen Wertes der cos()-Funktion zurueck.
+	 * Parameter: Funktionsparameter.
+	 */
+	public static final BuiltinFunction COS = new BuiltinFunction(KeywordTypes.FUNCTION_COS, 1) {
+		@Override
+		public Value call(Value[] pParametersObj) {
+			try {
+				return new Value(Math.cos(toNumber(pParametersObj[0])));
+			}
+			catch (NumberFormatException exceptionObj) {
+				return new Value("0.00", TokenTypes.KIND_NUMBER);
+			}
 		}
-	}
+	};
+	
+	
 	
 	/**
-	 * Speichert die Anzahl der Parameter der "isNumber()"-Funktion.
+	 * Gibt den Funktionswert des als Paramters engegebenen Wertes der tan()-Funktion zurueck.
+	 * Parameter: Funktionsparameter.
 	 */
-	public static int COS_PARAMETERS = 1;
-
-	
+	public static final BuiltinFunction TAN = new BuiltinFunction(KeywordTypes.FUNCTION_TAN, 1) {
+		@Override
+		public Value call(Value[] pParametersObj) {
+			try {
+				return new Value(Math.tan(toNumber(pParametersObj[0])));
+			}
+			catch (NumberFormatException exceptionObj) {
+				return new Value("0.00", TokenTypes.KIND_NUMBER);
+			}
+		}
+	};
 	
 	
 	
 	/**
-	 * Gibt den Funktionswert des als Paramters engegebenen Wertes der tan()-Funktion
-	 * zurueck.
-	 * 
-	 * @param psString	String, welcher den Funktionsparameter speichert.
-	 * @return			Liefert den Funktionswert zurueck.
-	*/
-	public static String tan(String psString) {
-		try {
-			double x = Double.parseDouble(psString);
-			return String.valueOf(Math.tan(x));
-		}
-		catch (NumberFormatException exceptionObj) {
-			return "0.00";
+	 * Gibt den Funktionswert des als Paramters engegebenen Wertes der sqrt()-Funktion zurueck.
+	 * Parameter: Funktionsparameter.
+	 */
+	public static final BuiltinFunction SQRT = new BuiltinFunction(KeywordTypes.FUNCTION_SQRT, 1) {
+		@Override
+		public Value call(Value[] pParametersObj) {
+			try {
+				return new Value(Math.sqrt(toNumber(pParametersObj[0])));
+			}
+			catch (NumberFormatException exceptionObj) {
+				return new Value("0.00", TokenTypes.KIND_NUMBER);
+			}
 		}
-	}
+	};
+	
+	
 	
 	/**
-	 * Speichert die Anzahl der Parameter der "isNumber()"-Funktion.
+	 * Gibt das Zeichen, welches sich an einer Position in einem String befindet, zurueck.
+	 * Parameter: String, in welchem das Zeichen gesucht wird, und Position, dessen Zeichen zurueckgegeben
+	 * werden soll.
 	 */
-	public static int TAN_PARAMETERS = 1;
-
-	
+	public static final BuiltinFunction CHARAT = new BuiltinFunction(KeywordTypes.FUNCTION_CHARAT, 2) {
+		@Override
+		public Value call(Value[] pParametersObj) {
+			return new Value(charAt(pParametersObj[0].getText(), pParametersObj[1]), TokenTypes.KIND_STRING);
+		}
+	};
 	
 	
 	
 	/**
-	 * Gibt den Funktionswert des als Paramters engegebenen Wertes der sqrt()-Funktion
-	 * zurueck.
-	 * 
-	 * @param psString	String, welcher den Funktionsparameter speichert.
-	 * @return			Liefert den Funktionswert zurueck.
-	*/
-	public static String sqrt(String psString) {
-		try {
-			double x = Double.parseDouble(psString);
-			return String.valueOf(Math.sqrt(x));
-		}
-		catch (NumberFormatException exceptionObj) {
-			return "0.00";
+	 * Gibt den Substring eines Strings zwischen zwei Positionen zurueck.
+	 * Parameter: String, welcher zerlegt werden soll, Index des ersten Zeichens und Index hinter dem letzten
+	 * Zeichen des Substrings.
+	 */
+	public static final BuiltinFunction SUBSTRING = new BuiltinFunction(KeywordTypes.FUNCTION_SUBSTRING, 3) {
+		@Override
+		public Value call(Value[] pParametersObj) {
+			return new Value(substring(pParametersObj[0].getText(), pParametersObj[1], pParametersObj[2]), TokenTypes.KIND_STRING);
 		}
-	}
+	};
 	
-	/**
-	 * Speichert die Anzahl der Parameter der "isNumber()"-Funktion.
-	 */
-	public static int SQRT_PARAMETERS = 1;
 	
 	
 	
 	
 	/**
-	 * Gibt das Zeichen, welches sich an der Position pnPos im String psString befindet zurueck.
+	 * Gibt das Zeichen, welches sich an der Position pPosObj im String psString befindet zurueck.
 	 * 
 	 * @param psString	String, in welchem das Zeichen gesucht wird.
-	 * @param psPos		Position, dessen Zeichen zurueckgegeben werden soll.
+	 * @param pPosObj	Position, dessen Zeichen zurueckgegeben werden soll.
 	 * @return			Zeichen an der Position im String.
 	 */
-	public static String charAt(String psString, String psPos) {
+	private static String charAt(String psString, Value pPosObj) {
 		try {
 			//Da alle Zahlen in diesem Lisp den Typen "double" aufweisen, hier jedoch ein index (also ein Integer) notwendig ist, muss die Eingabe zuerst
-			//ueber "Double.parseDouble()" in einen double Wert umgewandelt werden, und anschliessend ueber einen Typecast in einen Integer umgewandelt
-			//werden. Sonst kommt es zu einer "NumberFormatException", obwohl eine korrekte Zahl angegeben wurde.
-			double nPosAsDouble = Double.parseDouble(psPos);
+			//in einen double Wert umgewandelt werden, und anschliessend ueber einen Typecast in einen Integer umgewandelt werden.
+			double nPosAsDouble = BuiltinFunction.toNumber(pPosObj);
 			int nPos = (int)nPosAsDouble;
 			
 			if (nPos < 0) {
@@ -208,27 +197,20 @@ public class PreDefinedFunctions {
 		}
 	}
 	
-	/**
-	 * Speichert die Anzahl der "charAt()"-Funktion.
-	 */
-	public static int CHARAT_PARAMETERS = 2;
-	
-	
-	
 	
 	
 	/**
-	 * Gibt den Substring des psString zwischen psBegin und psEnd zurueck.
+	 * Gibt den Substring des psString zwischen pBeginObj und pEndObj zurueck.
 	 * 
 	 * @param psString	String, welcher zerlegt werden soll.
-	 * @param psBegin	Index des ersten Zeichens des Substrings.
-	 * @param psEnd		Index des letzten Zeichens des Substrings.
-	 * @return			Substring zwischen psBegin und psEnd.
+	 * @param pBeginObj	Index des ersten Zeichens des Substrings.
+	 * @param pEndObj	Index des letzten Zeichens des Substrings.
+	 * @return			Substring zwischen pBeginObj und pEndObj.
 	 */
-	public static String substring(String psString, String psBegin, String psEnd) {
+	private static String substring(String psString, Value pBeginObj, Value pEndObj) {
 		try {
-			double nBeginAsDouble = Double.parseDouble(psBegin);
-			double nEndAsDouble = Double.parseDouble(psEnd);
+			double nBeginAsDouble = BuiltinFunction.toNumber(pBeginObj);
+			double nEndAsDouble = BuiltinFunction.toNumber(pEndObj);
 			int nBegin = (int)nBeginAsDouble;
 			int nEnd = (int)nEndAsDouble;
 			
@@ -243,9 +225,4 @@ public class PreDefinedFunctions {
 			return psString;
 		}
 	}
-	
-	/**
-	 * Speichert die Anzahl an Parametern der "substring()"-Funktion.
-	 */
-	public static int SUBSTRING_PARAMETERS = 3;
 }
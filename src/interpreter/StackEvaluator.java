@@ -0,0 +1,612 @@
+package interpreter;
+
+import java.util.Arrays;
+
+import errorHandling.*;
+import parser.*;
+import tokenizer.*;
+
+
+
+/**
+ * Die Klasse "StackEvaluator" fuehrt ein Programm aus, ohne fuer jeden Knoten des abstrakten Syntaxbaums eine
+ * Java-Methode rekursiv aufzurufen. Stattdessen werden alle noch nicht abgeschlossenen Knoten auf einem
+ * eigenen Stapel (im Heap) gespeichert. Jeder Eintrag speichert den Knoten und den Schritt, an welchem dessen
+ * Ausfuehrung fortgesetzt wird. Ausgewertete Werte werden auf einem zweiten Stapel abgelegt.
+ * Die Tiefe der Funktionsaufrufe ist daher nicht durch den Java-Stack begrenzt, sondern durch
+ * die Einstellung des Controllers (siehe Controller.setMaxCallDepth()). Wird diese ueberschritten, so wird ReturnValueTypes.ERROR_STACK_OVERFLOW gemeldet.
+ * Knoten ohne Kinder (z.B. Literale, Variablen, "scan") werden weiterhin ueber den Controller ausgewertet,
+ * sodass sich beide Verfahren gleich verhalten.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+class StackEvaluator {
+	/**
+	 * Schritt eines Funktionsaufrufes, dessen Rumpf gerade ausgefuehrt wird.
+	 */
+	private static final int STEP_CALL_RUNNING = -1;
+	
+	/**
+	 * Erster Schritt eines Endaufrufes ("return" mit einem Funktionsaufruf). Die folgenden Schritte werten die
+	 * Parameter des Funktionsaufrufes aus.
+	 */
+	private static final int STEP_TAIL_CALL = 2;
+	
+	/**
+	 * Anfaengliche Groesse der Stapel.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+	
+	
+	
+	/**
+	 * Speichert den Controller, ueber welchen Knoten ohne Kinder ausgewertet werden.
+	 */
+	private Controller controllerObj;
+	
+	/**
+	 * Speichert den Interpreter, welcher die Rahmen der Funktionsaufrufe verwaltet.
+	 */
+	private Interpreter interpreterObj;
+	
+	/**
+	 * Speichert die Knoten auf dem Stapel.
+	 */
+	private Node[] taskNodesObj;
+	
+	/**
+	 * Speichert fuer jeden Knoten auf dem Stapel den naechsten Schritt.
+	 */
+	private int[] nTaskSteps;
+	
+	/**
+	 * Gibt fuer jeden Knoten auf dem Stapel an, ob dessen Ergebnis als Wert benoetigt wird.
+	 */
+	private boolean[] bTaskValues;
+	
+	/**
+	 * Speichert fuer jede Rechnung auf dem Stapel das bisherige Ergebnis.
+	 */
+	private double[] nTaskNumbers;
+	
+	/**
+	 * Speichert die Anzahl an Knoten auf dem Stapel.
+	 */
+	private int nTaskTop;
+	
+	/**
+	 * Speichert die ausgewerteten Werte.
+	 */
+	private Value[] valuesObj;
+	
+	/**
+	 * Speichert die Anzahl an Werten auf dem Stapel.
+	 */
+	private int nValueTop;
+	
+	/**
+	 * Speichert fuer jeden aktiven Funktionsaufruf die Position des Aufrufes auf dem Stapel der Knoten.
+	 */
+	private int[] nCallTasks;
+	
+	/**
+	 * Speichert fuer jeden aktiven Funktionsaufruf die Anzahl an Werten zu Beginn des Aufrufes.
+	 */
+	private int[] nCallValues;
+	
+	/**
+	 * Speichert den Rahmen jedes aktiven Funktionsaufrufes.
+	 */
+	private Frame[] callFramesObj;
+	
+	/**
+	 * Speichert die Anzahl an aktiven Funktionsaufrufen.
+	 */
+	private int nCallTop;
+	
+	/**
+	 * Speichert die maximale Tiefe der Funktionsaufrufe (siehe Controller.getMaxCallDepth()).
+	 */
+	private int nMaxCallDepth;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "StackEvaluator".
+	 * 
+	 * @param pControllerObj	Controller, ueber welchen Knoten ohne Kinder ausgewertet werden.
+	 * @param pInterpreterObj	Interpreter, welcher die Rahmen der Funktionsaufrufe verwaltet.
+	 */
+	StackEvaluator(Controller pControllerObj, Interpreter pInterpreterObj) {
+		controllerObj = pControllerObj;
+		interpreterObj = pInterpreterObj;
+		nMaxCallDepth = pControllerObj.getMaxCallDepth();
+	}
+	
+	
+	
+	/**
+	 * Diese Methode fuehrt die angegebene Funktion (ohne Parameter) aus.
+	 * 
+	 * @param pFunctionObj	Funktion, welche ausgefuehrt werden soll (main-Funktion).
+	 * @throws InterpreterException	Es ist ein Fehler aufgetreten.
+	 */
+	void run(Function pFunctionObj) {
+		taskNodesObj = new Node[INITIAL_CAPACITY];
+		nTaskSteps = new int[INITIAL_CAPACITY];
+		bTaskValues = new boolean[INITIAL_CAPACITY];
+		nTaskNumbers = new double[INITIAL_CAPACITY];
+		valuesObj = new Value[INITIAL_CAPACITY];
+		nCallTasks = new int[INITIAL_CAPACITY];
+		nCallValues = new int[INITIAL_CAPACITY];
+		callFramesObj = new Frame[INITIAL_CAPACITY];
+		nTaskTop = 0;
+		nValueTop = 0;
+		nCallTop = 0;
+		
+		try {
+			enterCall(pFunctionObj, new Value[0], null, false);
+			while (nTaskTop > 0) {
+				step();
+			}
+		}
+		finally {
+			//Bei einem Fehler werden die Rahmen aller noch aktiven Funktionsaufrufe verlassen:
+			while (nCallTop > 0) {
+				interpreterObj.leaveFrame();
+				nCallTop--;
+			}
+		}
+	}
+	
+	
+	
+	/**
+	 * Diese Methode fuehrt den naechsten Schritt des obersten Knotens auf dem Stapel aus.
+	 */
+	private void step() {
+		int nTop = nTaskTop - 1;
+		if (nTaskSteps[nTop] == STEP_CALL_RUNNING) {
+			//Der Rumpf einer Funktion wurde vollstaendig ausgefuehrt:
+			completeCall();
+			return;
+		}
+		if (bTaskValues[nTop]) {
+			evaluateStep(nTop, taskNodesObj[nTop]);
+		}
+		else {
+			processStep(nTop, taskNodesObj[nTop]);
+		}
+	}
+	
+	/**
+	 * Diese Methode fuehrt den naechsten Schritt einer Anweisung aus (siehe Controller.process()).
+	 * 
+	 * @param pnTop			Position des Knotens auf dem Stapel.
+	 * @param pStatementObj	Knoten der Anweisung.
+	 */
+	private void processStep(int pnTop, Node pStatementObj) {
+		int nStep = nTaskSteps[pnTop];
+		switch(pStatementObj.getType()) {
+		case NodeTypes.NODE_BLOCK:
+			//Ausdruecke nacheinander ausfuehren:
+			if (nStep < pStatementObj.getChildAmount()) {
+				nTaskSteps[pnTop] = nStep + 1;
+				pushTask(pStatementObj.getChild(nStep), false);
+				return;
+			}
+			nTaskTop--;
+			return;
+			
+		case NodeTypes.NODE_VAR:
+			if (nStep == 0 && pStatementObj.getChildAmount() != 0) {
+				//Zuerst wird der Wert der Variablen ausgewertet:
+				nTaskSteps[pnTop] = 1;
+				pushOperand(pStatementObj.getChild(0));
+				return;
+			}
+			nTaskTop--;
+			Value variableValueObj = pStatementObj.getChildAmount() != 0 ? popValue() : new Value("0.0", TokenTypes.KIND_NUMBER);
+			if (pStatementObj.getSlot() == Node.SLOT_DUPLICATE) {
+				//Der Bezeichner wird bereits von einer anderen Variablen verwendet:
+				throw new InterpreterException(ReturnValueTypes.ERROR_VARIABLE_NAME_DOES_EXIST);
+			}
+			interpreterObj.setVariable(pStatementObj.getSlot(), variableValueObj);
+			return;
+			
+		case NodeTypes.NODE_SETF:
+			if (nStep == 0) {
+				//Zuerst wird der neue Wert ausgewertet:
+				nTaskSteps[pnTop] = 1;
+				pushOperand(pStatementObj.getChild(0));
+				return;
+			}
+			nTaskTop--;
+			Value newValueObj = popValue();
+			if (pStatementObj.getSlot() == Node.SLOT_UNKNOWN) {
+				//Die Variable existiert nicht:
+				throw new InterpreterException(ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
+			}
+			interpreterObj.setVariable(pStatementObj.getSlot(), newValueObj);
+			return;
+			
+		case NodeTypes.NODE_PRINT:
+		case NodeTypes.NODE_PRINTLN:
+			if (nStep == 0) {
+				//Zuerst wird der Wert ausgewertet, welcher ausgegeben werden soll:
+				nTaskSteps[pnTop] = 1;
+				pushOperand(pStatementObj.getChild(0));
+				return;
+			}
+			nTaskTop--;
+			controllerObj.printString(popValue().getText(), pStatementObj.getType() == NodeTypes.NODE_PRINTLN);
+			return;
+			
+		case NodeTypes.NODE_IF:
+			if (nStep == 0) {
+				//Zuerst wird die Bedingung ausgewertet:
+				nTaskSteps[pnTop] = 1;
+				pushOperand(pStatementObj.getChild(0));
+				return;
+			}
+			nTaskTop--;
+			boolean bCondition = controllerObj.toCondition(popValue());
+			if (!bCondition && pStatementObj.getChildAmount() < 3) {
+				//Die Bedingung ist falsch und es gibt keine else-Verzweigung:
+				return;
+			}
+			//Die Verzweigung wird durch die auszufuehrenden Anweisungen ersetzt:
+			pushTask(pStatementObj.getChild(bCondition ? 1 : 2), false);
+			return;
+			
+		case NodeTypes.NODE_WHILE:
+			if (nStep == 0) {
+				//Bedingung auswerten:
+				nTaskSteps[pnTop] = 1;
+				pushOperand(pStatementObj.getChild(0));
+				return;
+			}
+			if (!controllerObj.toCondition(popValue())) {
+				//Die Bedingung ist falsch:
+				nTaskTop--;
+				return;
+			}
+			//Anweisungen ausfuehren und anschliessend die Bedingung erneut auswerten:
+			nTaskSteps[pnTop] = 0;
+			pushTask(pStatementObj.getChild(1), false);
+			return;
+			
+		case NodeTypes.NODE_RETURN:
+			returnStep(pnTop, pStatementObj, nStep);
+			return;
+			
+		case NodeTypes.NODE_CALL:
+			callStep(pnTop, pStatementObj, nStep);
+			return;
+			
+		default:
+			//Anweisungen ohne auszuwertende Kinder ("scan", Instanziierung, fehlerhafte Knoten):
+			nTaskTop--;
+			controllerObj.process(pStatementObj);
+			return;
+		}
+	}
+	
+	/**
+	 * Diese Methode fuehrt den naechsten Schritt eines Wertes aus (siehe Controller.evaluate()).
+	 * 
+	 * @param pnTop		Position des Knotens auf dem Stapel.
+	 * @param pValueObj	Knoten des Wertes.
+	 */
+	private void evaluateStep(int pnTop, Node pValueObj) {
+		int nStep = nTaskSteps[pnTop];
+		switch(pValueObj.getType()) {
+		case NodeTypes.NODE_CALCULATION:
+			//Die Operanden werden einzeln ausgewertet und mit dem bisherigen Ergebnis verrechnet:
+			if (nStep > 0) {
+				double nOperand = interpreterObj.toNumber(popValue());
+				if (nStep == 1) {
+					//Erster Operand:
+					nTaskNumbers[pnTop] = nOperand;
+				}
+				else {
+					nTaskNumbers[pnTop] = interpreterObj.calculate(pValueObj.getValue(), nTaskNumbers[pnTop], nOperand);
+				}
+			}
+			if (nStep < pValueObj.getChildAmount()) {
+				nTaskSteps[pnTop] = nStep + 1;
+				pushOperand(pValueObj.getChild(nStep));
+				return;
+			}
+			nTaskTop--;
+			pushValue(new Value(nStep == 0 ? 0.0 : nTaskNumbers[pnTop]));
+			return;
+			
+		case NodeTypes.NODE_COMPARISON:
+			//Das bisherige Ergebnis bleibt auf dem Stapel der Werte und wird mit dem naechsten Operanden verglichen:
+			if (nStep >= 2) {
+				Value rightOperandObj = popValue();
+				Value leftOperandObj = popValue();
+				pushValue(new Value(interpreterObj.compare(pValueObj.getValue(), leftOperandObj, rightOperandObj)));
+			}
+			if (nStep == 0 || nStep < pValueObj.getChildAmount()) {
+				nTaskSteps[pnTop] = nStep + 1;
+				pushOperand(pValueObj.getChild(nStep));
+				return;
+			}
+			nTaskTop--;
+			return;
+			
+		case NodeTypes.NODE_CALL:
+			callStep(pnTop, pValueObj, nStep);
+			return;
+			
+		default:
+			//Werte ohne auszuwertende Kinder (Literale, Variablen, fehlerhafte Knoten):
+			nTaskTop--;
+			pushValue(controllerObj.evaluate(pValueObj));
+			return;
+		}
+	}
+	
+	/**
+	 * Diese Methode fuehrt den naechsten Schritt eines Funktionsaufrufes aus. Zuerst werden die Parameter
+	 * ausgewertet, anschliessend wird die Funktion aufgerufen.
+	 * 
+	 * @param pnTop		Position des Knotens auf dem Stapel.
+	 * @param pCallObj	Knoten des Funktionsaufrufes.
+	 * @param pnStep	Aktueller Schritt.
+	 */
+	private void callStep(int pnTop, Node pCallObj, int pnStep) {
+		if (pnStep == 0) {
+			//Die Funktion muss existieren, bevor die Parameter ausgewertet werden:
+			controllerObj.resolveTarget(pCallObj);
+		}
+		if (pnStep < pCallObj.getChildAmount()) {
+			nTaskSteps[pnTop] = pnStep + 1;
+			pushOperand(pCallObj.getChild(pnStep));
+			return;
+		}
+		
+		Value[] parametersObj = popValues(pCallObj.getChildAmount());
+		boolean bValue = bTaskValues[pnTop];
+		nTaskTop--;
+		if (pCallObj.getTarget() instanceof BuiltinFunction) {
+			//Vordefinierte Funktion:
+			BuiltinFunction builtinFunctionObj = (BuiltinFunction)pCallObj.getTarget();
+			if (builtinFunctionObj.getParameterAmount() != parametersObj.length) {
+				//Es wurde eine inkorrekte Anzahl an Parametern angegeben:
+				throw new InterpreterException(ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
+			}
+			Value returnValueObj = builtinFunctionObj.call(parametersObj);
+			if (bValue) {
+				pushValue(returnValueObj);
+			}
+			return;
+		}
+		enterCall((Function)pCallObj.getTarget(), parametersObj, pCallObj, bValue);
+	}
+	
+	/**
+	 * Diese Methode fuehrt den naechsten Schritt von "return" aus. Handelt es sich um einen Endaufruf, so
+	 * ersetzt die aufgerufene Funktion die aktuelle Funktion, ohne die Tiefe der Funktionsaufrufe zu erhoehen.
+	 * 
+	 * @param pnTop			Position des Knotens auf dem Stapel.
+	 * @param pReturnObj	Knoten von "return".
+	 * @param pnStep		Aktueller Schritt.
+	 */
+	private void returnStep(int pnTop, Node pReturnObj, int pnStep) {
+		if (pnStep == 0) {
+			if (pReturnObj.getChildAmount() == 0) {
+				//Es ist kein Rueckgabewert angegeben:
+				unwindCall();
+				return;
+			}
+			Node returnValueObj = pReturnObj.getChild(0); //Speichert den Rueckgabewert als abstrakten Syntaxbaum.
+			if (returnValueObj.getType() == NodeTypes.NODE_CALL && controllerObj.resolveTarget(returnValueObj) instanceof Function) {
+				//Endaufruf: Parameter auswerten:
+				nTaskSteps[pnTop] = STEP_TAIL_CALL;
+				return;
+			}
+			nTaskSteps[pnTop] = 1;
+			pushOperand(returnValueObj);
+			return;
+		}
+		if (pnStep == 1) {
+			//Der Rueckgabewert wird im Rahmen der Funktion gespeichert:
+			interpreterObj.setReturnValue(popValue());
+			unwindCall();
+			return;
+		}
+		
+		Node callObj = pReturnObj.getChild(0); //Speichert den Funktionsaufruf des Endaufrufes.
+		int nParameter = pnStep - STEP_TAIL_CALL; //Speichert den Index des naechsten Parameters.
+		if (nParameter < callObj.getChildAmount()) {
+			nTaskSteps[pnTop] = pnStep + 1;
+			pushOperand(callObj.getChild(nParameter));
+			return;
+		}
+		Value[] parametersObj = popValues(callObj.getChildAmount());
+		Function functionObj = (Function)callObj.getTarget(); //Speichert die aufgerufene Funktion.
+		if (functionObj.getParameterAmount() != parametersObj.length) {
+			//Es wurde eine inkorrekte Anzahl an Parametern angegeben:
+			throw new InterpreterException(ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
+		}
+		
+		//Rahmen der aktuellen Funktion verlassen und die aufgerufene Funktion auf derselben Tiefe ausfuehren:
+		unwindCall();
+		truncateValues(nCallValues[nCallTop - 1]);
+		interpreterObj.leaveFrame();
+		startBody(functionObj, parametersObj);
+	}
+	
+	
+	
+	/**
+	 * Diese Methode ruft eine selbst definierte Funktion auf.
+	 * 
+	 * @param pFunctionObj		Aufgerufene Funktion.
+	 * @param pParametersObj	Werte der Parameter.
+	 * @param pCallObj			Knoten des Funktionsaufrufes, oder null bei der main-Funktion.
+	 * @param pbValue			Gibt an, ob der Rueckgabewert benoetigt wird.
+	 * @throws InterpreterException	Inkorrekte Anzahl an Parametern oder die maximale Tiefe der Funktionsaufrufe
+	 * 								wurde ueberschritten.
+	 */
+	private void enterCall(Function pFunctionObj, Value[] pParametersObj, Node pCallObj, boolean pbValue) {
+		if (pFunctionObj.getParameterAmount() != pParametersObj.length) {
+			//Es wurde eine inkorrekte Anzahl an Parametern angegeben:
+			throw new InterpreterException(ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
+		}
+		if (nCallTop >= nMaxCallDepth) {
+			//Die maximale Tiefe wurde erreicht:
+			throw new InterpreterException(ReturnValueTypes.ERROR_STACK_OVERFLOW);
+		}
+		if (nCallTop == nCallTasks.length) {
+			nCallTasks = Arrays.copyOf(nCallTasks, nCallTop * 2);
+			nCallValues = Arrays.copyOf(nCallValues, nCallTop * 2);
+			callFramesObj = Arrays.copyOf(callFramesObj, nCallTop * 2);
+		}
+		pushTask(pCallObj, pbValue);
+		nTaskSteps[nTaskTop - 1] = STEP_CALL_RUNNING;
+		nCallTasks[nCallTop] = nTaskTop - 1;
+		nCallValues[nCallTop] = nValueTop;
+		nCallTop++;
+		startBody(pFunctionObj, pParametersObj);
+	}
+	
+	/**
+	 * Diese Methode erzeugt den Rahmen des aktuellen Funktionsaufrufes und legt den Rumpf der Funktion auf den
+	 * Stapel.
+	 * 
+	 * @param pFunctionObj		Aufgerufene Funktion.
+	 * @param pParametersObj	Werte der Parameter (in korrekter Anzahl).
+	 */
+	private void startBody(Function pFunctionObj, Value[] pParametersObj) {
+		Node bodyObj = pFunctionObj.getBody();
+		Frame frameObj = interpreterObj.enterFrame(pFunctionObj.getSlotAmount());
+		for (int i = 0; i < pParametersObj.length; i++) {
+			frameObj.setVariable(i, pParametersObj[i]);
+		}
+		callFramesObj[nCallTop - 1] = frameObj;
+		pushTask(bodyObj, false);
+	}
+	
+	/**
+	 * Diese Methode entfernt alle Knoten der aktuellen Funktion vom Stapel, sodass als naechstes der
+	 * Funktionsaufruf abgeschlossen wird (siehe completeCall()).
+	 */
+	private void unwindCall() {
+		nTaskTop = nCallTasks[nCallTop - 1] + 1;
+	}
+	
+	/**
+	 * Diese Methode schliesst den obersten Funktionsaufruf ab, nachdem dessen Rumpf ausgefuehrt wurde.
+	 */
+	private void completeCall() {
+		nCallTop--;
+		Frame frameObj = callFramesObj[nCallTop];
+		callFramesObj[nCallTop] = null;
+		interpreterObj.leaveFrame();
+		truncateValues(nCallValues[nCallTop]);
+		
+		nTaskTop--;
+		if (bTaskValues[nTaskTop]) {
+			//Der Rueckgabewert wird benoetigt:
+			if (frameObj.getReturnValue() == null) {
+				//Es wurde kein Rueckgabewert angegeben:
+				pushValue(new Value("0.00", TokenTypes.KIND_NUMBER));
+			}
+			else {
+				pushValue(frameObj.getReturnValue());
+			}
+		}
+	}
+	
+	
+	
+	/**
+	 * Diese Methode legt einen Knoten auf den Stapel.
+	 * 
+	 * @param pNodeObj	Knoten.
+	 * @param pbValue	Gibt an, ob das Ergebnis des Knotens als Wert benoetigt wird.
+	 */
+	private void pushTask(Node pNodeObj, boolean pbValue) {
+		if (nTaskTop == taskNodesObj.length) {
+			taskNodesObj = Arrays.copyOf(taskNodesObj, nTaskTop * 2);
+			nTaskSteps = Arrays.copyOf(nTaskSteps, nTaskTop * 2);
+			bTaskValues = Arrays.copyOf(bTaskValues, nTaskTop * 2);
+			nTaskNumbers = Arrays.copyOf(nTaskNumbers, nTaskTop * 2);
+		}
+		taskNodesObj[nTaskTop] = pNodeObj;
+		nTaskSteps[nTaskTop] = 0;
+		bTaskValues[nTaskTop] = pbValue;
+		nTaskTop++;
+	}
+	
+	/**
+	 * Diese Methode wertet einen Operanden aus. Literale und Variablen werden sofort ausgewertet, alle anderen
+	 * Knoten werden auf den Stapel gelegt.
+	 * 
+	 * @param pOperandObj	Knoten des Operanden.
+	 */
+	private void pushOperand(Node pOperandObj) {
+		if (pOperandObj.getType() == NodeTypes.NODE_LITERAL || pOperandObj.getType() == NodeTypes.NODE_VARIABLE) {
+			pushValue(controllerObj.evaluate(pOperandObj));
+			return;
+		}
+		pushTask(pOperandObj, true);
+	}
+	
+	/**
+	 * Diese Methode legt einen Wert auf den Stapel der Werte.
+	 * 
+	 * @param pValueObj	Wert.
+	 */
+	private void pushValue(Value pValueObj) {
+		if (nValueTop == valuesObj.length) {
+			valuesObj = Arrays.copyOf(valuesObj, nValueTop * 2);
+		}
+		valuesObj[nValueTop] = pValueObj;
+		nValueTop++;
+	}
+	
+	/**
+	 * Diese Methode entfernt den obersten Wert vom Stapel der Werte.
+	 * 
+	 * @return	Oberster Wert.
+	 */
+	private Value popValue() {
+		nValueTop--;
+		Value valueObj = valuesObj[nValueTop];
+		valuesObj[nValueTop] = null;
+		return valueObj;
+	}
+	
+	/**
+	 * Diese Methode entfernt die obersten Werte vom Stapel der Werte.
+	 * 
+	 * @param pnAmount	Anzahl an Werten.
+	 * @return			Werte in der Reihenfolge, in welcher sie auf den Stapel gelegt wurden.
+	 */
+	private Value[] popValues(int pnAmount) {
+		Value[] popValuesObj = new Value[pnAmount];
+		nValueTop -= pnAmount;
+		for (int i = 0; i < pnAmount; i++) {
+			popValuesObj[i] = valuesObj[nValueTop + i];
+			valuesObj[nValueTop + i] = null;
+		}
+		return popValuesObj;
+	}
+	
+	/**
+	 * Diese Methode entfernt alle Werte oberhalb der angegebenen Position vom Stapel der Werte (z.B. die Werte
+	 * einer verlassenen Funktion), damit diese nicht weiter referenziert werden.
+	 * 
+	 * @param pnTop	Neue Anzahl an Werten auf dem Stapel.
+	 */
+	private void truncateValues(int pnTop) {
+		Arrays.fill(valuesObj, pnTop, nValueTop, null);
+		nValueTop = pnTop;
+	}
+}
@@ -0,0 +1,380 @@
+package interpreter;
+
+import java.util.Arrays;
+
+import errorHandling.*;
+import parser.*;
+import tokenizer.*;
+
+
+
+/**
+ * Die Klasse "VirtualMachine" fuehrt ein Programm aus, dessen Funktionen in Bytecode uebersetzt wurden (siehe
+ * BytecodeCompiler). Die Befehle werden in einer einzigen Schleife ausgefuehrt, wobei alle Werte auf einem
+ * gemeinsamen Stapel abgelegt werden. Die Parameter eines Funktionsaufrufes werden direkt vom Stapel in den
+ * Rahmen der aufgerufenen Funktion uebernommen.
+ * Die Funktionsaufrufe werden (wie beim StackEvaluator) auf einem eigenen Stapel im Heap gespeichert, sodass
+ * die Tiefe der Funktionsaufrufe nur durch die Einstellung des Controllers begrenzt ist (siehe
+ * Controller.setMaxCallDepth()).
+ * Der Bytecode einer Funktion wird bei ihrem ersten Aufruf erzeugt und in der Funktion gespeichert.
+ * 
+ * @author	Christian S
+ * @version	18.10.2026
+ */
+class VirtualMachine {
+	/**
+	 * Anfaengliche Groesse der Stapel.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+	
+	/**
+	 * Ergebnis eines wahren Vergleichs. Da Werte nicht veraendert werden, kann dieses Objekt mehrfach verwendet
+	 * werden.
+	 */
+	private static final Value TRUE = new Value(true);
+	
+	/**
+	 * Ergebnis eines falschen Vergleichs.
+	 */
+	private static final Value FALSE = new Value(false);
+	
+	
+	
+	/**
+	 * Speichert den Controller, ueber welchen Funktionen uebersetzt und Anweisungen ohne Bytecode ausgefuehrt
+	 * werden.
+	 */
+	private Controller controllerObj;
+	
+	/**
+	 * Speichert den Interpreter, welcher die Rahmen der Funktionsaufrufe verwaltet.
+	 */
+	private Interpreter interpreterObj;
+	
+	/**
+	 * Speichert die maximale Tiefe der Funktionsaufrufe (siehe Controller.getMaxCallDepth()).
+	 */
+	private int nMaxCallDepth;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "VirtualMachine".
+	 * 
+	 * @param pControllerObj	Controller, ueber welchen Funktionen uebersetzt und Anweisungen ohne Bytecode
+	 * 							ausgefuehrt werden.
+	 * @param pInterpreterObj	Interpreter, welcher die Rahmen der Funktionsaufrufe verwaltet.
+	 */
+	VirtualMachine(Controller pControllerObj, Interpreter pInterpreterObj) {
+		controllerObj = pControllerObj;
+		interpreterObj = pInterpreterObj;
+		nMaxCallDepth = pControllerObj.getMaxCallDepth();
+	}
+	
+	
+	
+	/**
+	 * Diese Methode fuehrt die angegebene Funktion (ohne Parameter) aus.
+	 * 
+	 * @param pFunctionObj	Funktion, welche ausgefuehrt werden soll (main-Funktion).
+	 * @throws InterpreterException	Es ist ein Fehler aufgetreten.
+	 */
+	void run(Function pFunctionObj) {
+		Value[] stackObj = new Value[INITIAL_CAPACITY]; //Speichert die Werte.
+		int nStackTop = 0; //Speichert die Anzahl an Werten auf dem Stapel.
+		int nStackBase = 0; //Speichert die Anzahl an Werten zu Beginn des aktuellen Funktionsaufrufes.
+		
+		//Zustand der aufrufenden Funktionen:
+		Bytecode[] callBytecodesObj = new Bytecode[INITIAL_CAPACITY];
+		int[] nCallPositions = new int[INITIAL_CAPACITY];
+		int[] nCallStackBases = new int[INITIAL_CAPACITY];
+		Frame[] callFramesObj = new Frame[INITIAL_CAPACITY];
+		int nCallTop = 0; //Speichert die Anzahl an aufrufenden Funktionen.
+		int nFrameAmount = 0; //Speichert die Anzahl an Rahmen, welche noch verlassen werden muessen.
+		
+		Bytecode bytecodeObj = getBytecode(pFunctionObj); //Speichert den Bytecode der aktuellen Funktion.
+		int[] nCode = bytecodeObj.getCode();
+		Object[] constantsObj = bytecodeObj.getConstants();
+		int nPosition = 0; //Speichert die Position des naechsten Befehls.
+		Frame frameObj; //Speichert den Rahmen der aktuellen Funktion.
+		
+		try {
+			frameObj = interpreterObj.enterFrame(bytecodeObj.getSlotAmount());
+			nFrameAmount++;
+			stackObj = ensureCapacity(stackObj, bytecodeObj.getMaxStack());
+			
+			while (true) {
+				switch(nCode[nPosition++]) {
+				case OpCodes.PUSH_CONST:
+					stackObj[nStackTop++] = (Value)constantsObj[nCode[nPosition++]];
+					break;
+					
+				case OpCodes.LOAD:
+					stackObj[nStackTop++] = frameObj.getVariable(nCode[nPosition++]);
+					break;
+					
+				case OpCodes.STORE:
+					frameObj.setVariable(nCode[nPosition++], stackObj[--nStackTop]);
+					break;
+					
+				case OpCodes.POP:
+					nStackTop--;
+					break;
+					
+				case OpCodes.CHECK_NUMBER:
+					interpreterObj.toNumber(stackObj[nStackTop - 1]);
+					break;
+					
+				case OpCodes.TO_NUMBER:
+					stackObj[nStackTop - 1] = new Value(interpreterObj.toNumber(stackObj[nStackTop - 1]));
+					break;
+					
+				case OpCodes.ADD:
+					nStackTop--;
+					stackObj[nStackTop - 1] = new Value(stackObj[nStackTop - 1].getNumber() + interpreterObj.toNumber(stackObj[nStackTop]));
+					break;
+					
+				case OpCodes.SUB:
+					nStackTop--;
+					stackObj[nStackTop - 1] = new Value(stackObj[nStackTop - 1].getNumber() - interpreterObj.toNumber(stackObj[nStackTop]));
+					break;
+					
+				case OpCodes.MUL:
+					nStackTop--;
+					stackObj[nStackTop - 1] = new Value(stackObj[nStackTop - 1].getNumber() * interpreterObj.toNumber(stackObj[nStackTop]));
+					break;
+					
+				case OpCodes.DIV:
+					nStackTop--;
+					double nDivisor = interpreterObj.toNumber(stackObj[nStackTop]); //Speichert den rechten Operanden.
+					if (nDivisor == 0) {
+						//Rechter Operand 0 -> FEHLER:
+						throw new InterpreterException(ReturnValueTypes.ERROR_DIVIDE_BY_ZERO);
+					}
+					stackObj[nStackTop - 1] = new Value(stackObj[nStackTop - 1].getNumber() / nDivisor);
+					break;
+					
+				case OpCodes.MOD:
+					nStackTop--;
+					stackObj[nStackTop - 1] = new Value(stackObj[nStackTop - 1].getNumber() % interpreterObj.toNumber(stackObj[nStackTop]));
+					break;
+					
+				case OpCodes.EQ:
+					nStackTop--;
+					stackObj[nStackTop - 1] = interpreterObj.compare("=", stackObj[nStackTop - 1], stackObj[nStackTop]) ? TRUE : FALSE;
+					break;
+					
+				case OpCodes.NE:
+					nStackTop--;
+					stackObj[nStackTop - 1] = interpreterObj.compare("!", stackObj[nStackTop - 1], stackObj[nStackTop]) ? TRUE : FALSE;
+					break;
+					
+				case OpCodes.LT:
+				case OpCodes.GT:
+				case OpCodes.LE:
+				case OpCodes.GE:
+					nStackTop--;
+					stackObj[nStackTop - 1] = compareNumbers(nCode[nPosition - 1], stackObj[nStackTop - 1], stackObj[nStackTop]) ? TRUE : FALSE;
+					break;
+					
+				case OpCodes.COMPARE:
+					nStackTop--;
+					stackObj[nStackTop - 1] = interpreterObj.compare((String)constantsObj[nCode[nPosition++]], stackObj[nStackTop - 1], stackObj[nStackTop]) ? TRUE : FALSE;
+					break;
+					
+				case OpCodes.JUMP:
+					nPosition = nCode[nPosition];
+					break;
+					
+				case OpCodes.JUMP_IF_FALSE:
+					Value conditionObj = stackObj[--nStackTop]; //Speichert den Wert der Bedingung.
+					boolean bCondition = conditionObj.getKind() == TokenTypes.KIND_BOOLEAN ? conditionObj.getBoolean() : controllerObj.toCondition(conditionObj);
+					nPosition = bCondition ? nPosition + 1 : nCode[nPosition];
+					break;
+					
+				case OpCodes.PRINT:
+				case OpCodes.PRINTLN:
+					controllerObj.printString(stackObj[--nStackTop].getText(), nCode[nPosition - 1] == OpCodes.PRINTLN);
+					break;
+					
+				case OpCodes.PROCESS:
+					controllerObj.process((Node)constantsObj[nCode[nPosition++]]);
+					break;
+					
+				case OpCodes.FAIL:
+					throw new InterpreterException(nCode[nPosition]);
+					
+				case OpCodes.CALL_BUILTIN:
+					BuiltinFunction builtinFunctionObj = (BuiltinFunction)constantsObj[nCode[nPosition++]];
+					int nBuiltinParameterAmount = nCode[nPosition++];
+					if (builtinFunctionObj.getParameterAmount() != nBuiltinParameterAmount) {
+						//Es wurde eine inkorrekte Anzahl an Parametern angegeben:
+						throw new InterpreterException(ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
+					}
+					nStackTop -= nBuiltinParameterAmount;
+					Value returnValueObj = builtinFunctionObj.call(Arrays.copyOfRange(stackObj, nStackTop, nStackTop + nBuiltinParameterAmount));
+					stackObj[nStackTop++] = returnValueObj;
+					break;
+					
+				case OpCodes.CALL:
+				case OpCodes.TAIL_CALL:
+					boolean bTailCall = nCode[nPosition - 1] == OpCodes.TAIL_CALL;
+					Function functionObj = (Function)constantsObj[nCode[nPosition++]];
+					int nParameterAmount = nCode[nPosition++];
+					if (functionObj.getParameterAmount() != nParameterAmount) {
+						//Es wurde eine inkorrekte Anzahl an Parametern angegeben:
+						throw new InterpreterException(ReturnValueTypes.ERROR_INCORRECT_PARAMETER_NUMBER);
+					}
+					if (bTailCall) {
+						//Endaufruf: Der Rahmen der aktuellen Funktion wird ersetzt, die Tiefe bleibt gleich:
+						interpreterObj.leaveFrame();
+						nFrameAmount--;
+					}
+					else {
+						if (nCallTop + 1 >= nMaxCallDepth) {
+							//Die maximale Tiefe wurde erreicht:
+							throw new InterpreterException(ReturnValueTypes.ERROR_STACK_OVERFLOW);
+						}
+						if (nCallTop == callBytecodesObj.length) {
+							callBytecodesObj = Arrays.copyOf(callBytecodesObj, nCallTop * 2);
+							nCallPositions = Arrays.copyOf(nCallPositions, nCallTop * 2);
+							nCallStackBases = Arrays.copyOf(nCallStackBases, nCallTop * 2);
+							callFramesObj = Arrays.copyOf(callFramesObj, nCallTop * 2);
+						}
+						//Zustand der aufrufenden Funktion speichern:
+						callBytecodesObj[nCallTop] = bytecodeObj;
+						nCallPositions[nCallTop] = nPosition;
+						nCallStackBases[nCallTop] = nStackBase;
+						callFramesObj[nCallTop] = frameObj;
+						nCallTop++;
+					}
+					
+					//Rahmen der aufgerufenen Funktion erzeugen, wobei die Parameter die ersten Plaetze erhalten:
+					bytecodeObj = getBytecode(functionObj);
+					frameObj = interpreterObj.enterFrame(bytecodeObj.getSlotAmount());
+					nFrameAmount++;
+					int nOldStackTop = nStackTop; //Speichert die Anzahl an Werten vor dem Aufruf.
+					nStackTop -= nParameterAmount;
+					for (int i = 0; i < nParameterAmount; i++) {
+						frameObj.setVariable(i, stackObj[nStackTop + i]);
+					}
+					if (bTailCall) {
+						nStackTop = nStackBase;
+					}
+					//Die Parameter (und bei einem Endaufruf alle Werte der ersetzten Funktion) werden nicht mehr benoetigt:
+					Arrays.fill(stackObj, nStackTop, nOldStackTop, null);
+					nStackBase = nStackTop;
+					stackObj = ensureCapacity(stackObj, nStackTop + bytecodeObj.getMaxStack());
+					nCode = bytecodeObj.getCode();
+					constantsObj = bytecodeObj.getConstants();
+					nPosition = 0;
+					break;
+					
+				case OpCodes.RETURN:
+				case OpCodes.RETURN_NONE:
+					Value resultObj;
+					if (nCode[nPosition - 1] == OpCodes.RETURN) {
+						resultObj = stackObj[--nStackTop];
+					}
+					else {
+						//Es wurde kein Rueckgabewert angegeben:
+						resultObj = new Value("0.00", TokenTypes.KIND_NUMBER);
+					}
+					interpreterObj.leaveFrame();
+					nFrameAmount--;
+					if (nCallTop == 0) {
+						//Die main-Funktion wurde beendet:
+						return;
+					}
+					
+					//Zustand der aufrufenden Funktion wiederherstellen:
+					nCallTop--;
+					Arrays.fill(stackObj, nStackBase, nStackTop, null);
+					nStackTop = nStackBase;
+					bytecodeObj = callBytecodesObj[nCallTop];
+					nPosition = nCallPositions[nCallTop];
+					nStackBase = nCallStackBases[nCallTop];
+					frameObj = callFramesObj[nCallTop];
+					callBytecodesObj[nCallTop] = null;
+					callFramesObj[nCallTop] = null;
+					nCode = bytecodeObj.getCode();
+					constantsObj = bytecodeObj.getConstants();
+					stackObj[nStackTop++] = resultObj;
+					break;
+					
+				default:
+					throw new InterpreterException(ReturnValueTypes.ERROR_UNKNOWN);
+				}
+			}
+		}
+		finally {
+			//Bei einem Fehler werden die Rahmen aller noch aktiven Funktionsaufrufe verlassen:
+			while (nFrameAmount > 0) {
+				interpreterObj.leaveFrame();
+				nFrameAmount--;
+			}
+		}
+	}
+	
+	
+	
+	/**
+	 * Diese Methode gibt den Bytecode der angegebenen Funktion zurueck. Wurde die Funktion noch nicht
+	 * uebersetzt, so wird dies nun durchgefuehrt.
+	 * 
+	 * @param pFunctionObj	Funktion.
+	 * @return				Bytecode der Funktion.
+	 */
+	private Bytecode getBytecode(Function pFunctionObj) {
+		Bytecode bytecodeObj = pFunctionObj.getBytecode();
+		if (bytecodeObj == null) {
+			bytecodeObj = new BytecodeCompiler(controllerObj).compile(pFunctionObj);
+			pFunctionObj.setBytecode(bytecodeObj);
+		}
+		return bytecodeObj;
+	}
+	
+	/**
+	 * Diese Methode vergroessert den Stapel, falls dieser weniger als die angegebene Anzahl an Werten aufnehmen
+	 * kann.
+	 * 
+	 * @param pStackObj		Stapel.
+	 * @param pnCapacity	Benoetigte Anzahl an Werten.
+	 * @return				Stapel mit ausreichender Groesse.
+	 */
+	private static Value[] ensureCapacity(Value[] pStackObj, int pnCapacity) {
+		if (pnCapacity <= pStackObj.length) {
+			return pStackObj;
+		}
+		return Arrays.copyOf(pStackObj, Math.max(pnCapacity, pStackObj.length * 2));
+	}
+	
+	/**
+	 * Diese Methode fuehrt einen Groessenvergleich durch. Handelt es sich bei beiden Operanden um Zahlen, so
+	 * werden diese direkt verglichen, andernfalls meldet Interpreter.compare() den passenden Fehler.
+	 * 
+	 * @param pnOpCode			Befehl des Vergleichs (LT, GT, LE oder GE).
+	 * @param pLeftOperandObj	Linker Operand.
+	 * @param pRightOperandObj	Rechter Operand.
+	 * @return					Ergebnis des Vergleichs.
+	 * @throws InterpreterException	Die Operanden koennen nicht verglichen werden.
+	 */
+	private boolean compareNumbers(int pnOpCode, Value pLeftOperandObj, Value pRightOperandObj) {
+		if (pLeftOperandObj.getKind() != TokenTypes.KIND_NUMBER || pRightOperandObj.getKind() != TokenTypes.KIND_NUMBER) {
+			String sOperator = pnOpCode == OpCodes.LT ? "<" : pnOpCode == OpCodes.GT ? ">" : pnOpCode == OpCodes.LE ? "<=" : ">=";
+			return interpreterObj.compare(sOperator, pLeftOperandObj, pRightOperandObj);
+		}
+		double nLeftOperand = pLeftOperandObj.getNumber(); //Speichert den linken Operanden als Zahl.
+		double nRightOperand = pRightOperandObj.getNumber(); //Speichert den rechten Operanden als Zahl.
+		switch(pnOpCode) {
+		case OpCodes.LT:
+			return nLeftOperand < nRightOperand;
+		case OpCodes.GT:
+			return nLeftOperand > nRightOperand;
+		case OpCodes.LE:
+			return nLeftOperand <= nRightOperand;
+		default:
+			return nLeftOperand >= nRightOperand;
+		}
+	}
+}
@@ -0,0 +1,209 @@
+package parser;
+
+import tokenizer.*;
+
+
+
+/**
+ * Stellt einen Knoten im abstrakten Syntaxbaum eines Programms dar. Jeder Knoten besitzt eine Art (siehe
+ * NodeTypes), einen optionalen Token (z.B. Bezeichner, Operator oder Wert) und beliebig viele Kinder.
+ * Die Knoten werden einmalig beim Laden des Quellcodes erzeugt und anschliessend nur noch ausgewertet.
+ * 
+ * @version	18.10.2026
+ * 
+ * @author	Christian S
+ */
+public class Node {
+	/**
+	 * Speichert ein leeres Array, damit Knoten ohne Kinder kein eigenes Array benoetigen.
+	 */
+	private static final Node[] NO_CHILDREN = new Node[0];
+	
+	/**
+	 * Speichert die Platznummer fuer Variablen, welche an der Stelle des Knotens nicht deklariert sind.
+	 */
+	public static final int SLOT_UNKNOWN = -1;
+	
+	/**
+	 * Speichert die Platznummer fuer Deklarationen ("var"), deren Bezeichner an der Stelle des Knotens bereits
+	 * von einer anderen Variablen verwendet wird.
+	 */
+	public static final int SLOT_DUPLICATE = -2;
+	
+	
+	
+	/**
+	 * Speichert die Art des Knotens (siehe NodeTypes.NODE_...).
+	 */
+	private int nType;
+	
+	/**
+	 * Speichert den Token des Knotens.
+	 */
+	private Token tokenObj;
+	
+	/**
+	 * Speichert die Kinder des Knotens.
+	 */
+	private Node[] childrenObj;
+	
+	/**
+	 * Speichert den Fehler, falls es sich um einen Knoten der Art NODE_ERROR handelt.
+	 */
+	private int nErrorCode;
+	
+	/**
+	 * Speichert bei einem Funktionsaufruf die aufgerufene Funktion (Function oder BuiltinFunction), sobald
+	 * diese beim ersten Ausfuehren ermittelt wurde.
+	 */
+	private Object targetObj;
+	
+	/**
+	 * Speichert bei Variablen, Deklarationen, "setf" und "scan" den Platz der Variablen im Rahmen des
+	 * Funktionsaufrufes (siehe Resolver).
+	 */
+	private int nSlot = SLOT_UNKNOWN;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "Node".
+	 * 
+	 * @param pnType		Art des Knotens (siehe NodeTypes.NODE_...).
+	 * @param pTokenObj		Token des Knotens.
+	 * @param pChildrenObj	Kinder des Knotens.
+	 */
+	public Node(int pnType, Token pTokenObj, Node[] pChildrenObj) {
+		nType = pnType;
+		tokenObj = pTokenObj;
+		childrenObj = pChildrenObj;
+	}
+	
+	/**
+	 * Konstruktor der Klasse "Node" erstellt einen Knoten ohne Kinder.
+	 * 
+	 * @param pnType		Art des Knotens (siehe NodeTypes.NODE_...).
+	 * @param pTokenObj		Token des Knotens.
+	 */
+	public Node(int pnType, Token pTokenObj) {
+		this(pnType, pTokenObj, NO_CHILDREN);
+	}
+	
+	/**
+	 * Erstellt einen Knoten, welcher einen fehlerhaften Ausdruck darstellt.
+	 * 
+	 * @param pnErrorCode	Fehler, welcher beim Ausfuehren zurueckgegeben wird.
+	 * @return				Knoten der Art NODE_ERROR.
+	 */
+	public static Node createError(int pnErrorCode) {
+		Node errorNodeObj = new Node(NodeTypes.NODE_ERROR, null);
+		errorNodeObj.nErrorCode = pnErrorCode;
+		return errorNodeObj;
+	}
+	
+	
+	
+	/**
+	 * Gibt die Art des Knotens zurueck.
+	 * 
+	 * @return	Art des Knotens (siehe NodeTypes.NODE_...).
+	 */
+	public int getType() {
+		return nType;
+	}
+	
+	/**
+	 * Gibt den Token des Knotens zurueck.
+	 * 
+	 * @return	Token.
+	 */
+	public Token getToken() {
+		return tokenObj;
+	}
+	
+	/**
+	 * Gibt den Inhalt des Tokens zurueck.
+	 * 
+	 * @return	Inhalt des Tokens.
+	 */
+	public String getValue() {
+		return tokenObj.getValue();
+	}
+	
+	/**
+	 * Gibt die Anzahl an Kindern zurueck.
+	 * 
+	 * @return	Anzahl an Kindern.
+	 */
+	public int getChildAmount() {
+		return childrenObj.length;
+	}
+	
+	/**
+	 * Gibt das Kind mit dem angegebenen Index zurueck.
+	 * 
+	 * @param pnIndex	Index des Kindes.
+	 * @return			Kind.
+	 */
+	public Node getChild(int pnIndex) {
+		return childrenObj[pnIndex];
+	}
+	
+	/**
+	 * Gibt den Fehler eines Knotens der Art NODE_ERROR zurueck.
+	 * 
+	 * @return	Fehler (siehe ReturnValueTypes).
+	 */
+	public int getErrorCode() {
+		return nErrorCode;
+	}
+	
+	
+	
+	/**
+	 * Speichert das Ziel eines Funktionsaufrufes, damit dieses nicht bei jedem Aufruf erneut gesucht werden muss.
+	 * 
+	 * @param pTargetObj	Aufgerufene Funktion (Function oder BuiltinFunction).
+	 */
+	public void setTarget(Object pTargetObj) {
+		targetObj = pTargetObj;
+	}
+	
+	/**
+	 * Gibt an, ob das Ziel des Funktionsaufrufes bereits ermittelt wurde.
+	 * 
+	 * @return	Gibt an, ob das Ziel bekannt ist.
+	 */
+	public boolean isTargetResolved() {
+		return targetObj != null;
+	}
+	
+	/**
+	 * Gibt die aufgerufene Funktion zurueck.
+	 * 
+	 * @return	Aufgerufene Funktion (Function oder BuiltinFunction).
+	 */
+	public Object getTarget() {
+		return targetObj;
+	}
+	
+	
+	
+	/**
+	 * Speichert den Platz der Variablen, auf welche der Knoten zugreift.
+	 * 
+	 * @param pnSlot	Platz im Rahmen des Funktionsaufrufes (bzw. SLOT_UNKNOWN oder SLOT_DUPLICATE).
+	 */
+	public void setSlot(int pnSlot) {
+		nSlot = pnSlot;
+	}
+	
+	/**
+	 * Gibt den Platz der Variablen zurueck, auf welche der Knoten zugreift.
+	 * 
+	 * @return	Platz im Rahmen des Funktionsaufrufes (bzw. SLOT_UNKNOWN oder SLOT_DUPLICATE).
+	 */
+	public int getSlot() {
+		return nSlot;
+	}
+}
@@ -0,0 +1,94 @@
+package parser;
+
+
+
+/**
+ * Speichert alle Arten von Knoten, aus welchen der abstrakte Syntaxbaum eines Programms besteht.
+ * 
+ * @version	18.10.2026
+ * 
+ * @author	Christian S
+ */
+public class NodeTypes {
+	/**
+	 * Knoten, welcher einen fehlerhaften Ausdruck darstellt. Der Fehler wird erst zurueckgegeben, wenn
+	 * der Knoten ausgefuehrt wird (siehe Node.getErrorCode()).
+	 */
+	public static final int NODE_ERROR = 0;
+	
+	/**
+	 * Knoten fuer einen Wert (Zahl, String oder Wahrheitswert), welcher direkt im Quellcode steht.
+	 */
+	public static final int NODE_LITERAL = 1;
+	
+	/**
+	 * Knoten fuer den Bezeichner einer Variablen.
+	 */
+	public static final int NODE_VARIABLE = 2;
+	
+	/**
+	 * Knoten fuer eine Rechnung (z.B. "(+ 1 2 3)"). Die Kinder stellen die Operanden dar.
+	 */
+	public static final int NODE_CALCULATION = 3;
+	
+	/**
+	 * Knoten fuer einen Vergleich (z.B. "(< a b)"). Die Kinder stellen die Operanden dar.
+	 */
+	public static final int NODE_COMPARISON = 4;
+	
+	/**
+	 * Knoten fuer einen Funktionsaufruf. Die Kinder stellen die Parameter dar.
+	 */
+	public static final int NODE_CALL = 5;
+	
+	/**
+	 * Knoten fuer eine Liste an Anweisungen (z.B. der Rumpf einer Funktion oder Schleife).
+	 */
+	public static final int NODE_BLOCK = 6;
+	
+	/**
+	 * Knoten fuer das Schluesselwort "var". Das optionale Kind stellt den Wert dar.
+	 */
+	public static final int NODE_VAR = 7;
+	
+	/**
+	 * Knoten fuer das Schluesselwort "setf". Das Kind stellt den neuen Wert dar.
+	 */
+	public static final int NODE_SETF = 8;
+	
+	/**
+	 * Knoten fuer das Schluesselwort "princ". Das Kind stellt den auszugebenden Wert dar.
+	 */
+	public static final int NODE_PRINT = 9;
+	
+	/**
+	 * Knoten fuer das Schluesselwort "princln". Das Kind stellt den auszugebenden Wert dar.
+	 */
+	public static final int NODE_PRINTLN = 10;
+	
+	/**
+	 * Knoten fuer das Schluesselwort "scan".
+	 */
+	public static final int NODE_SCAN = 11;
+	
+	/**
+	 * Knoten fuer eine if-Verzweigung. Die Kinder sind die Bedingung, die Anweisungen und optional die
+	 * Anweisungen der else-Verzweigung.
+	 */
+	public static final int NODE_IF = 12;
+	
+	/**
+	 * Knoten fuer eine while-Schleife. Die Kinder sind die Bedingung und die Anweisungen.
+	 */
+	public static final int NODE_WHILE = 13;
+	
+	/**
+	 * Knoten fuer das Schluesselwort "return". Das optionale Kind stellt den Rueckgabewert dar.
+	 */
+	public static final int NODE_RETURN = 14;
+	
+	/**
+	 * Knoten fuer die Instanziierung eines Objektes einer Klasse. Das optionale Kind stellt den Instanznamen dar.
+	 */
+	public static final int NODE_INSTANTIATION = 15;
+}
@@ -3,255 +3,487 @@ package parser;
 import java.util.LinkedList;
 
 import errorHandling.ReturnValueTypes;
-import errorHandling.ReturnValue;
-//import parser.BinaryTree;
 import tokenizer.*;
 
 /**
- * Der Parser entwirft anhand einer Liste an Tokens einen abstrakten Syntaxbaum.
+ * Der Parser entwirft anhand eines Bereichs in einem TokenBuffer einen abstrakten Syntaxbaum.
+ * Der Bereich wird dazu mit einem Cursor durchlaufen. Dadurch muessen waehrend des Parsens weder Tokens
+ * kopiert noch Teillisten erzeugt werden. Ein Token wird erst erzeugt, wenn dieser in einem Knoten des
+ * Syntaxbaums gespeichert wird.
+ * Jeder Ausdruck wird nur einmalig (beim Laden des Quellcodes) geparst. Fehlerhafte Ausdruecke werden dabei
+ * als Knoten der Art NODE_ERROR abgespeichert, damit der Fehler erst auftritt, wenn der Ausdruck ausgefuehrt
+ * wird.
  * 
  * @version	05.01.2021
  * @author	Christian S
  */
 public class Parser {
 	/**
-	 * Erstellt einen abstrakten Syntaxbaum, anhand der als Parameter angegebenen Liste.
+	 * Speichert die Tokens, welche aktuell verarbeitet werden.
+	 */
+	private TokenBuffer tokensObj;
+	
+	/**
+	 * Speichert die Position des ersten Tokens, welcher verarbeitet werden soll.
+	 */
+	private int nStart;
+	
+	/**
+	 * Speichert die Position nach dem letzten Token, welcher verarbeitet werden soll.
+	 */
+	private int nLength;
+	
+	/**
+	 * Speichert fuer jede geoeffnete Klammer die Position der zugehoerigen geschlossenen Klammer (bzw. das Ende
+	 * der Tokens, wenn die Klammer nicht geschlossen wird). Der Index ist dabei relativ zu nStart.
+	 */
+	private int[] nClosingBrackets;
+	
+	/**
+	 * Speichert die Position des naechsten Tokens, welcher verarbeitet werden soll.
+	 */
+	private int nCursor;
+	
+	
+	
+	/**
+	 * Ermittelt fuer jede geoeffnete Klammer die Position der zugehoerigen geschlossenen Klammer, damit
+	 * Ausdruecke spaeter ohne erneutes Durchlaufen uebersprungen werden koennen.
+	 */
+	private void findClosingBrackets() {
+		nClosingBrackets = new int[nLength - nStart];
+		int[] nOpenedBrackets = new int[nLength - nStart]; //Speichert die Positionen der noch nicht geschlossenen Klammern.
+		int nOpenedBracketsSize = 0;
+		for (int i = nStart; i < nLength; i++) {
+			if (tokensObj.getKind(i) == TokenTypes.KIND_BRACKET_OPENED) {
+				//Geoeffnete Klammer merken:
+				nOpenedBrackets[nOpenedBracketsSize++] = i;
+				nClosingBrackets[i - nStart] = nLength;
+			}
+			else if (tokensObj.getKind(i) == TokenTypes.KIND_BRACKET_CLOSED && nOpenedBracketsSize > 0) {
+				//Geschlossene Klammer gehoert zur zuletzt geoeffneten Klammer:
+				nClosingBrackets[nOpenedBrackets[--nOpenedBracketsSize] - nStart] = i;
+			}
+		}
+	}
+	
+	/**
+	 * Gibt die Position der geschlossenen Klammer zurueck, welche zur geoeffneten Klammer an der angegebenen
+	 * Position gehoert.
+	 * 
+	 * @param pnPosition	Position der geoeffneten Klammer.
+	 * @return				Position der geschlossenen Klammer (bzw. das Ende der Tokens).
+	 */
+	private int getClosingBracket(int pnPosition) {
+		return nClosingBrackets[pnPosition - nStart];
+	}
+	
+	/**
+	 * Gibt an, ob sich an der angegebenen Position ein Token der angegebenen Art befindet.
+	 * 
+	 * @param pnPosition	Position des Tokens.
+	 * @param pnKind		Art des Tokens (siehe TokenTypes.KIND_...).
+	 * @return				Gibt an, ob sich an der Position ein solcher Token befindet.
+	 */
+	private boolean isKind(int pnPosition, int pnKind) {
+		return pnPosition < nLength && tokensObj.getKind(pnPosition) == pnKind;
+	}
+	
+	/**
+	 * Gibt an, ob es sich bei dem Bezeichner an der Position des Cursors um einen Funktionsaufruf handelt. Dies
+	 * ist der Fall, wenn auf den Bezeichner eine geoeffnete Klammer folgt, welche keine Rechnung einleitet.
 	 * 
-	 * @param ptAST		Abstrakter Syntaxbaum, welcher durch neuen Durchlauf der Methode erweitert werden soll.
-	 * 					Dieser AST darf nicht leer sein!
-	 * @param plTokens	Liste an Tokens, welche fuer die Entwicklung des AST verwendet werden soll.
+	 * @return	Gibt an, ob es sich um einen Funktionsaufruf handelt.
+	 */
+	private boolean isFunctionCall() {
+		return isKind(nCursor + 1, TokenTypes.KIND_BRACKET_OPENED) && !isKind(nCursor + 2, TokenTypes.KIND_OPERATOR);
+	}
+	
+	/**
+	 * Erstellt einen Knoten fuer einen Fehler und setzt den Cursor hinter die angegebene Position.
 	 * 
-	 * @return			Abstrakter Syntaxbaum.
+	 * @param pnErrorCode	Fehler (siehe ReturnValueTypes).
+	 * @param pnEnd			Position des letzten Tokens, welcher zum fehlerhaften Ausdruck gehoert.
+	 * @return				Knoten der Art NODE_ERROR.
 	 */
-	private ReturnValue<BinaryTree<Token>> createBinaryTree(BinaryTree<Token> ptAST, LinkedList<Token> plTokens) {
-		if (plTokens.isEmpty()) {
-			//Liste an Tokens ist leer:
-			return new ReturnValue<BinaryTree<Token>>(ptAST, ReturnValueTypes.SUCCESS);
+	private Node skipWithError(int pnErrorCode, int pnEnd) {
+		nCursor = Math.min(pnEnd + 1, nLength);
+		return Node.createError(pnErrorCode);
+	}
+	
+	
+	
+	/**
+	 * Erstellt den Knoten fuer einen Wert an der Position des Cursors (z.B. der Wert einer Variablen, ein
+	 * Parameter oder der Rueckgabewert einer Funktion). Ein Wert kann ein String, eine Zahl, ein Wahrheitswert,
+	 * eine Variable, ein Funktionsaufruf oder eine Rechnung sein.
+	 * 
+	 * @return	Knoten des Wertes.
+	 */
+	private Node createValue() {
+		switch(tokensObj.getKind(nCursor)) {
+		case TokenTypes.KIND_BRACKET_OPENED:
+			//Es handelt sich um eine Rechnung:
+			if (!isKind(nCursor + 1, TokenTypes.KIND_OPERATOR)) {
+				//Es ist kein Operator vorhanden:
+				return skipWithError(ReturnValueTypes.ERROR_SYNTAX, getClosingBracket(nCursor));
+			}
+			return createCalculation();
+		case TokenTypes.KIND_STRING:
+		case TokenTypes.KIND_NUMBER:
+		case TokenTypes.KIND_BOOLEAN:
+			//Es handelt sich um einen String, eine Zahl oder einen Wahrheitswert:
+			return new Node(NodeTypes.NODE_LITERAL, tokensObj.getToken(nCursor++));
+		case TokenTypes.KIND_IDENTIFIER:
+			//Es handelt sich um einen Bezeichner (einer Variablen oder Funktion):
+			if (isFunctionCall()) {
+				return createCall();
+			}
+			return new Node(NodeTypes.NODE_VARIABLE, tokensObj.getToken(nCursor++));
+		default:
+			//Es handelt sich um einen unangebrachten Token -> SYNTAX FEHLER:
+			nCursor++;
+			return Node.createError(ReturnValueTypes.ERROR_SYNTAX);
 		}
-		
-		if (plTokens.get(0).getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-			//Geschlossene Klammer gefunden -> Rekursion beenden:
-			return new ReturnValue<BinaryTree<Token>>(ptAST, ReturnValueTypes.SUCCESS);
+	}
+	
+	/**
+	 * Erstellt den Knoten fuer einen Operanden einer Rechnung oder eines Vergleichs an der Position des Cursors.
+	 * 
+	 * @return	Knoten des Operanden.
+	 */
+	private Node createOperand() {
+		switch(tokensObj.getKind(nCursor)) {
+		case TokenTypes.KIND_BRACKET_OPENED:
+			//Fuer den Operanden muss eine weitere Rechnung durchgefuehrt werden:
+			return createCalculation(); //REKURSION :O
+		case TokenTypes.KIND_STRING:
+		case TokenTypes.KIND_NUMBER:
+		case TokenTypes.KIND_BOOLEAN:
+			//Es handelt sich um einen String, eine Zahl oder einen Wahrheitswert:
+			return new Node(NodeTypes.NODE_LITERAL, tokensObj.getToken(nCursor++));
+		case TokenTypes.KIND_IDENTIFIER:
+			//Es handelt sich um einen Bezeichner (einer Variablen oder Funktion):
+			if (isFunctionCall()) {
+				return createCall();
+			}
+			return new Node(NodeTypes.NODE_VARIABLE, tokensObj.getToken(nCursor++));
+		default:
+			//Unbekannter Token:
+			nCursor++;
+			return Node.createError(ReturnValueTypes.ERROR_UNKNOWN_TOKEN);
 		}
+	}
+	
+	/**
+	 * Erstellt den Knoten fuer eine Rechnung oder einen Vergleich. Der Cursor muss sich an der geoeffneten
+	 * Klammer befinden und wird anschliessend hinter die zugehoerige geschlossene Klammer gesetzt.
+	 * 
+	 * @return	Knoten der Rechnung (bzw. des Vergleichs).
+	 */
+	private Node createCalculation() {
+		int nEnd = getClosingBracket(nCursor); //Speichert die Position der zugehoerigen geschlossenen Klammer.
+		if (nEnd >= nLength) {
+			//Die Klammer wird nicht geschlossen:
+			return skipWithError(ReturnValueTypes.ERROR_SYNTAX, nEnd);
+		}
+		nCursor++; //Klammer ueberspringen.
 		
-		BinaryTree<Token> tNewAST = new BinaryTree<Token>(); //Speichert den neuen AST.
-		tNewAST.setContent(ptAST.getContent()); //Operator setzten.
-		
-		if (plTokens.get(0).getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-			//Neue Klammer geoeffnet -> Neue Rechnung starten:
-			plTokens.remove(0); //Klammer entfernen:
-			BinaryTree<Token> tNewAST_RightSubTree = new BinaryTree<Token>(plTokens.get(0)); //Rechter Teilbaum
-			
-			ReturnValue<BinaryTree<Token>> rekursionReturnObj = new ReturnValue<BinaryTree<Token>>();
-			rekursionReturnObj = createBinaryTree(plTokens); //REKURSION :O
-			
-			if (rekursionReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Es gab einen Fehler:
-				return rekursionReturnObj;
-			}
-			
-			tNewAST_RightSubTree = rekursionReturnObj.getReturnValue();
-			
-			tNewAST.setLeftSubTree(ptAST); //Linken Teilbaum dem neuen AST hinzufuegen.
-			tNewAST.setRightSubTree(tNewAST_RightSubTree); //Rechten Teilbaum hinzufuegen.
-			//Rechnung aus der Liste an Tokens entfernen:
-			int nBracketBalance = 1;
-			while (!plTokens.isEmpty()) {
-				if (plTokens.get(0).getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					//Geoeffnete Klammer:
-					nBracketBalance++;
-				}
-				else if (plTokens.get(0).getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-					//Geschlossene Klammer:
-					nBracketBalance--;
-				}
-				plTokens.remove(0);
-				if (nBracketBalance == 0) {
-					//Es wurden gleich viele Klammern geoeffnet und geschlossen -> Erster Operand wurde aus der Liste entfernt.
-					break;
-				}
-			}
+		int nType; //Speichert die Art des Knotens.
+		if (isKind(nCursor, TokenTypes.KIND_OPERATOR)) {
+			nType = NodeTypes.NODE_CALCULATION;
+		}
+		else if (isKind(nCursor, TokenTypes.KIND_OPERATOR_BOOLEAN)) {
+			nType = NodeTypes.NODE_COMPARISON;
 		}
 		else {
-			//Es wird keine neue Klammer geoeffnet, sodass keine neue Rechnung gestartet wird:
-			BinaryTree<Token> tNewAST_RightSubTree = new BinaryTree<Token>(plTokens.get(0)); //Rechter Teilbaum.
-			tNewAST.setLeftSubTree(ptAST); //Linken Teilbaum dem neuen AST hinzufuegen.
-			tNewAST.setRightSubTree(tNewAST_RightSubTree); //Rechten Teilbaum hinzufuegen.
-			plTokens.remove(0); //Token aus der Liste entfernen.
+			//Es befindet sich kein Operator am Anfang der Rechnung:
+			return skipWithError(ReturnValueTypes.ERROR_SYNTAX, nEnd);
 		}
+		Token operatorTokenObj = tokensObj.getToken(nCursor); //Speichert den Operator.
+		nCursor++;
 		
-		ReturnValue<BinaryTree<Token>> rekursionReturnObj = new ReturnValue<BinaryTree<Token>>();
-		rekursionReturnObj = createBinaryTree(tNewAST, plTokens); //REKURSION :O
-		
-		if (rekursionReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-			//Es ist ein Fehler aufgetreten:
-			return rekursionReturnObj;
+		//Operanden herausfinden:
+		LinkedList<Node> lOperandsObj = new LinkedList<Node>();
+		while (nCursor < nEnd) {
+			lOperandsObj.add(createOperand());
 		}
-		
-		tNewAST = rekursionReturnObj.getReturnValue();
-		
-		ReturnValue<BinaryTree<Token>> returnASTObj = new ReturnValue<BinaryTree<Token>>(tNewAST, ReturnValueTypes.SUCCESS);
-		
-		return returnASTObj;
+		nCursor = nEnd + 1; //Geschlossene Klammer ueberspringen.
+		if (lOperandsObj.size() < 2) {
+			//Es sind nicht genug Operanden vorhanden:
+			return Node.createError(ReturnValueTypes.ERROR_NOT_ENOUGH_OPERANDS);
+		}
+		return new Node(nType, operatorTokenObj, lOperandsObj.toArray(new Node[lOperandsObj.size()]));
 	}
 	
 	/**
-	 * Startet den rekursiven Prozess, bei welchem ein abstrakter Syntaxbaum erstellt wird.
+	 * Erstellt den Knoten fuer einen Funktionsaufruf. Der Cursor muss sich am Bezeichner der Funktion befinden
+	 * und wird anschliessend hinter die geschlossene Klammer der Parameter gesetzt.
 	 * 
-	 * @param plTokens	Liste an Tokens, aus welchen der AST erstellt werden soll. Der Operator muss sich an der
-	 * 					ersten Position in der Liste befinden, sonst wird null zurueckgegeben.
+	 * @return	Knoten des Funktionsaufrufes.
+	 */
+	private Node createCall() {
+		Token nameTokenObj = tokensObj.getToken(nCursor); //Speichert den Bezeichner der Funktion.
+		nCursor++;
+		int nEnd = getClosingBracket(nCursor); //Speichert die Position der geschlossenen Klammer der Parameter.
+		if (nEnd >= nLength) {
+			//Die Klammer wird nicht geschlossen:
+			return skipWithError(ReturnValueTypes.ERROR_SYNTAX, nEnd);
+		}
+		nCursor++; //Klammer ueberspringen.
+		
+		//Parameter herausfinden:
+		LinkedList<Node> lParametersObj = new LinkedList<Node>();
+		while (nCursor < nEnd) {
+			lParametersObj.add(createValue());
+		}
+		nCursor = nEnd + 1; //Geschlossene Klammer ueberspringen.
+		return new Node(NodeTypes.NODE_CALL, nameTokenObj, lParametersObj.toArray(new Node[lParametersObj.size()]));
+	}
+	
+	/**
+	 * Erstellt den Knoten fuer eine Liste an Anweisungen (z.B. "((princ a) (setf a 1))"). Der Cursor muss sich
+	 * an der geoeffneten Klammer befinden und wird anschliessend hinter die zugehoerige geschlossene Klammer
+	 * gesetzt.
 	 * 
-	 * @return			Abstrakter Syntaxbaum.
+	 * @return	Knoten der Anweisungen.
 	 */
-	private ReturnValue<BinaryTree<Token>> createBinaryTree(LinkedList<Token> plTokens) {
-		if (plTokens.size() <= 3) {
-			//Liste an Tokens ist leer, oder enthaelt nicht genug Operanden:
-			ReturnValue<BinaryTree<Token>> tEmptyAST = new ReturnValue<BinaryTree<Token>>(new BinaryTree<Token>(), ReturnValueTypes.ERROR_NOT_ENOUGH_OPERANDS);
-			return tEmptyAST;
+	private Node createBlock() {
+		int nEnd = getClosingBracket(nCursor); //Speichert die Position der zugehoerigen geschlossenen Klammer.
+		if (nEnd >= nLength) {
+			//Die Klammer wird nicht geschlossen:
+			return skipWithError(ReturnValueTypes.ERROR_SYNTAX, nEnd);
+		}
+		nCursor++; //Klammer ueberspringen.
+		
+		LinkedList<Node> lStatementsObj = new LinkedList<Node>();
+		while (nCursor < nEnd) {
+			lStatementsObj.add(createStatement());
 		}
-		else if (!plTokens.get(0).getType().equals(TokenTypes.TOKEN_OPERATOR) && !plTokens.get(0).getType().equals(TokenTypes.TOKEN_OPERATOR_BOOLEAN)) {
-			//Es befindet sich kein Operator an der ersten Stelle in der Liste:
-			ReturnValue<BinaryTree<Token>> tEmptyAST = new ReturnValue<BinaryTree<Token>>(new BinaryTree<Token>(), ReturnValueTypes.ERROR_SYNTAX);
-			return tEmptyAST;
+		nCursor = nEnd + 1; //Geschlossene Klammer ueberspringen.
+		return new Node(NodeTypes.NODE_BLOCK, null, lStatementsObj.toArray(new Node[lStatementsObj.size()]));
+	}
+	
+	/**
+	 * Erstellt den Knoten fuer eine Kontrollstruktur (if-Verzweigung oder while-Schleife). Der Cursor muss sich
+	 * an der Bedingung befinden.
+	 * 
+	 * @param pnType		Art des Knotens (NODE_IF oder NODE_WHILE).
+	 * @param pnEnd			Position der geschlossenen Klammer des Ausdrucks.
+	 * @param pbAllowElse	Gibt an, ob eine else-Verzweigung angegeben werden darf.
+	 * @return				Knoten der Kontrollstruktur.
+	 */
+	private Node createControlStructure(int pnType, int pnEnd, boolean pbAllowElse) {
+		if (!isKind(nCursor, TokenTypes.KIND_BRACKET_OPENED) || nCursor >= pnEnd) {
+			//Die Bedingung ist fehlerhaft angegeben -> SYNTAX FEHLER:
+			return Node.createError(ReturnValueTypes.ERROR_SYNTAX);
 		}
+		Node conditionObj = createCalculation(); //Speichert die Bedingung.
 		
-		Token operatorTokenObj = new Token(plTokens.get(0).getValue(), plTokens.get(0).getType()); //Speichert den Operator als Token.
-		plTokens.remove(0); //Operator entfernen.
+		if (!isKind(nCursor, TokenTypes.KIND_BRACKET_OPENED) || nCursor >= pnEnd) {
+			//Die Anweisungen sind fehlerhaft angegeben -> SYNTAX FEHLER:
+			return Node.createError(ReturnValueTypes.ERROR_SYNTAX);
+		}
+		Node statementsObj = createBlock(); //Speichert die Anweisungen.
 		
-		//Ersten Operanden herausfinden:
-		BinaryTree<Token> tOperand1AST = new BinaryTree<Token>(); //Speichert den Teilbaum des ersten Operanden.
-		if (plTokens.get(0).getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-			//Fuer den ersten Operanden muss eine weitere Rechnung durchgefuehrt werden:
-			LinkedList<Token> lTokensOperand1 = new LinkedList<Token>();
-			plTokens.remove(0); //Klammer entfernen.
-			lTokensOperand1.addAll(plTokens);
+		if (pbAllowElse && nCursor < pnEnd && isKind(nCursor, TokenTypes.KIND_BRACKET_OPENED)) {
+			//Es existiert eine else-Verzweigung:
+			Node elseStatementsObj = createBlock();
+			return new Node(pnType, null, new Node[] {conditionObj, statementsObj, elseStatementsObj});
+		}
+		return new Node(pnType, null, new Node[] {conditionObj, statementsObj});
+	}
+	
+	/**
+	 * Erstellt den Knoten fuer ein Schluesselwort. Der Cursor muss sich hinter dem Schluesselwort befinden.
+	 * 
+	 * @param pnKeyword	Position des Schluesselwortes.
+	 * @param pnEnd		Position der geschlossenen Klammer des Ausdrucks.
+	 * @return			Knoten des Schluesselwortes.
+	 */
+	private Node createKeyword(int pnKeyword, int pnEnd) {
+		int nKeywordId = KeywordTable.lookup(tokensObj.getSourceCode(), tokensObj.getStart(pnKeyword), tokensObj.getEnd(pnKeyword)); //Speichert die ID des Schluesselwortes.
+		switch(nKeywordId) {
+		case KeywordTable.KEYWORD_VAR:
+			//Es soll eine neue Variable deklariert werden:
+			if (nCursor >= pnEnd || !isKind(nCursor, TokenTypes.KIND_IDENTIFIER)) {
+				//Beim Variablennamen handelt es sich nicht um einen Bezeichner -> SYNTAX FEHLER:
+				return Node.createError(ReturnValueTypes.ERROR_SYNTAX);
+			}
+			Token variableNameObj = tokensObj.getToken(nCursor++);
+			if (nCursor >= pnEnd) {
+				//Die Variable soll nicht initialisiert werden:
+				return new Node(NodeTypes.NODE_VAR, variableNameObj);
+			}
+			return new Node(NodeTypes.NODE_VAR, variableNameObj, new Node[] {createValue()});
+			
+		case KeywordTable.KEYWORD_SETF:
+			//Der Wert einer Variablen soll geaendert werden:
+			if (nCursor + 1 >= pnEnd) {
+				//Es ist kein neuer Wert angegeben -> SYNTAX FEHLER:
+				return Node.createError(ReturnValueTypes.ERROR_SYNTAX);
+			}
+			Token setfNameObj = tokensObj.getToken(nCursor++);
+			return new Node(NodeTypes.NODE_SETF, setfNameObj, new Node[] {createValue()});
 			
-			ReturnValue<BinaryTree<Token>> tReturnOperand1 = new ReturnValue<BinaryTree<Token>>();
-			tReturnOperand1 = createBinaryTree(lTokensOperand1); //REKURSION :O
-			if (tReturnOperand1.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Es ist bei der Rekursion zu einem Fehler gekommen:
-				return tReturnOperand1;
+		case KeywordTable.KEYWORD_PRINT:
+		case KeywordTable.KEYWORD_PRINTLN:
+			//Es soll ein Wert ausgegeben werden:
+			if (nCursor >= pnEnd) {
+				//Es ist kein Wert angegeben -> SYNTAX FEHLER:
+				return Node.createError(ReturnValueTypes.ERROR_SYNTAX);
 			}
-			tOperand1AST = tReturnOperand1.getReturnValue();
+			int nPrintType = (nKeywordId == KeywordTable.KEYWORD_PRINT) ? NodeTypes.NODE_PRINT : NodeTypes.NODE_PRINTLN;
+			return new Node(nPrintType, tokensObj.getToken(pnKeyword), new Node[] {createValue()});
+			
+		case KeywordTable.KEYWORD_SCAN:
+			//Die Eingabe des Benutzers soll eingelesen werden:
+			if (nCursor >= pnEnd || !isKind(nCursor, TokenTypes.KIND_IDENTIFIER)) {
+				//FEHLER: Es handelt sich nicht um einen gueltigen Bezeichner:
+				return Node.createError(ReturnValueTypes.ERROR_UNKNOWN_IDENTIFIER);
+			}
+			return new Node(NodeTypes.NODE_SCAN, tokensObj.getToken(nCursor++));
+			
+		case KeywordTable.KEYWORD_IF:
+			//Es handelt sich um eine if-Verzweigung:
+			return createControlStructure(NodeTypes.NODE_IF, pnEnd, true);
+			
+		case KeywordTable.KEYWORD_WHILE:
+			//Es handelt sich um eine while-Schleife:
+			return createControlStructure(NodeTypes.NODE_WHILE, pnEnd, false);
 			
-			//Rechnung des ersten Operanden aus der Liste an Tokens entfernen:
-			int nBracketBalance = 1;
-			while (!plTokens.isEmpty()) {
-				if (plTokens.get(0).getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					//Geoeffnete Klammer:
-					nBracketBalance++;
-				}
-				else if (plTokens.get(0).getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-					//Geschlossene Klammer:
-					nBracketBalance--;
-				}
-				plTokens.remove(0);
-				if (nBracketBalance == 0) {
-					//Es wurden gleich viele Klammern geoeffnet und geschlossen -> Erster Operand wurde aus der Liste entfernt.
-					break;
-				}
+		case KeywordTable.KEYWORD_RETURN:
+			//Der aktuelle Funktionsaufruf soll beendet werden:
+			if (nCursor >= pnEnd) {
+				//Es ist kein Rueckgabewert angegeben:
+				return new Node(NodeTypes.NODE_RETURN, tokensObj.getToken(pnKeyword));
 			}
+			return new Node(NodeTypes.NODE_RETURN, tokensObj.getToken(pnKeyword), new Node[] {createValue()});
+			
+		default:
+			//Unbekanntes Schluesselwort -> FEHLER:
+			return Node.createError(ReturnValueTypes.ERROR_UNKNOWN_TOKEN);
 		}
-		else {
-			//Fuer den ersten Operanden muss keine weitere Rechnung durchgefuehrt werden:
-			tOperand1AST.setContent(plTokens.get(0));
-			plTokens.remove(0); //Operanden entfernen.
+	}
+	
+	/**
+	 * Erstellt den Knoten fuer einen Ausdruck (z.B. "(var a 5)") an der Position des Cursors. Anschliessend wird
+	 * der Cursor hinter die zugehoerige geschlossene Klammer gesetzt.
+	 * 
+	 * @return	Knoten des Ausdrucks.
+	 */
+	private Node createStatement() {
+		if (!isKind(nCursor, TokenTypes.KIND_BRACKET_OPENED)) {
+			//Das erste Element ist keine geoeffnete Klammer -> SYNTAX FEHLER:
+			return skipWithError(ReturnValueTypes.ERROR_SYNTAX, nCursor);
+		}
+		int nEnd = getClosingBracket(nCursor); //Speichert die Position der zugehoerigen geschlossenen Klammer.
+		if (nEnd >= nLength) {
+			//Es wurden nicht gleich viele Klammern geoeffnet und geschlossen:
+			return skipWithError(ReturnValueTypes.ERROR_SYNTAX, nEnd);
+		}
+		nCursor++; //Klammer ueberspringen.
+		if (nCursor >= nEnd) {
+			//Der Ausdruck ist leer -> SYNTAX FEHLER:
+			return skipWithError(ReturnValueTypes.ERROR_SYNTAX, nEnd);
 		}
 		
-		//Zweiten Operanden herausfinden:
-		BinaryTree<Token> tOperand2AST = new BinaryTree<Token>(); //Speichert den Teilbaum des zweiten Operanden.
-		if (plTokens.get(0).getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-			//Fuer den zweiten Operanden muss eine weitere Rechnung durchgefuehrt werden:
-			LinkedList<Token> lTokensOperand2 = new LinkedList<Token>();
-			plTokens.remove(0); //Klammer entfernen.
-			lTokensOperand2.addAll(plTokens);
-
-			ReturnValue<BinaryTree<Token>> tReturnOperand2 = new ReturnValue<BinaryTree<Token>>();
-			tReturnOperand2 = createBinaryTree(lTokensOperand2); //REKURSION :O;
-			if (tReturnOperand2.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-				//Es ist bei der Rekursion zu einem Fehler gekommen:
-				return tReturnOperand2;
+		//Herausfinden, was der erste Token (Schluesselwort) darstellt:
+		int nFirstTokenKind = tokensObj.getKind(nCursor);
+		Node statementObj;
+		if (nFirstTokenKind == TokenTypes.KIND_KEYWORD) {
+			//Der erste Token ist ein Schluesselwort (z.B. "setf"):
+			nCursor++;
+			statementObj = createKeyword(nCursor - 1, nEnd);
+		}
+		else if (nFirstTokenKind == TokenTypes.KIND_IDENTIFIER) {
+			//Der erste Token ist ein Bezeichner -> Aufruf einer Funktion, oder Deklaration eines Objektes einer Klasse:
+			if (isKind(nCursor + 1, TokenTypes.KIND_BRACKET_OPENED)) {
+				//Es handelt sich um eine Funktion:
+				statementObj = createCall();
 			}
-			tOperand2AST = tReturnOperand2.getReturnValue();
-			
-			//Rechnung des zweiten Operanden aus der Liste an Tokens entfernen:
-			int nBracketBalance = 1;
-			while (!plTokens.isEmpty()) {
-				if (plTokens.get(0).getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					//Geoeffnete Klammer:
-					nBracketBalance++;
-				}
-				else if (plTokens.get(0).getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-					//Geschlossene Klammer:
-					nBracketBalance--;
-				}
-				plTokens.remove(0);
-				if (nBracketBalance == 0) {
-					//Es wurden gleich viele Klammern geoeffnet und geschlossen -> Zweiter Operand wurde aus der Liste entfernt.
-					break;
-				}
+			else if (nCursor + 1 < nEnd) {
+				//Es handelt sich um die instanziierung eines neuen Objektes:
+				nCursor += 2;
+				Node instanceNameObj = new Node(NodeTypes.NODE_VARIABLE, tokensObj.getToken(nCursor - 1));
+				statementObj = new Node(NodeTypes.NODE_INSTANTIATION, tokensObj.getToken(nCursor - 2), new Node[] {instanceNameObj});
+			}
+			else {
+				//Es ist kein Instanzname angegeben (wird erst nach der Klasse ueberprueft):
+				nCursor++;
+				statementObj = new Node(NodeTypes.NODE_INSTANTIATION, tokensObj.getToken(nCursor - 1));
 			}
 		}
 		else {
-			//Fuer den zweiten Operanden muss keine weitere Rechnung durchgefuehrt werden:
-			tOperand2AST.setContent(plTokens.get(0));
-			plTokens.remove(0); //Operanden entfernen.
+			//Der erste Token ist kein Schluesselwort und kein Bezeichner -> SYNTAX FEHLER:
+			statementObj = Node.createError(ReturnValueTypes.ERROR_SYNTAX);
 		}
 		
-		//Operanden wurden herausgefunden:
-		BinaryTree<Token> tAbstractSyntaxTree = new BinaryTree<Token>(operatorTokenObj, tOperand1AST, tOperand2AST); //Abstrakter Syntaxbaum, welcher fuer die Rekursion verwendet wird.
-		
-		//Rekursion starten:
-		ReturnValue<BinaryTree<Token>> rekursionReturnObj = new ReturnValue<BinaryTree<Token>>(); //Speichert den Rueckgabewert der Rekursion.
-		rekursionReturnObj = createBinaryTree(tAbstractSyntaxTree, plTokens); //REKURSION :O
-		if (rekursionReturnObj.getExecutionInformation() != ReturnValueTypes.SUCCESS) {
-			return rekursionReturnObj;
+		//Ueberpruefen, ob noch weitere Tokens im Ausdruck vorhanden sind:
+		if (statementObj.getType() != NodeTypes.NODE_ERROR && nCursor != nEnd) {
+			//Es kommen noch weitere Tokens vor (SYNTAXFEHLER):
+			statementObj = Node.createError(ReturnValueTypes.ERROR_SYNTAX);
 		}
-		tAbstractSyntaxTree = rekursionReturnObj.getReturnValue();
-		
-		return new ReturnValue<BinaryTree<Token>>(tAbstractSyntaxTree, ReturnValueTypes.SUCCESS);
+		nCursor = nEnd + 1;
+		return statementObj;
 	}
 	
 	
 	
 	/**
-	 * Erstellt einen abstrakten Syntaxbaum, anhand einer Liste an Tokens.
+	 * Uebernimmt den Bereich an Tokens, welcher geparst werden soll, und setzt den Cursor auf den ersten Token.
 	 * 
-	 * @param plTokens	Liste an Tokens, welche verarbeitet werden sollen.
-	 * @return			Abstrakter Syntaxbaum.
+	 * @param pTokensObj	Tokens, in welchen sich der Bereich befindet.
+	 * @param pnStart		Position des ersten Tokens, welcher verarbeitet werden soll.
+	 * @param pnEnd			Position nach dem letzten Token, welcher verarbeitet werden soll.
 	 */
-	public ReturnValue<BinaryTree<Token>> parse(LinkedList<Token> plTokens) {
-		if (plTokens.isEmpty()) {
-			//Liste an Tokens ist leer:
-			return new ReturnValue<BinaryTree<Token>>(null, ReturnValueTypes.ERROR_SYNTAX);
-		}
-		else {
-			int nOpenedBrackets = 0;
-			int nClosedBrackets = 0;
-			for (int i = 0; i < plTokens.size(); i++) {
-				if (plTokens.get(i).getType().equals(TokenTypes.TOKEN_BRACKET_OPENED)) {
-					nOpenedBrackets++;
-				}
-				else if (plTokens.get(i).getType().equals(TokenTypes.TOKEN_BRACKET_CLOSED)) {
-					nClosedBrackets++;
-				}
-			}
-			if (nOpenedBrackets != nClosedBrackets) {
-				//Die Anzahl an geoeffneten und geschlossenen Klammern stimmen nicht ueberein:
-				return new ReturnValue<BinaryTree<Token>>(null, ReturnValueTypes.ERROR_SYNTAX);
-			}
+	private void load(TokenBuffer pTokensObj, int pnStart, int pnEnd) {
+		tokensObj = pTokensObj;
+		nStart = pnStart;
+		nLength = pnEnd;
+		findClosingBrackets();
+		nCursor = pnStart;
+	}
+	
+	/**
+	 * Erstellt einen abstrakten Syntaxbaum fuer einen einzelnen Ausdruck (z.B. "(princln (+ a 1))").
+	 * 
+	 * @param pTokensObj	Tokens, in welchen sich der Ausdruck befindet.
+	 * @param pnStart		Position des ersten Tokens des Ausdrucks.
+	 * @param pnEnd			Position nach dem letzten Token des Ausdrucks.
+	 * @return				Abstrakter Syntaxbaum des Ausdrucks.
+	 */
+	public Node parseExpression(TokenBuffer pTokensObj, int pnStart, int pnEnd) {
+		if (pnStart >= pnEnd) {
+			//Es sind keine Tokens vorhanden:
+			return Node.createError(ReturnValueTypes.ERROR_SYNTAX);
 		}
-		
-		plTokens.remove(0);
-		
-		if (plTokens.isEmpty()) {
-			//Keine Tokens vorhanden:
-			return new ReturnValue(null, ReturnValueTypes.ERROR_SYNTAX);
+		load(pTokensObj, pnStart, pnEnd);
+		Node expressionObj = createStatement();
+		tokensObj = null;
+		nClosingBrackets = null;
+		return expressionObj;
+	}
+	
+	/**
+	 * Erstellt einen abstrakten Syntaxbaum fuer eine Liste an Ausdruecken (z.B. den Rumpf einer Funktion). Der
+	 * Bereich muss mit der geoeffneten Klammer der Liste beginnen, alle Tokens nach der zugehoerigen
+	 * geschlossenen Klammer werden ignoriert.
+	 * 
+	 * @param pTokensObj	Tokens, in welchen sich die Liste an Ausdruecken befindet.
+	 * @param pnStart		Position der geoeffneten Klammer der Liste.
+	 * @param pnEnd			Position nach dem letzten Token, welcher verarbeitet werden darf.
+	 * @return				Abstrakter Syntaxbaum mit einem Knoten der Art NODE_BLOCK (bzw. NODE_ERROR).
+	 */
+	public Node parseBlock(TokenBuffer pTokensObj, int pnStart, int pnEnd) {
+		if (pnStart >= pnEnd || pTokensObj.getKind(pnStart) != TokenTypes.KIND_BRACKET_OPENED) {
+			//Es gibt keine Liste an Ausdruecken:
+			return Node.createError(ReturnValueTypes.ERROR_SYNTAX);
 		}
-		
-		ReturnValue<BinaryTree<Token>> rekursionReturn = new ReturnValue<BinaryTree<Token>>();
-		rekursionReturn = createBinaryTree(plTokens); //REKURSION :O
-		
-		return rekursionReturn;
+		load(pTokensObj, pnStart, pnEnd);
+		Node blockObj = createBlock();
+		tokensObj = null;
+		nClosingBrackets = null;
+		return blockObj;
 	}
 }
@@ -0,0 +1,115 @@
+package parser;
+import java.util.ArrayList;
+
+
+
+/**
+ * Die Klasse "Resolver" ordnet nach dem Erstellen des abstrakten Syntaxbaums einer Funktion jedem Parameter
+ * und jeder Variablen einen festen Platz im Rahmen des Funktionsaufrufes zu. Jeder Knoten, welcher auf eine
+ * Variable zugreift, speichert diesen Platz (siehe Node.getSlot()), sodass eine Variable beim Ausfuehren nicht
+ * mehr ueber ihren Bezeichner gesucht werden muss.
+ * Die Gueltigkeitsbereiche entsprechen dabei denen des Interpreters: Variablen, welche innerhalb einer
+ * if-Verzweigung oder while-Schleife deklariert werden, sind nur dort sichtbar. Die Plaetze solcher Variablen
+ * werden nach dem Verlassen des Gueltigkeitsbereiches wiederverwendet.
+ * 
+ * @version	18.10.2026
+ * 
+ * @author	Christian S
+ */
+public class Resolver {
+	/**
+	 * Speichert die Bezeichner aller aktuell sichtbaren Variablen. Der Index stellt dabei den Platz der
+	 * Variablen dar.
+	 */
+	private ArrayList<String> lsVariableNames;
+	
+	/**
+	 * Speichert die Anzahl an Plaetzen, welche der Rahmen eines Funktionsaufrufes benoetigt.
+	 */
+	private int nSlotAmount;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "Resolver".
+	 * 
+	 * @param psParameterNames	Bezeichner der Parameter, welche die ersten Plaetze erhalten.
+	 */
+	public Resolver(String[] psParameterNames) {
+		lsVariableNames = new ArrayList<String>();
+		for (int i = 0; i < psParameterNames.length; i++) {
+			lsVariableNames.add(psParameterNames[i]);
+		}
+		nSlotAmount = psParameterNames.length;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode ordnet allen Variablen des angegebenen Rumpfes einen Platz zu.
+	 * 
+	 * @param pBodyObj	Rumpf der Funktion als abstrakter Syntaxbaum.
+	 * @return			Anzahl an Plaetzen, welche der Rahmen eines Funktionsaufrufes benoetigt.
+	 */
+	public int resolve(Node pBodyObj) {
+		resolveNode(pBodyObj);
+		return nSlotAmount;
+	}
+	
+	
+	
+	/**
+	 * Diese Methode ordnet den Variablen im angegebenen Knoten (und dessen Kindern) einen Platz zu.
+	 * 
+	 * @param pNodeObj	Knoten, welcher durchlaufen werden soll.
+	 */
+	private void resolveNode(Node pNodeObj) {
+		switch(pNodeObj.getType()) {
+		case NodeTypes.NODE_VARIABLE:
+		case NodeTypes.NODE_SETF:
+		case NodeTypes.NODE_SCAN:
+			//Zugriff auf eine Variable:
+			resolveChildren(pNodeObj);
+			pNodeObj.setSlot(lsVariableNames.indexOf(pNodeObj.getValue()));
+			break;
+		case NodeTypes.NODE_VAR:
+			//Der Wert wird ausgewertet, bevor die Variable existiert:
+			resolveChildren(pNodeObj);
+			if (lsVariableNames.contains(pNodeObj.getValue())) {
+				//Der Bezeichner wird bereits verwendet:
+				pNodeObj.setSlot(Node.SLOT_DUPLICATE);
+				break;
+			}
+			pNodeObj.setSlot(lsVariableNames.size());
+			lsVariableNames.add(pNodeObj.getValue());
+			nSlotAmount = Math.max(nSlotAmount, lsVariableNames.size());
+			break;
+		case NodeTypes.NODE_IF:
+		case NodeTypes.NODE_WHILE:
+			//Die Bedingung befindet sich ausserhalb, die Anweisungen jeweils in einem eigenen Gueltigkeitsbereich:
+			resolveNode(pNodeObj.getChild(0));
+			for (int i = 1; i < pNodeObj.getChildAmount(); i++) {
+				int nScopeMark = lsVariableNames.size();
+				resolveNode(pNodeObj.getChild(i));
+				while (lsVariableNames.size() > nScopeMark) {
+					lsVariableNames.remove(lsVariableNames.size() - 1);
+				}
+			}
+			break;
+		default:
+			resolveChildren(pNodeObj);
+			break;
+		}
+	}
+	
+	/**
+	 * Diese Methode ordnet den Variablen in allen Kindern des angegebenen Knotens einen Platz zu.
+	 * 
+	 * @param pNodeObj	Knoten, dessen Kinder durchlaufen werden sollen.
+	 */
+	private void resolveChildren(Node pNodeObj) {
+		for (int i = 0; i < pNodeObj.getChildAmount(); i++) {
+			resolveNode(pNodeObj.getChild(i));
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package tokenizer;
+
+
+
+/**
+ * Tabelle aller reservierten Woerter (Schluesselwoerter und Wahrheitswerte). Vordefinierte Funktionen sind
+ * keine reservierten Woerter, sondern werden als Bezeichner behandelt (siehe interpreter.BuiltinFunctions).
+ * Die Woerter werden einmalig aus der Klasse "KeywordTypes" uebernommen und nach ihrer Laenge in Buckets
+ * einsortiert. Dadurch muss ein Bezeichner beim Nachschlagen nur mit den wenigen Woertern derselben Laenge
+ * verglichen werden, ohne dass dafuer ein String erzeugt wird.
+ * Um ein neues Wort hinzuzufuegen, muss lediglich eine neue ID sowie ein Eintrag in den Arrays WORDS und
+ * KINDS ergaenzt werden.
+ * 
+ * @version	18.10.2026
+ * 
+ * @author	Christian S
+ */
+public class KeywordTable {
+	// --- IDS DER WOERTER --------------------------------------------------------------------------
+	
+	/**
+	 * Wird zurueckgegeben, wenn es sich um kein reserviertes Wort handelt.
+	 */
+	public static final int NONE = -1;
+	
+	public static final int KEYWORD_VAR = 0;
+	public static final int KEYWORD_SETF = 1;
+	public static final int KEYWORD_PRINT = 2;
+	public static final int KEYWORD_PRINTLN = 3;
+	public static final int KEYWORD_IF = 4;
+	public static final int KEYWORD_WHILE = 5;
+	public static final int KEYWORD_SCAN = 6;
+	public static final int KEYWORD_DEFINE = 7;
+	public static final int KEYWORD_RETURN = 8;
+	public static final int KEYWORD_IMPORT = 9;
+	public static final int BOOLEAN_T = 10;
+	public static final int BOOLEAN_F = 11;
+	
+	
+	
+	// --- TABELLE --------------------------------------------------------------------------
+	
+	/**
+	 * Speichert die Woerter, wobei der Index im Array der ID des Wortes entspricht.
+	 */
+	private static final String[] WORDS = {
+		KeywordTypes.KEYWORD_VAR,
+		KeywordTypes.KEYWORD_SETF,
+		KeywordTypes.KEYWORD_PRINT,
+		KeywordTypes.KEYWORD_PRINTLN,
+		KeywordTypes.KEYWORD_IF,
+		KeywordTypes.KEYWORD_WHILE,
+		KeywordTypes.KEYWORD_SCAN,
+		KeywordTypes.KEYWORD_DEFINE,
+		KeywordTypes.KEYWORD_RETURN,
+		KeywordTypes.KEYWORD_IMPORT,
+		KeywordTypes.BOOLEAN_T,
+		KeywordTypes.BOOLEAN_F
+	};
+	
+	/**
+	 * Speichert die Art des Tokens, welche der Tokenizer fuer das jeweilige Wort erzeugt.
+	 */
+	private static final int[] KINDS = {
+		TokenTypes.KIND_KEYWORD,
+		TokenTypes.KIND_KEYWORD,
+		TokenTypes.KIND_KEYWORD,
+		TokenTypes.KIND_KEYWORD,
+		TokenTypes.KIND_KEYWORD,
+		TokenTypes.KIND_KEYWORD,
+		TokenTypes.KIND_KEYWORD,
+		TokenTypes.KIND_KEYWORD,
+		TokenTypes.KIND_KEYWORD,
+		TokenTypes.KIND_KEYWORD,
+		TokenTypes.KIND_BOOLEAN,
+		TokenTypes.KIND_BOOLEAN
+	};
+	
+	/**
+	 * Speichert fuer jede Wortlaenge die IDs aller Woerter mit dieser Laenge.
+	 */
+	private static final int[][] BUCKETS;
+	
+	static {
+		int nMaxLength = 0; //Speichert die Laenge des laengsten Wortes.
+		for (int i = 0; i < WORDS.length; i++) {
+			nMaxLength = Math.max(nMaxLength, WORDS[i].length());
+		}
+		
+		//Anzahl an Woertern je Laenge herausfinden:
+		int[] nBucketSizes = new int[nMaxLength + 1];
+		for (int i = 0; i < WORDS.length; i++) {
+			nBucketSizes[WORDS[i].length()]++;
+		}
+		
+		//Woerter in die Buckets einsortieren:
+		BUCKETS = new int[nMaxLength + 1][];
+		for (int i = 0; i <= nMaxLength; i++) {
+			BUCKETS[i] = new int[nBucketSizes[i]];
+			nBucketSizes[i] = 0;
+		}
+		for (int i = 0; i < WORDS.length; i++) {
+			int nLength = WORDS[i].length();
+			BUCKETS[nLength][nBucketSizes[nLength]++] = i;
+		}
+	}
+	
+	
+	
+	/**
+	 * Sucht das reservierte Wort, welches sich im angegebenen Bereich befindet. Die Gross- / Kleinschreibung
+	 * wird dabei nicht beachtet.
+	 * 
+	 * @param psText	Text, in welchem sich das Wort befindet.
+	 * @param pnStart	Position des ersten Zeichens des Wortes.
+	 * @param pnEnd		Position nach dem letzten Zeichen des Wortes.
+	 * @return			ID des Wortes, oder NONE, wenn es sich um kein reserviertes Wort handelt.
+	 */
+	public static int lookup(CharSequence psText, int pnStart, int pnEnd) {
+		int nLength = pnEnd - pnStart;
+		if (nLength <= 0 || nLength >= BUCKETS.length) {
+			//Es gibt kein Wort mit dieser Laenge:
+			return NONE;
+		}
+		
+		int[] nCandidates = BUCKETS[nLength];
+		for (int i = 0; i < nCandidates.length; i++) {
+			String sWord = WORDS[nCandidates[i]];
+			int j = 0;
+			while (j < nLength && Character.toLowerCase(psText.charAt(pnStart + j)) == sWord.charAt(j)) {
+				j++;
+			}
+			if (j == nLength) {
+				//Wort gefunden:
+				return nCandidates[i];
+			}
+		}
+		return NONE;
+	}
+	
+	/**
+	 * Sucht das angegebene reservierte Wort.
+	 * 
+	 * @param psWord	Wort, welches gesucht werden soll.
+	 * @return			ID des Wortes, oder NONE, wenn es sich um kein reserviertes Wort handelt.
+	 */
+	public static int lookup(String psWord) {
+		return lookup(psWord, 0, psWord.length());
+	}
+	
+	
+	
+	/**
+	 * Gibt die Art des Tokens zurueck, welche fuer das Wort mit der angegebenen ID erzeugt wird.
+	 * 
+	 * @param pnId	ID des Wortes.
+	 * @return		Art des Tokens (siehe TokenTypes.KIND_...).
+	 */
+	public static int getTokenKind(int pnId) {
+		if (pnId == NONE) {
+			return TokenTypes.KIND_IDENTIFIER;
+		}
+		return KINDS[pnId];
+	}
+}
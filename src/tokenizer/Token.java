@@ -17,12 +17,28 @@ public class Token {
 	private String sValue;
 	
 	/**
-	 * Speichert den Typen des Tokens.
+	 * Speichert die Art des Tokens (siehe TokenTypes.KIND_...).
 	 */
-	private String sType;
+	private int nKind;
+	
+	/**
+	 * Speichert den Wert des Tokens, falls es sich um ein Literal handelt (siehe getLiteral()).
+	 */
+	private Value literalObj;
 	
 	
 	
+	/**
+	 * Konstruktor der Klasse "CToken".
+	 * 
+	 * @param psValue	Inhalt des Tokens.
+	 * @param pnKind	Art des Tokens (siehe TokenTypes.KIND_...).
+	 */
+	public Token(String psValue, int pnKind) {
+		sValue = psValue;
+		nKind = pnKind;
+	}
+	
 	/**
 	 * Konstruktor der Klasse "CToken".
 	 * 
@@ -30,8 +46,7 @@ public class Token {
 	 * @param psType	Typ des Tokens.
 	 */
 	public Token(String psValue, String psType) {
-		sValue = psValue;
-		sType = psType;
+		this(psValue, TokenTypes.getKind(psType));
 	}
 	
 	
@@ -45,12 +60,35 @@ public class Token {
 		return sValue;
 	}
 	
+	/**
+	 * Gibt die Art des Tokens zurueck.
+	 * 
+	 * @return	Art des Tokens (siehe TokenTypes.KIND_...).
+	 */
+	public int getKind() {
+		return nKind;
+	}
+	
 	/**
 	 * Gibt den Typen des Tokens als String zurueck.
 	 * 
 	 * @return	Typ des Tokens.
 	 */
 	public String getType() {
-		return sType;
+		return TokenTypes.getTypeName(nKind);
+	}
+	
+	/**
+	 * Gibt den Wert des Tokens zurueck, wenn es sich um ein Literal (Zahl, String oder Wahrheitswert) handelt.
+	 * Der Wert wird beim ersten Aufruf erzeugt und anschliessend wiederverwendet, sodass eine Zahl im
+	 * Quellcode nur einmal umgewandelt wird.
+	 * 
+	 * @return	Wert des Tokens.
+	 */
+	public Value getLiteral() {
+		if (literalObj == null) {
+			literalObj = new Value(sValue, nKind);
+		}
+		return literalObj;
 	}
 }
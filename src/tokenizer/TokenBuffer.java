@@ -0,0 +1,237 @@
+package tokenizer;
+
+
+
+/**
+ * Speichert die Tokens, welche vom Tokenizer erzeugt wurden. Jeder Token wird lediglich als Eintrag
+ * (Art, Anfang, Ende) in einem int-Array abgespeichert, sodass der Inhalt eines Tokens erst dann als
+ * String erzeugt wird, wenn dieser tatsaechlich benoetigt wird.
+ * 
+ * @version	18.10.2026
+ * 
+ * @author	Christian S
+ */
+public class TokenBuffer {
+	/**
+	 * Speichert die Anzahl an int-Werten, welche fuer einen Token gespeichert werden.
+	 */
+	private static final int RECORD_SIZE = 3;
+	
+	/**
+	 * Speichert die Strings fuer alle ASCII-Zeichen, damit fuer Klammern und Operatoren keine neuen
+	 * Strings erzeugt werden muessen.
+	 */
+	private static final String[] SINGLE_CHARACTERS = new String[128];
+	
+	static {
+		for (int i = 0; i < SINGLE_CHARACTERS.length; i++) {
+			SINGLE_CHARACTERS[i] = String.valueOf((char)i).intern();
+		}
+	}
+	
+	
+	
+	/**
+	 * Speichert den Quellcode, in welchem sich die Tokens befinden.
+	 */
+	private CharSequence sSourceCode;
+	
+	/**
+	 * Speichert die Eintraege der Tokens (Art, Anfang, Ende).
+	 */
+	private int[] nRecords;
+	
+	/**
+	 * Speichert die Anzahl an Tokens.
+	 */
+	private int nSize;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "TokenBuffer".
+	 * 
+	 * @param psSourceCode	Quellcode, in welchem sich die Tokens befinden.
+	 */
+	public TokenBuffer(CharSequence psSourceCode) {
+		sSourceCode = psSourceCode;
+		nRecords = new int[RECORD_SIZE * 16];
+		nSize = 0;
+	}
+	
+	
+	
+	/**
+	 * Fuegt einen neuen Token hinzu.
+	 * 
+	 * @param pnKind	Art des Tokens (siehe TokenTypes.KIND_...).
+	 * @param pnStart	Position des ersten Zeichens des Tokens im Quellcode.
+	 * @param pnEnd		Position nach dem letzten Zeichen des Tokens im Quellcode.
+	 */
+	public void add(int pnKind, int pnStart, int pnEnd) {
+		int nOffset = nSize * RECORD_SIZE; //Speichert die Position des neuen Eintrags im Array.
+		if (nOffset + RECORD_SIZE > nRecords.length) {
+			//Array ist voll -> Groesse verdoppeln:
+			int[] nNewRecords = new int[nRecords.length * 2];
+			System.arraycopy(nRecords, 0, nNewRecords, 0, nOffset);
+			nRecords = nNewRecords;
+		}
+		nRecords[nOffset] = pnKind;
+		nRecords[nOffset + 1] = pnStart;
+		nRecords[nOffset + 2] = pnEnd;
+		nSize++;
+	}
+	
+	
+	
+	/**
+	 * Gibt die Anzahl an Tokens zurueck.
+	 * 
+	 * @return	Anzahl an Tokens.
+	 */
+	public int size() {
+		return nSize;
+	}
+	
+	/**
+	 * Gibt den Quellcode zurueck, in welchem sich die Tokens befinden.
+	 * 
+	 * @return	Quellcode.
+	 */
+	public CharSequence getSourceCode() {
+		return sSourceCode;
+	}
+	
+	/**
+	 * Gibt die Art des Tokens an der angegebenen Stelle zurueck.
+	 * 
+	 * @param pnIndex	Index des Tokens.
+	 * @return			Art des Tokens (siehe TokenTypes.KIND_...).
+	 */
+	public int getKind(int pnIndex) {
+		return nRecords[pnIndex * RECORD_SIZE];
+	}
+	
+	/**
+	 * Gibt die Position des ersten Zeichens des Tokens an der angegebenen Stelle zurueck.
+	 * 
+	 * @param pnIndex	Index des Tokens.
+	 * @return			Position im Quellcode.
+	 */
+	public int getStart(int pnIndex) {
+		return nRecords[pnIndex * RECORD_SIZE + 1];
+	}
+	
+	/**
+	 * Gibt die Position nach dem letzten Zeichen des Tokens an der angegebenen Stelle zurueck.
+	 * 
+	 * @param pnIndex	Index des Tokens.
+	 * @return			Position im Quellcode.
+	 */
+	public int getEnd(int pnIndex) {
+		return nRecords[pnIndex * RECORD_SIZE + 2];
+	}
+	
+	/**
+	 * Erzeugt den Inhalt des Tokens an der angegebenen Stelle als String. Bezeichner, Schluesselwoerter und
+	 * Booleans werden dabei in Kleinbuchstaben umgewandelt und internalisiert, sodass gleiche Bezeichner
+	 * auf denselben String verweisen.
+	 * 
+	 * @param pnIndex	Index des Tokens.
+	 * @return			Inhalt des Tokens.
+	 */
+	public String getText(int pnIndex) {
+		int nKind = getKind(pnIndex);
+		int nStart = getStart(pnIndex);
+		int nEnd = getEnd(pnIndex);
+		
+		if (nEnd - nStart == 1 && nKind != TokenTypes.KIND_STRING) {
+			//Token besteht aus einem einzelnen Zeichen:
+			char chCharacter = Character.toLowerCase(sSourceCode.charAt(nStart));
+			if (chCharacter < SINGLE_CHARACTERS.length) {
+				return SINGLE_CHARACTERS[chCharacter];
+			}
+		}
+		
+		if (nKind == TokenTypes.KIND_STRING) {
+			//Tabulatoren und Zeilenumbrueche sind nicht Teil eines Strings:
+			return getStringText(nStart, nEnd);
+		}
+		
+		String sText = sSourceCode.subSequence(nStart, nEnd).toString(); //Speichert den Inhalt des Tokens.
+		if (nKind == TokenTypes.KIND_IDENTIFIER || nKind == TokenTypes.KIND_KEYWORD || nKind == TokenTypes.KIND_BOOLEAN) {
+			//-> Damit Gross- / Kleinschreibung nicht "wichtig" ist:
+			sText = sText.toLowerCase().intern();
+		}
+		return sText;
+	}
+	
+	/**
+	 * Erzeugt den Inhalt eines Strings aus dem angegebenen Bereich. Tabulatoren und Zeilenumbrueche werden
+	 * dabei entfernt, sodass ein String, welcher ueber mehrere Zeilen geht, in einer Zeile ausgegeben wird.
+	 * 
+	 * @param pnStart	Position des ersten Zeichens des Strings.
+	 * @param pnEnd		Position nach dem letzten Zeichen des Strings.
+	 * @return			Inhalt des Strings.
+	 */
+	private String getStringText(int pnStart, int pnEnd) {
+		StringBuilder sTextBuilder = null; //Speichert den bereinigten Inhalt, sobald ein Zeichen entfernt werden muss.
+		for (int i = pnStart; i < pnEnd; i++) {
+			char chCharacter = sSourceCode.charAt(i);
+			if (chCharacter == '\t' || chCharacter == '\r' || chCharacter == '\n') {
+				if (sTextBuilder == null) {
+					sTextBuilder = new StringBuilder(pnEnd - pnStart);
+					sTextBuilder.append(sSourceCode, pnStart, i);
+				}
+			}
+			else if (sTextBuilder != null) {
+				sTextBuilder.append(chCharacter);
+			}
+		}
+		return sTextBuilder != null ? sTextBuilder.toString() : sSourceCode.subSequence(pnStart, pnEnd).toString();
+	}
+	
+	/**
+	 * Erzeugt einen Token fuer den Eintrag an der angegebenen Stelle.
+	 * 
+	 * @param pnIndex	Index des Tokens.
+	 * @return			Token.
+	 */
+	public Token getToken(int pnIndex) {
+		return new Token(getText(pnIndex), getKind(pnIndex));
+	}
+	
+	/**
+	 * Vergleicht den Inhalt des Tokens an der angegebenen Stelle mit dem angegebenen Text, ohne den Inhalt als
+	 * String zu erzeugen. Bei Bezeichnern, Schluesselwoertern und Booleans wird die Gross- / Kleinschreibung
+	 * (wie bei getText()) nicht beachtet.
+	 * 
+	 * @param pnIndex	Index des Tokens.
+	 * @param psText	Text, mit welchem der Inhalt verglichen werden soll (in Kleinbuchstaben).
+	 * @return			Gibt an, ob der Inhalt des Tokens dem Text entspricht.
+	 */
+	public boolean textEquals(int pnIndex, String psText) {
+		int nKind = getKind(pnIndex);
+		if (nKind == TokenTypes.KIND_STRING) {
+			//Strings koennen Zeichen enthalten, welche nicht zum Inhalt gehoeren:
+			return getText(pnIndex).equals(psText);
+		}
+		int nStart = getStart(pnIndex);
+		if (getEnd(pnIndex) - nStart != psText.length()) {
+			//Der Inhalt hat eine andere Laenge:
+			return false;
+		}
+		
+		boolean bIgnoreCase = nKind == TokenTypes.KIND_IDENTIFIER || nKind == TokenTypes.KIND_KEYWORD || nKind == TokenTypes.KIND_BOOLEAN;
+		for (int i = 0; i < psText.length(); i++) {
+			char chCharacter = sSourceCode.charAt(nStart + i);
+			if (bIgnoreCase) {
+				chCharacter = Character.toLowerCase(chCharacter);
+			}
+			if (chCharacter != psText.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -59,4 +59,112 @@ public class TokenTypes {
 	 * Speichert den Token-Typ fuer den "."-Operator.
 	 */
 	static public String TOKEN_OPERATOR_DOT = "operator_dot";
+	
+	
+	
+	/**
+	 * Speichert die Art fuer Tokens, welche (noch) keinen Typen besitzen.
+	 */
+	public static final int KIND_NONE = -1;
+	
+	/**
+	 * Speichert die Art eines Tokens als Zahl fuer Bezeichner. Die Arten werden vom Tokenizer verwendet, um
+	 * Tokens ohne Strings in einem int-Array abzuspeichern.
+	 */
+	public static final int KIND_IDENTIFIER = 0;
+	
+	/**
+	 * Speichert die Art eines Tokens als Zahl fuer Strings.
+	 */
+	public static final int KIND_STRING = 1;
+	
+	/**
+	 * Speichert die Art eines Tokens als Zahl fuer Zahlen.
+	 */
+	public static final int KIND_NUMBER = 2;
+	
+	/**
+	 * Speichert die Art eines Tokens als Zahl fuer geoeffnete Klammern.
+	 */
+	public static final int KIND_BRACKET_OPENED = 3;
+	
+	/**
+	 * Speichert die Art eines Tokens als Zahl fuer geschlossene Klammern.
+	 */
+	public static final int KIND_BRACKET_CLOSED = 4;
+	
+	/**
+	 * Speichert die Art eines Tokens als Zahl fuer Operatoren.
+	 */
+	public static final int KIND_OPERATOR = 5;
+	
+	/**
+	 * Speichert die Art eines Tokens als Zahl fuer Schluesselwoerter.
+	 */
+	public static final int KIND_KEYWORD = 6;
+	
+	/**
+	 * Speichert die Art eines Tokens als Zahl fuer Booleans.
+	 */
+	public static final int KIND_BOOLEAN = 7;
+	
+	/**
+	 * Speichert die Art eines Tokens als Zahl fuer boolesche Operatoren.
+	 */
+	public static final int KIND_OPERATOR_BOOLEAN = 8;
+	
+	/**
+	 * Speichert die Art eines Tokens als Zahl fuer den "."-Operator.
+	 */
+	public static final int KIND_OPERATOR_DOT = 9;
+	
+	
+	
+	/**
+	 * Gibt den Token-Typen als String zurueck, welcher zu der angegebenen Art gehoert.
+	 * 
+	 * @param pnKind	Art des Tokens als Zahl.
+	 * @return			Typ des Tokens als String.
+	 */
+	public static String getTypeName(int pnKind) {
+		switch (pnKind) {
+		case KIND_IDENTIFIER:
+			return TOKEN_IDENTIFIER;
+		case KIND_STRING:
+			return TOKEN_STRING;
+		case KIND_NUMBER:
+			return TOKEN_NUMBER;
+		case KIND_BRACKET_OPENED:
+			return TOKEN_BRACKET_OPENED;
+		case KIND_BRACKET_CLOSED:
+			return TOKEN_BRACKET_CLOSED;
+		case KIND_OPERATOR:
+			return TOKEN_OPERATOR;
+		case KIND_KEYWORD:
+			return TOKEN_KEYWORD;
+		case KIND_BOOLEAN:
+			return TOKEN_BOOLEAN;
+		case KIND_OPERATOR_BOOLEAN:
+			return TOKEN_OPERATOR_BOOLEAN;
+		case KIND_OPERATOR_DOT:
+			return TOKEN_OPERATOR_DOT;
+		default:
+			return null;
+		}
+	}
+	
+	/**
+	 * Gibt die Art als Zahl zurueck, welche zu dem angegebenen Token-Typen gehoert.
+	 * 
+	 * @param psType	Typ des Tokens als String.
+	 * @return			Art des Tokens als Zahl, oder KIND_NONE, wenn der Typ unbekannt ist.
+	 */
+	public static int getKind(String psType) {
+		for (int i = KIND_IDENTIFIER; i <= KIND_OPERATOR_DOT; i++) {
+			if (getTypeName(i).equals(psType)) {
+				return i;
+			}
+		}
+		return KIND_NONE;
+	}
 }
@@ -1,11 +1,13 @@
 package tokenizer;
 
-import java.util.LinkedList;
-
 
 
 /**
  * Tokenizer fuer den Lisp-Interpreter.
+ * Der Quellcode wird genau einmal durchlaufen. Fuer jeden Token wird dabei lediglich die Art sowie der
+ * Bereich im Quellcode in einem TokenBuffer gespeichert, sodass waehrend des Zerlegens keine Strings
+ * erzeugt werden. Tabulatoren und Zeilenumbrueche trennen Tokens wie Leerzeichen, Kommentare werden bis
+ * zum Zeilenumbruch uebersprungen.
  * 
  * @version	06.01.2021
  * @author	Christian S
@@ -14,269 +16,137 @@ public class Tokenizer {
 	/**
 	 * Speichert die Tokens.
 	 */
-	private LinkedList<Token> lTokens;
+	private TokenBuffer tokensObj;
 	
 	/**
 	 * Speichert den Quellcode, welcher zerlegt werden soll.
 	 */
-	private String sSourceCode;
-	
-	
+	private CharSequence sSourceCode;
 	
 	/**
-	 * Findet die geoeffnete Klammer im Quellcode heraus und fuegt diese der Liste an Tokens hinzu.
-	 * 
-	 * @param pnCurrent		Position im Quellcode, an welcher sich die geoeffnete Klammer befindet beginnt.
-	 * 
-	 * @return				Position, an welcher die geoeffnete Klammer endet.
+	 * Speichert die Laenge des Quellcodes.
 	 */
-	private int tokenizeBracketOpened(int pnPosition) {
-		Token currentTokenObj = new Token(String.valueOf(sSourceCode.charAt(pnPosition)), TokenTypes.TOKEN_BRACKET_OPENED);
-		lTokens.add(currentTokenObj);
-		return pnPosition;
-	}
+	private int nLength;
+	
+	
 	
 	/**
-	 * Findet die geschlossene Klammer im Quellcode heraus und fuegt diese der Liste an Tokens hinzu.
+	 * Ueberprueft, ob es sich bei dem Zeichen um eine Ziffer handelt.
 	 * 
-	 * @param pnCurrent		Position im Quellcode, an welcher sich die geschlossene Klammer befindet beginnt.
-	 * 
-	 * @return				Position, an welcher die geschlossene Klammer endet.
+	 * @param pchCharacter	Zeichen, welches ueberprueft werden soll.
+	 * @return				Gibt an, ob es sich um eine Ziffer handelt.
 	 */
-	private int tokenizeBracketClosed(int pnPosition) {
-		Token currentTokenObj = new Token(String.valueOf(sSourceCode.charAt(pnPosition)), TokenTypes.TOKEN_BRACKET_CLOSED);
-		lTokens.add(currentTokenObj);
-		return pnPosition;
+	private static boolean isDigit(char pchCharacter) {
+		return pchCharacter >= 48 && pchCharacter <= 57;
 	}
 	
+	
+	
 	/**
 	 * Findet den Operator im Quellcode heraus und fuegt diese der Liste an Tokens hinzu.
 	 * 
-	 * @param pnCurrent		Position im Quellcode, an welcher sich der Operator befindet beginnt.
-	 * 
-	 * @return				Position, an welcher der Operator endet.
+	 * @param pnPosition	Position im Quellcode, an welcher der Operator beginnt.
+	 * @return				Position nach dem Operator.
 	 */
 	private int tokenizeOperator(int pnPosition) {
-		if (sSourceCode.charAt(pnPosition) =='-') {
-			//Bei dem Zeichen handelt es sich um ein Minus:
-			if (sSourceCode.charAt(pnPosition + 1) >= 48 && sSourceCode.charAt(pnPosition + 1) <= 57) {
-				//Bei dem naechsten Zeichen im Quellcode handelt es sich um eine Ziffer einer Zahl. Das Minus ist kein
-				//Operator, sondern ein vorzeichen:
-				return tokenizeNumber(pnPosition);
-			}
-			
+		if (sSourceCode.charAt(pnPosition) == '-' && pnPosition + 1 < nLength && isDigit(sSourceCode.charAt(pnPosition + 1))) {
+			//Bei dem naechsten Zeichen im Quellcode handelt es sich um eine Ziffer einer Zahl. Das Minus ist kein
+			//Operator, sondern ein vorzeichen:
+			return tokenizeNumber(pnPosition);
 		}
 		
-		Token currentTokenObj = new Token(String.valueOf(sSourceCode.charAt(pnPosition)), TokenTypes.TOKEN_OPERATOR);
-		lTokens.add(currentTokenObj);
-		return pnPosition;
+		tokensObj.add(TokenTypes.KIND_OPERATOR, pnPosition, pnPosition + 1);
+		return pnPosition + 1;
 	}
 	
 	/**
-	 * Findet den Operator im Quellcode heraus und fuegt diese der Liste an Tokens hinzu.
+	 * Findet den booleschen Operator im Quellcode heraus und fuegt diese der Liste an Tokens hinzu.
 	 * 
-	 * @param pnCurrent		Position im Quellcode, an welcher sich der Operator befindet beginnt.
-	 * 
-	 * @return				Position, an welcher der Operator endet.
+	 * @param pnPosition	Position im Quellcode, an welcher der Operator beginnt.
+	 * @return				Position nach dem Operator.
 	 */
 	private int tokenizeOperatorBoolean(int pnPosition) {
-		if (sSourceCode.length() > pnPosition + 1) {
-			if ((sSourceCode.charAt(pnPosition) == '<' || sSourceCode.charAt(pnPosition) == '>') && sSourceCode.charAt(pnPosition + 1) == '=') {
-				//Groesser- bzw. kleiner-als Operator gefunden:
-				String sTokenValue = String.valueOf(sSourceCode.charAt(pnPosition)) + sSourceCode.charAt(pnPosition + 1);
-				lTokens.add(new Token(sTokenValue, TokenTypes.TOKEN_OPERATOR_BOOLEAN));
-				return pnPosition + 1;
-			}
-		}
-		Token currentTokenObj = new Token(String.valueOf(sSourceCode.charAt(pnPosition)), TokenTypes.TOKEN_OPERATOR_BOOLEAN);
-		lTokens.add(currentTokenObj);
-		return pnPosition;
+		char chCurrentCharacter = sSourceCode.charAt(pnPosition);
+		if ((chCurrentCharacter == '<' || chCurrentCharacter == '>') && pnPosition + 1 < nLength && sSourceCode.charAt(pnPosition + 1) == '=') {
+			//Groesser- bzw. kleiner-gleich Operator gefunden:
+			tokensObj.add(TokenTypes.KIND_OPERATOR_BOOLEAN, pnPosition, pnPosition + 2);
+			return pnPosition + 2;
+		}
+		tokensObj.add(TokenTypes.KIND_OPERATOR_BOOLEAN, pnPosition, pnPosition + 1);
+		return pnPosition + 1;
 	}
 	
 	/**
 	 * Findet die Zahl im Quellcode heraus und fuegt diese der Liste an Tokens hinzu.
 	 * 
-	 * @param pnCurrent		Position im Quellcode, an welcher sich die Zahl befindet beginnt.
-	 * 
-	 * @return				Position, an welcher die Zahl endet.
+	 * @param pnPosition	Position im Quellcode, an welcher die Zahl beginnt.
+	 * @return				Position nach der Zahl.
 	 */
 	private int tokenizeNumber(int pnPosition) {
-		String sNumber = ""; //Speichert die Zahl als String.
 		boolean bFoundComma = false; //Speichert, ob bereits ein Komma gefunden wurde.
+		int i = pnPosition;
+		if (sSourceCode.charAt(i) == '-') {
+			//Es handelt sich um ein Minuszeichen an erster Stelle der Zahl (Vorzeichen):
+			i++;
+		}
 		
 		//Quellcode Zeichenweise durchlaufen:
-		for (int i = pnPosition; i < sSourceCode.length(); i++) {
+		for (; i < nLength; i++) {
 			char chCurrentCharacter = sSourceCode.charAt(i);
-			
-			if (chCurrentCharacter == '-' && i == pnPosition) {
-				//Es handelt sich um ein Minuszeichen an erster Stelle der Zahl (Vorzeichen):
-				sNumber += chCurrentCharacter;
+			if (chCurrentCharacter == '.' && !bFoundComma) {
+				//Es handelt sich um das erste Kommazeichen:
+				bFoundComma = true;
 			}
-			else if (chCurrentCharacter >= 48 && chCurrentCharacter <= 57) {
-				//Es handelt sich um eine Ziffer der Zahl:
-				sNumber += chCurrentCharacter;
-			}
-			else if (chCurrentCharacter == 46) {
-				//Es handelt sich um ein Kommazeichen:
-				if (bFoundComma) {
-					//Es wurde bereits zuvor ein Komma gefunden:
-					lTokens.add(new Token(sNumber, TokenTypes.TOKEN_NUMBER));
-					return i - 1;
-				}
-				else {
-					//Es wurde noch kein Komma gefunden:
-					sNumber += chCurrentCharacter;
-					bFoundComma = true;
-				}
-			}
-			else {
+			else if (!isDigit(chCurrentCharacter)) {
 				//Ende der Zahl:
-				lTokens.add(new Token(sNumber, TokenTypes.TOKEN_NUMBER));
-				return i - 1;
+				break;
 			}
 		}
 		
-		lTokens.add(new Token(sNumber, TokenTypes.TOKEN_NUMBER));
-		return sSourceCode.length();
+		tokensObj.add(TokenTypes.KIND_NUMBER, pnPosition, i);
+		return i;
 	}
 	
 	/**
 	 * Findet den Bezeichner im Quellcode heraus und fuegt diesen der Liste an Tokens hinzu.
 	 * 
-	 * @param pnCurrent		Position im Quellcode, an welcher sich der Bezeichner befindet beginnt.
-	 * 
-	 * @return				Position, an welcher der Bezeichner endet.
+	 * @param pnPosition	Position im Quellcode, an welcher der Bezeichner beginnt.
+	 * @return				Position nach dem Bezeichner.
 	 */
 	private int tokenizeIdentifier(int pnPosition) {
-		String sIdentifier = ""; //Speichert den Bezeichner.
+		int i = pnPosition;
 		
 		//Quellcode Zeichenweise durchlaufen:
-		for (int i = pnPosition; i < sSourceCode.length(); i++) {
+		for (; i < nLength; i++) {
 			char chCurrentCharacter = sSourceCode.charAt(i); //Aktuelles Zeichen des Bezeichners.
-			
-			if (chCurrentCharacter == '(' || chCurrentCharacter == ')' || chCurrentCharacter == ' ' || chCurrentCharacter == ';') {
+			if (chCurrentCharacter == '(' || chCurrentCharacter == ')' || chCurrentCharacter == ' ' || chCurrentCharacter == ';' || chCurrentCharacter == '\t' || chCurrentCharacter == '\r' || chCurrentCharacter == '\n') {
 				//Ende des Bezeichners:
-				sIdentifier = sIdentifier.toLowerCase(); //-> Damit Gross- / Kleinschreibung nicht "wichtig" ist.
-				Token currentTokenObj;
-				//Ueberpruefen, ob es sich beim aktuellen Bezeichner um ein Schluesselwort handelt:
-				if (sIdentifier.equals(KeywordTypes.KEYWORD_VAR)) {
-					currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-				}
-				else if (sIdentifier.equals(KeywordTypes.KEYWORD_SETF)) {
-					currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-				}
-				else if (sIdentifier.equals(KeywordTypes.KEYWORD_PRINT)) {
-					currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-				}
-				else if (sIdentifier.equals(KeywordTypes.KEYWORD_PRINTLN)) {
-					currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-				}
-				else if (sIdentifier.equals(KeywordTypes.KEYWORD_IF)) {
-					currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-				}
-				else if (sIdentifier.equals(KeywordTypes.KEYWORD_WHILE)) {
-					currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-				}
-				else if (sIdentifier.equals(KeywordTypes.KEYWORD_SCAN)) {
-					currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-				}
-				else if (sIdentifier.equals(KeywordTypes.KEYWORD_DEFINE)) {
-					currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-				}
-				else if (sIdentifier.equals(KeywordTypes.KEYWORD_RETURN)) {
-					currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-				}
-				else if (sIdentifier.equals(KeywordTypes.KEYWORD_IMPORT)) {
-					currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-				}
-				else if (sIdentifier.equals(KeywordTypes.BOOLEAN_T)) {
-					currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_BOOLEAN);
-				}
-				else if (sIdentifier.equals(KeywordTypes.BOOLEAN_F)) {
-					currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_BOOLEAN);
-				}
-				else {
-					//Es handelt sich nicht um ein Schluesselwort:
-					currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_IDENTIFIER);
-				}
-				lTokens.add(currentTokenObj);
-				return i - 1;
+				break;
 			}
-			
-			sIdentifier += chCurrentCharacter;
 		}
 		
-		Token currentTokenObj;
-		sIdentifier = sIdentifier.toLowerCase(); //-> Damit Gross- / Kleinschreibung nicht "wichtig" ist.
-		//Ueberpruefen, ob es sich beim aktuellen Bezeichner um ein Schluesselwort handelt:
-		if (sIdentifier.equals(KeywordTypes.KEYWORD_VAR)) {
-			currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-		}
-		else if (sIdentifier.equals(KeywordTypes.KEYWORD_SETF)) {
-			currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-		}
-		else if (sIdentifier.equals(KeywordTypes.KEYWORD_PRINT)) {
-			currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-		}
-		else if (sIdentifier.equals(KeywordTypes.KEYWORD_PRINTLN)) {
-			currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-		}
-		else if (sIdentifier.equals(KeywordTypes.KEYWORD_IF)) {
-			currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-		}
-		else if (sIdentifier.equals(KeywordTypes.KEYWORD_WHILE)) {
-			currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-		}
-		else if (sIdentifier.equals(KeywordTypes.KEYWORD_SCAN)) {
-			currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-		}
-		else if (sIdentifier.equals(KeywordTypes.KEYWORD_DEFINE)) {
-			currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-		}
-		else if (sIdentifier.equals(KeywordTypes.KEYWORD_RETURN)) {
-			currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-		}
-		else if (sIdentifier.equals(KeywordTypes.KEYWORD_IMPORT)) {
-			currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_KEYWORD);
-		}
-		else if (sIdentifier.equals(KeywordTypes.BOOLEAN_T)) {
-			currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_BOOLEAN);
-		}
-		else if (sIdentifier.equals(KeywordTypes.BOOLEAN_F)) {
-			currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_BOOLEAN);
-		}
-		else {
-			//Es handelt sich nicht um ein Schluesselwort:
-			currentTokenObj = new Token(sIdentifier, TokenTypes.TOKEN_IDENTIFIER);
-		}
-		lTokens.add(currentTokenObj);
-		return sSourceCode.length();
+		tokensObj.add(KeywordTable.getTokenKind(KeywordTable.lookup(sSourceCode, pnPosition, i)), pnPosition, i);
+		return i;
 	}
 	
 	/**
-	 * Findet den String im Quellcode heraus und fuegt diesen der Liste an Tokens hinzu.
-	 * 
-	 * @param pnCurrent		Position im Quellcode, an welcher der String beginnt.
+	 * Findet den String im Quellcode heraus und fuegt diesen der Liste an Tokens hinzu. Der Token umfasst
+	 * dabei nur den Inhalt des Strings, ohne Anfuehrungszeichen.
 	 * 
-	 * @return				Position, an welcher der String endet.
+	 * @param pnPosition	Position im Quellcode, an welcher der String beginnt.
+	 * @return				Position nach dem String.
 	 */
 	private int tokenizeString(int pnPosition) {
-		String sString = "" + sSourceCode.charAt(pnPosition); //Speichert den String, inklusive Anfuehrungszeichen.
-		
-		//Restlcihen String herausfinden:
-		for (int i = pnPosition + 1; i < sSourceCode.length(); i++) {
-			char chCurrentCharacter = sSourceCode.charAt(i); //Speichert das aktuelle Zeichen im String.
-			sString += chCurrentCharacter;
-			
-			if (chCurrentCharacter == '\"' && sSourceCode.charAt(i - 1) != '\\') {
+		//Restlichen String herausfinden:
+		for (int i = pnPosition + 1; i < nLength; i++) {
+			if (sSourceCode.charAt(i) == '\"' && sSourceCode.charAt(i - 1) != '\\') {
 				//Ende des Strings:
-				Token currentTokenObj = new Token(sString.substring(1, sString.length() - 1), TokenTypes.TOKEN_STRING); //Neuen Token erstellen.
-				lTokens.add(currentTokenObj);
-				return i;
+				tokensObj.add(TokenTypes.KIND_STRING, pnPosition + 1, i);
+				return i + 1;
 			}
 		}
 		
-		return sSourceCode.length();
+		return nLength;
 	}
 	
 	
@@ -285,44 +155,51 @@ public class Tokenizer {
 	 * Standartkonstruktor der Klasse "CTokenizer".
 	 */
 	public Tokenizer() {
-		lTokens = new LinkedList<Token>();
+		tokensObj = null;
 	}
 	
 	
 	
 	/**
-	 * Zerlegt den Quellcode in Tokens.
+	 * Zerlegt den Quellcode in Tokens. Die Tokens werden lediglich als Bereiche im Quellcode gespeichert und
+	 * erst vom Parser (bzw. bei Bedarf) als Token erzeugt.
 	 * 
-	 * @param psSourceCode	Quellcode, welcher zerlegt werden soll
-	 * @return				Liste an Tokens.
+	 * @param psSourceCode	Quellcode, welcher zerlegt werden soll.
+	 * @return				Zerlegte Tokens.
 	 */
-	public LinkedList<Token> tokenize(String psSourceCode) {
-		lTokens.clear();
+	public TokenBuffer tokenize(CharSequence psSourceCode) {
+		tokensObj = new TokenBuffer(psSourceCode);
 		sSourceCode = psSourceCode;
+		nLength = psSourceCode.length();
 		
 		//Quellcode Zeichenweise durchlaufen:
-		for (int i = 0; i < sSourceCode.length(); i++) {
+		int i = 0;
+		while (i < nLength) {
 			char chCurrentCharacter = sSourceCode.charAt(i); //Speichert das aktuelle Zeichen im Quellcode.
 			
 			//Aktuelles Zeichen verarbeiten.
 			if (chCurrentCharacter == '(') {
 				//Geoeffnete Klammer:
-				i = tokenizeBracketOpened(i);
+				tokensObj.add(TokenTypes.KIND_BRACKET_OPENED, i, i + 1);
+				i++;
 			}
 			
 			else if (chCurrentCharacter == ')') {
 				//Geschlossene Klammer:
-				i = tokenizeBracketClosed(i);
+				tokensObj.add(TokenTypes.KIND_BRACKET_CLOSED, i, i + 1);
+				i++;
 			}
 			
-			else if (chCurrentCharacter == ' ') {
-				//Leerzeichen -> naechster Token:
-				continue;
+			else if (chCurrentCharacter == ' ' || chCurrentCharacter == '\t' || chCurrentCharacter == '\r' || chCurrentCharacter == '\n') {
+				//Leerzeichen, Tabulator oder Zeilenumbruch -> naechster Token:
+				i++;
 			}
 			
 			else if (chCurrentCharacter == ';') {
-				//Kommentar -> Methode beenden:
-				return lTokens;
+				//Kommentar -> bis zum Zeilenumbruch ueberspringen:
+				while (i < nLength && sSourceCode.charAt(i) != '\n') {
+					i++;
+				}
 			}
 			
 			else if (chCurrentCharacter == '+' || chCurrentCharacter == '-' || chCurrentCharacter == '*' || chCurrentCharacter == '/' || chCurrentCharacter == KeywordTypes.OPERATOR_MODULO.charAt(0)) {
@@ -340,7 +217,7 @@ public class Tokenizer {
 				i = tokenizeString(i);
 			}
 			
-			else if (chCurrentCharacter >= 48 && chCurrentCharacter <= 57) {
+			else if (isDigit(chCurrentCharacter)) {
 				//Zahl:
 				i = tokenizeNumber(i);
 			}
@@ -351,6 +228,9 @@ public class Tokenizer {
 			}
 		}
 		
-		return lTokens;
+		TokenBuffer resultObj = tokensObj;
+		tokensObj = null;
+		sSourceCode = null;
+		return resultObj;
 	}
 }
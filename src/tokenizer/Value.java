@@ -0,0 +1,132 @@
+package tokenizer;
+
+
+
+/**
+ * Stellt einen Wert in Lisp dar (Zahl, String oder Wahrheitswert). Im Gegensatz zu einem Token wird
+ * eine Zahl dabei direkt als double gespeichert, sodass bei Rechnungen keine Strings umgewandelt werden
+ * muessen. Die Darstellung als String wird erst erzeugt, wenn diese benoetigt wird (z.B. bei einer
+ * Ausgabe), und anschliessend gespeichert.
+ * Wird ein Wert aus einem String erzeugt (z.B. aus einem Token), so bleibt dieser String als Darstellung
+ * erhalten und die Zahl wird erst bei der ersten Rechnung umgewandelt.
+ * 
+ * @version	18.10.2026
+ * 
+ * @author	Christian S
+ */
+public class Value {
+	/**
+	 * Speichert die Art des Wertes (siehe TokenTypes.KIND_...).
+	 */
+	private int nKind;
+	
+	/**
+	 * Speichert den Wert, wenn es sich um eine Zahl handelt.
+	 */
+	private double nNumber;
+	
+	/**
+	 * Gibt an, ob nNumber bereits gueltig ist.
+	 */
+	private boolean bNumberValid;
+	
+	/**
+	 * Speichert den Wert, wenn es sich um einen Wahrheitswert handelt.
+	 */
+	private boolean bBoolean;
+	
+	/**
+	 * Speichert die Darstellung des Wertes als String (bzw. den Inhalt eines Strings), oder null, wenn
+	 * diese noch nicht erzeugt wurde.
+	 */
+	private String sText;
+	
+	
+	
+	/**
+	 * Konstruktor der Klasse "Value".
+	 * Erzeugt eine Zahl.
+	 * 
+	 * @param pnNumber	Zahl.
+	 */
+	public Value(double pnNumber) {
+		nKind = TokenTypes.KIND_NUMBER;
+		nNumber = pnNumber;
+		bNumberValid = true;
+	}
+	
+	/**
+	 * Konstruktor der Klasse "Value".
+	 * Erzeugt einen Wahrheitswert.
+	 * 
+	 * @param pbBoolean	Wahrheitswert.
+	 */
+	public Value(boolean pbBoolean) {
+		nKind = TokenTypes.KIND_BOOLEAN;
+		bBoolean = pbBoolean;
+		sText = pbBoolean ? KeywordTypes.BOOLEAN_T : KeywordTypes.BOOLEAN_F;
+	}
+	
+	/**
+	 * Konstruktor der Klasse "Value".
+	 * Erzeugt einen Wert aus seiner Darstellung als String.
+	 * 
+	 * @param psText	Darstellung des Wertes als String.
+	 * @param pnKind	Art des Wertes (siehe TokenTypes.KIND_...).
+	 */
+	public Value(String psText, int pnKind) {
+		nKind = pnKind;
+		sText = psText;
+		if (pnKind == TokenTypes.KIND_BOOLEAN) {
+			bBoolean = psText.equals(KeywordTypes.BOOLEAN_T);
+		}
+	}
+	
+	
+	
+	/**
+	 * Gibt die Art des Wertes zurueck.
+	 * 
+	 * @return	Art (siehe TokenTypes.KIND_...).
+	 */
+	public int getKind() {
+		return nKind;
+	}
+	
+	/**
+	 * Gibt den Wert als Zahl zurueck. Die Methode darf nur fuer Zahlen aufgerufen werden.
+	 * 
+	 * @return	Zahl.
+	 * @throws NumberFormatException	Die Darstellung des Wertes ist keine Zahl.
+	 */
+	public double getNumber() {
+		if (!bNumberValid) {
+			//Zahl wird beim ersten Zugriff umgewandelt:
+			nNumber = Double.parseDouble(sText);
+			bNumberValid = true;
+		}
+		return nNumber;
+	}
+	
+	/**
+	 * Gibt den Wert als Wahrheitswert zurueck. Die Methode darf nur fuer Wahrheitswerte aufgerufen werden.
+	 * 
+	 * @return	Wahrheitswert.
+	 */
+	public boolean getBoolean() {
+		return bBoolean;
+	}
+	
+	/**
+	 * Gibt die Darstellung des Wertes als String zurueck.
+	 * 
+	 * @return	Wert als String.
+	 */
+	public String getText() {
+		if (sText == null) {
+			//Darstellung wird beim ersten Zugriff erzeugt:
+			sText = String.valueOf(nNumber);
+		}
+		return sText;
+	}
+}